@@ -0,0 +1,210 @@
+package wingman.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import wingman.commons.fp.Lazy;
+import wingman.model.ItemManager;
+import wingman.model.ModelManager;
+import wingman.model.ReadOnlyItemManager;
+import wingman.model.UserPrefs;
+import wingman.model.crew.Crew;
+import wingman.model.crew.CrewRank;
+import wingman.model.crew.FlightCrewType;
+import wingman.model.flight.Flight;
+import wingman.model.item.Item;
+import wingman.model.link.Link;
+import wingman.model.link.exceptions.LinkException;
+import wingman.model.location.CrewLocationType;
+import wingman.model.location.FlightLocationType;
+import wingman.model.location.Location;
+import wingman.model.location.PilotLocationType;
+import wingman.model.location.PlaneLocationType;
+import wingman.model.pilot.FlightPilotType;
+import wingman.model.pilot.Gender;
+import wingman.model.pilot.Pilot;
+import wingman.model.pilot.PilotRank;
+import wingman.model.plane.FlightPlaneType;
+import wingman.model.plane.Plane;
+
+/**
+ * Generates synthetic datasets for the benchmarks. Every manager holds the
+ * same number of items, and the links are as dense as in a real schedule:
+ * every flight has both of its pilots, a full cabin crew, a plane and two
+ * locations, and every pilot, crew member and plane is based at a location.
+ * <p>
+ * The links resolve against the managers of the dataset directly, so the
+ * dataset does not need to be registered with {@code GetUtil}. The same
+ * size and seed always produce the same dataset.
+ */
+public class DatasetGenerator {
+    /**
+     * The number of crew members in the cabin crew of a flight.
+     */
+    public static final int CREW_PER_FLIGHT = 8;
+
+    private static final String[] NAMES = {
+        "Amy", "Bob", "Chen", "Dana", "Eli", "Fatimah", "Gus", "Hana",
+        "Ivan", "Jia", "Kumar", "Lena", "Mei", "Nur", "Omar", "Priya"
+    };
+
+    private static final String[] PLANE_MODELS = {
+        "A320", "A330", "A350", "A380", "B737", "B777", "B787"
+    };
+
+    private static final String[] CITIES = {
+        "Singapore", "Tokyo", "Paris", "London", "Sydney", "Dubai",
+        "New York", "Seoul"
+    };
+
+    private final Random random;
+
+    private final ItemManager<Pilot> pilotManager = new ItemManager<>();
+
+    private final ItemManager<Crew> crewManager = new ItemManager<>();
+
+    private final ItemManager<Plane> planeManager = new ItemManager<>();
+
+    private final ItemManager<Location> locationManager = new ItemManager<>();
+
+    private final ItemManager<Flight> flightManager = new ItemManager<>();
+
+    private DatasetGenerator(long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Generates a dataset with {@code size} items in every manager.
+     *
+     * @param size the number of items per manager, at least
+     *             {@link #CREW_PER_FLIGHT}.
+     * @param seed the seed of the random values.
+     * @return the generated dataset.
+     */
+    public static DatasetGenerator generate(int size, long seed) {
+        if (size < CREW_PER_FLIGHT) {
+            throw new IllegalArgumentException(
+                    "The size must be at least " + CREW_PER_FLIGHT);
+        }
+        final DatasetGenerator generator = new DatasetGenerator(seed);
+        try {
+            generator.fill(size);
+        } catch (LinkException e) {
+            throw new IllegalStateException(e);
+        }
+        return generator;
+    }
+
+    private void fill(int size) throws LinkException {
+        final List<Pilot> pilots = new ArrayList<>(size);
+        final List<Crew> crews = new ArrayList<>(size);
+        final List<Plane> planes = new ArrayList<>(size);
+        final List<Location> locations = new ArrayList<>(size);
+        final List<Flight> flights = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            pilots.add(new Pilot(
+                    randomId(),
+                    pick(NAMES) + " " + i,
+                    25 + random.nextInt(40),
+                    Gender.values()[random.nextInt(Gender.values().length)],
+                    PilotRank.values()[random.nextInt(PilotRank.values().length)],
+                    random.nextInt(20000)
+            ));
+            crews.add(new Crew(
+                    randomId(),
+                    pick(NAMES) + " " + i,
+                    CrewRank.values()[random.nextInt(CrewRank.values().length)]
+            ));
+            planes.add(new Plane(randomId(), pick(PLANE_MODELS), random.nextInt(30)));
+        }
+        for (int i = 0; i < size; i++) {
+            final Location location = new Location(
+                    randomId(),
+                    pick(CITIES) + " " + i,
+                    link(Crew.SHAPE_FOR_LOCATION, crewManager),
+                    link(Pilot.SHAPE_FOR_LOCATION, pilotManager),
+                    link(Plane.SHAPE_FOR_LOCATION, planeManager)
+            );
+            location.getCrewLink().put(CrewLocationType.LOCATION_USING, crews.get(i));
+            location.getPilotLink().put(PilotLocationType.LOCATION_USING, pilots.get(i));
+            location.getPlaneLink().put(PlaneLocationType.LOCATION_USING, planes.get(i));
+            locations.add(location);
+        }
+        for (int i = 0; i < size; i++) {
+            final Flight flight = new Flight(
+                    randomId(),
+                    "WM" + i,
+                    link(Pilot.SHAPE, pilotManager),
+                    link(Crew.SHAPE, crewManager),
+                    link(Plane.SHAPE, planeManager),
+                    link(Location.SHAPE, locationManager)
+            );
+            flight.getPilotLink().put(FlightPilotType.PILOT_FLYING, pilots.get(i));
+            flight.getPilotLink().put(FlightPilotType.PILOT_MONITORING, pilots.get((i + 1) % size));
+            final int crewStart = (int) ((long) i * CREW_PER_FLIGHT % size);
+            flight.getCrewLink().put(FlightCrewType.CABIN_SERVICE_DIRECTOR, crews.get(crewStart));
+            flight.getCrewLink().put(FlightCrewType.SENIOR_FLIGHT_ATTENDANT, crews.get((crewStart + 1) % size));
+            for (int j = 2; j < CREW_PER_FLIGHT - 1; j++) {
+                flight.getCrewLink().put(FlightCrewType.FLIGHT_ATTENDANT, crews.get((crewStart + j) % size));
+            }
+            flight.getCrewLink().put(FlightCrewType.TRAINEE, crews.get((crewStart + CREW_PER_FLIGHT - 1) % size));
+            flight.getPlaneLink().put(FlightPlaneType.PLANE_USING, planes.get(i));
+            flight.getLocationLink().put(FlightLocationType.LOCATION_DEPARTURE, locations.get(i));
+            flight.getLocationLink().put(FlightLocationType.LOCATION_ARRIVAL, locations.get((i + 1) % size));
+            flights.add(flight);
+        }
+        pilotManager.setItems(pilots);
+        crewManager.setItems(crews);
+        planeManager.setItems(planes);
+        locationManager.setItems(locations);
+        flightManager.setItems(flights);
+    }
+
+    private <K, T extends Item> Link<K, T, ReadOnlyItemManager<T>> link(
+            Map<K, Integer> shape,
+            ReadOnlyItemManager<T> manager
+    ) {
+        return new Link<>(shape, Lazy.of(manager));
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private String randomId() {
+        return new UUID(random.nextLong(), random.nextLong()).toString();
+    }
+
+    public ItemManager<Pilot> getPilotManager() {
+        return pilotManager;
+    }
+
+    public ItemManager<Crew> getCrewManager() {
+        return crewManager;
+    }
+
+    public ItemManager<Plane> getPlaneManager() {
+        return planeManager;
+    }
+
+    public ItemManager<Location> getLocationManager() {
+        return locationManager;
+    }
+
+    public ItemManager<Flight> getFlightManager() {
+        return flightManager;
+    }
+
+    /**
+     * Creates a model holding the items of this dataset.
+     *
+     * @return the model created.
+     */
+    public ModelManager toModel() {
+        return new ModelManager(new UserPrefs(), pilotManager, locationManager,
+                crewManager, planeManager, flightManager);
+    }
+}
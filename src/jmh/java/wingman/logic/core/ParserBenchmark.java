@@ -0,0 +1,143 @@
+package wingman.logic.core;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import wingman.benchmark.DatasetGenerator;
+import wingman.commons.util.GetUtil;
+import wingman.logic.core.exceptions.CommandException;
+import wingman.logic.core.exceptions.ParseException;
+import wingman.logic.toplevel.syntax.PilotSyntax;
+import wingman.model.Model;
+import wingman.model.OperationMode;
+
+/**
+ * Measures the parsing of user input into commands.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParserBenchmark {
+    private static final String ADD_PILOT =
+            "add /n Amy Lee /r 1 /a 30 /g 1 /fh 1200";
+
+    private static final String[] ADD_PILOT_PARAMS =
+            ADD_PILOT.substring("add ".length()).split(" ");
+
+    private static final int SCRIPT_SIZE = 12;
+
+    /**
+     * A mix of the commands that a script driving the application sends,
+     * together with the modes they are sent in.
+     */
+    private static final String[] SCRIPT = {
+        "mode pilot",
+        ADD_PILOT,
+        "delete 0",
+        "mode crew",
+        "add /n Bob Tan /r 2",
+        "mode plane",
+        "add /m A380 /a 12",
+        "mode location",
+        "add /n Singapore",
+        "mode flight",
+        "add /c SQ321",
+        "delete 1",
+    };
+
+    private static final OperationMode[] SCRIPT_MODES = {
+        OperationMode.PILOT,
+        OperationMode.PILOT,
+        OperationMode.PILOT,
+        OperationMode.CREW,
+        OperationMode.CREW,
+        OperationMode.PLANE,
+        OperationMode.PLANE,
+        OperationMode.LOCATION,
+        OperationMode.LOCATION,
+        OperationMode.FLIGHT,
+        OperationMode.FLIGHT,
+        OperationMode.FLIGHT,
+    };
+
+    @Param({"1000", "1000000"})
+    public int size;
+
+    private WingmanParser parser;
+
+    private String linkFlight;
+
+    /**
+     * Registers a generated model, which link commands resolve their
+     * indices against.
+     */
+    @Setup
+    public void setUp() {
+        final Model model = DatasetGenerator.generate(size, 42).toModel();
+        GetUtil.putForce(Model.class, model);
+        parser = new WingmanParser();
+        linkFlight = String.format("linkflight /fl %d /pf %d", size - 1, size / 2);
+    }
+
+    @Benchmark
+    public Command parse_addPilot() throws ParseException, CommandException {
+        return parser.parse(OperationMode.PILOT, ADD_PILOT);
+    }
+
+    @Benchmark
+    public Command parse_linkFlight() throws ParseException, CommandException {
+        return parser.parse(OperationMode.PILOT, linkFlight);
+    }
+
+    @Benchmark
+    public Command parse_changeMode() throws ParseException, CommandException {
+        return parser.parse(OperationMode.PILOT, "mode flight");
+    }
+
+    /**
+     * Parses the whole script once per invocation, reporting the number of
+     * commands parsed per second.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(SCRIPT_SIZE)
+    public void parse_script(Blackhole blackhole) throws ParseException, CommandException {
+        for (int i = 0; i < SCRIPT.length; i++) {
+            blackhole.consume(parser.parse(SCRIPT_MODES[i], SCRIPT[i]));
+        }
+    }
+
+    @Benchmark
+    public Deque<String> tokenize_addPilot() {
+        return WingmanParser.tokenize(ADD_PILOT);
+    }
+
+    @Benchmark
+    public CommandParam commandParam_from() throws ParseException {
+        return CommandParam.from(
+                new ArrayDeque<>(Arrays.asList(ADD_PILOT_PARAMS)),
+                Optional.of(PilotSyntax.PREFIXES)
+        );
+    }
+}
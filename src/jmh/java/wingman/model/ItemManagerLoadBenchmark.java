@@ -0,0 +1,64 @@
+package wingman.model;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import wingman.benchmark.DatasetGenerator;
+import wingman.model.crew.Crew;
+import wingman.model.pilot.Pilot;
+
+/**
+ * Measures adding items one by one to an empty manager, which is how the
+ * managers are filled when they are loaded from storage. Each add checks
+ * for duplicates, so this stays linear only if that check is O(1).
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ItemManagerLoadBenchmark {
+    @Param({"100000"})
+    public int size;
+
+    private List<Pilot> pilots;
+
+    private List<Crew> crews;
+
+    /**
+     * Generates the items to be loaded.
+     */
+    @Setup
+    public void setUp() {
+        final DatasetGenerator dataset = DatasetGenerator.generate(size, 42);
+        pilots = List.copyOf(dataset.getPilotManager().getItemList());
+        crews = List.copyOf(dataset.getCrewManager().getItemList());
+    }
+
+    @Benchmark
+    public ItemManager<Pilot> addItem_pilots() {
+        final ItemManager<Pilot> manager = new ItemManager<>();
+        pilots.forEach(manager::addItem);
+        return manager;
+    }
+
+    @Benchmark
+    public ItemManager<Crew> addItem_crews() {
+        final ItemManager<Crew> manager = new ItemManager<>();
+        crews.forEach(manager::addItem);
+        return manager;
+    }
+}
@@ -0,0 +1,68 @@
+package wingman.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import wingman.model.crew.Crew;
+import wingman.model.crew.CrewRank;
+
+/**
+ * Measures the cost of looking up an item by its id, which should stay
+ * flat as the number of items in the manager grows.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ItemManagerLookupBenchmark {
+    @Param({"100", "10000", "1000000"})
+    public int size;
+
+    private ItemManager<Crew> manager;
+
+    private String[] ids;
+
+    private int next;
+
+    /**
+     * Fills the manager with {@code size} crew.
+     */
+    @Setup
+    public void setUp() {
+        final List<Crew> crews = new ArrayList<>(size);
+        ids = new String[size];
+        for (int i = 0; i < size; i++) {
+            final Crew crew = new Crew("Crew " + i, CrewRank.CREW_MEMBER);
+            crews.add(crew);
+            ids[i] = crew.getId();
+        }
+        manager = new ItemManager<>();
+        manager.setItems(crews);
+    }
+
+    @Benchmark
+    public Object getItemOptional_existingId() {
+        next = (next + 1) % size;
+        return manager.getItemOptional(ids[next]);
+    }
+
+    @Benchmark
+    public Object getItemOptional_missingId() {
+        return manager.getItemOptional("missing");
+    }
+}
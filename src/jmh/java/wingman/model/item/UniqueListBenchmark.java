@@ -0,0 +1,93 @@
+package wingman.model.item;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import wingman.benchmark.DatasetGenerator;
+import wingman.model.crew.Crew;
+
+/**
+ * Measures the operations of {@link UniqueList} that the managers rely on.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UniqueListBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private UniqueList<Crew> list;
+
+    private String[] ids;
+
+    private int next;
+
+    /**
+     * Fills the list with the crew of a generated dataset.
+     */
+    @Setup
+    public void setUp() {
+        list = new UniqueList<>();
+        list.setItems(DatasetGenerator.generate(size, 42).getCrewManager().getItemList());
+        ids = new String[size];
+        for (int i = 0; i < size; i++) {
+            ids[i] = list.get(i).getId();
+        }
+    }
+
+    private String nextId() {
+        next = (next + 7919) % size;
+        return ids[next];
+    }
+
+    @Benchmark
+    public Object get_byId() {
+        return list.get(nextId());
+    }
+
+    @Benchmark
+    public boolean contains_byId() {
+        return list.contains(nextId());
+    }
+
+    @Benchmark
+    public void setItem_sameItem() {
+        final Crew crew = list.get(nextId());
+        list.setItem(crew, crew);
+    }
+
+    @Benchmark
+    public void remove_thenAddBack() {
+        final Crew crew = list.get(nextId());
+        list.remove(crew.getId());
+        list.add(crew);
+    }
+
+    /**
+     * Removes two items in a row before adding them back, so that the second
+     * removal follows another removal as when several items are deleted.
+     */
+    @Benchmark
+    public void removeTwice_thenAddBack() {
+        final Crew first = list.get(nextId());
+        final Crew second = list.get(nextId());
+        list.remove(first.getId());
+        list.remove(second.getId());
+        list.add(first);
+        list.add(second);
+    }
+}
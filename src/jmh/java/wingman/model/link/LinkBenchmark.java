@@ -0,0 +1,81 @@
+package wingman.model.link;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import wingman.benchmark.DatasetGenerator;
+import wingman.model.crew.Crew;
+import wingman.model.crew.FlightCrewType;
+import wingman.model.flight.Flight;
+import wingman.model.link.exceptions.LinkException;
+import wingman.model.pilot.FlightPilotType;
+import wingman.model.pilot.Pilot;
+
+/**
+ * Measures the resolution and mutation of the links of a flight, which is
+ * what rendering and linking commands do.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LinkBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private List<Flight> flights;
+
+    private Pilot pilot;
+
+    private int next;
+
+    /**
+     * Generates the dataset, with the last pilot left unlinked so that it
+     * can be linked and unlinked repeatedly.
+     */
+    @Setup
+    public void setUp() throws LinkException {
+        final DatasetGenerator dataset = DatasetGenerator.generate(size, 42);
+        flights = dataset.getFlightManager().getItemList();
+        pilot = dataset.getPilotManager().getItem(size - 1);
+        for (Flight flight : flights) {
+            flight.getPilotLink().deleteFromAllKeys(pilot.getId());
+        }
+    }
+
+    private Flight nextFlight() {
+        next = (next + 7919) % size;
+        return flights.get(next);
+    }
+
+    @Benchmark
+    public List<Crew> getValid_flightAttendants() throws LinkException {
+        return nextFlight().getCrewLink().getValid(FlightCrewType.FLIGHT_ATTENDANT);
+    }
+
+    @Benchmark
+    public String toString_crewLink() {
+        return nextFlight().getCrewLink().toString();
+    }
+
+    @Benchmark
+    public void putRevolve_thenDelete() throws LinkException {
+        final Link<FlightPilotType, Pilot, ?> link = nextFlight().getPilotLink();
+        link.putRevolve(FlightPilotType.PILOT_MONITORING, pilot);
+        link.delete(FlightPilotType.PILOT_MONITORING, pilot);
+    }
+}
@@ -0,0 +1,81 @@
+package wingman.storage.json;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import wingman.benchmark.DatasetGenerator;
+import wingman.commons.exceptions.DataConversionException;
+import wingman.model.ItemManager;
+import wingman.model.ReadOnlyItemManager;
+import wingman.model.flight.Flight;
+import wingman.storage.json.storage.JsonFlightManagerStorage;
+
+/**
+ * Measures reading and writing the flight manager, which has the most
+ * links per item, as JSON.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class JsonItemStorageBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private Path directory;
+
+    private JsonFlightManagerStorage readStorage;
+
+    private JsonFlightManagerStorage writeStorage;
+
+    private ItemManager<Flight> flightManager;
+
+    /**
+     * Writes the flights of a generated dataset to a temporary file.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("wingman-jmh");
+        flightManager = DatasetGenerator.generate(size, 42).getFlightManager();
+        readStorage = new JsonFlightManagerStorage(directory.resolve("read.json"));
+        readStorage.save(flightManager);
+        writeStorage = new JsonFlightManagerStorage(directory.resolve("write.json"));
+    }
+
+    /**
+     * Deletes the temporary files.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(readStorage.getPath());
+        Files.deleteIfExists(writeStorage.getPath());
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public ReadOnlyItemManager<Flight> read() throws DataConversionException, IOException {
+        return readStorage.read().orElseThrow();
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        writeStorage.save(flightManager);
+    }
+}
@@ -0,0 +1,122 @@
+package wingman.ui;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.control.ListView;
+import wingman.benchmark.DatasetGenerator;
+import wingman.model.ModelEvent;
+import wingman.model.OperationMode;
+import wingman.model.flight.Flight;
+
+/**
+ * Measures the number of list cells rendered per second while scrolling
+ * through the flights, which are the most expensive items to display since
+ * their display lines name every item they link to. Only the work done by
+ * the cells is measured, not the layout and painting of the scene.
+ * <p>
+ * The cells need the JavaFX toolkit, so the benchmark has to be run where
+ * the application itself could be started, i.e. with a display.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ListCellBenchmark {
+    @Param({"1000", "10000"})
+    public int size;
+
+    private ListView<Flight> listView;
+
+    private DisplayCache displayCache;
+
+    private FlightListCell cell;
+
+    private int next;
+
+    /**
+     * Starts the toolkit and fills a list view with the flights of the
+     * dataset, with a single cell to be scrolled through them.
+     */
+    @Setup
+    public void setUp() {
+        try {
+            Platform.startup(() -> {
+            });
+        } catch (IllegalStateException e) {
+            // already started by an earlier trial of the same fork
+        }
+        final DatasetGenerator dataset = DatasetGenerator.generate(size, 42);
+        listView = new ListView<>(dataset.getFlightManager().getItemList());
+        displayCache = new DisplayCache();
+        cell = new FlightListCell(displayCache);
+        cell.updateListView(listView);
+        cell.updateIndex(0);
+    }
+
+    private int nextIndex() {
+        next = (next + 1) % size;
+        return next;
+    }
+
+    /**
+     * Scrolls the cell to the next flight, as the list view does, with the
+     * display lines of the flight cached.
+     */
+    @Benchmark
+    public Node updateCell_cachedLines() {
+        cell.updateIndex(nextIndex());
+        return cell.getGraphic();
+    }
+
+    /**
+     * Scrolls the cell to the next flight after the links of the flight have
+     * changed, so its display lines have to be computed again.
+     */
+    @Benchmark
+    public Node updateCell_changedLinks() {
+        final int index = nextIndex();
+        displayCache.invalidate(new ModelEvent(
+                ModelEvent.Type.LINKED, OperationMode.FLIGHT, listView.getItems().get(index).getId()));
+        cell.updateIndex(index);
+        return cell.getGraphic();
+    }
+
+    /**
+     * Redraws the flight shown by the cell after its links have changed, as
+     * the main window does once per pulse, on the card the cell already
+     * has rather than on a cell rebuilt by the list view.
+     */
+    @Benchmark
+    public Node notifyCells_changedLinks() {
+        displayCache.invalidate(new ModelEvent(
+                ModelEvent.Type.LINKED, OperationMode.FLIGHT, cell.getItem().getId()));
+        displayCache.notifyCells();
+        return cell.getGraphic();
+    }
+
+    /**
+     * Creates a new card for the next flight, as the cells did before they
+     * reused their cards.
+     */
+    @Benchmark
+    public Node createCard() {
+        final int index = nextIndex();
+        return new FlightCard(listView.getItems().get(index), index + 1).getRoot();
+    }
+}
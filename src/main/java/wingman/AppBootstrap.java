@@ -0,0 +1,446 @@
+package wingman;
+
+import static wingman.storage.StorageConverter.convertIfNewer;
+import static wingman.storage.binary.BinaryItemStorage.toBinaryPath;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import wingman.commons.core.Config;
+import wingman.commons.core.LogsCenter;
+import wingman.commons.exceptions.DataConversionException;
+import wingman.commons.util.ConfigUtil;
+import wingman.commons.util.FileUtil;
+import wingman.commons.util.GetUtil;
+import wingman.commons.util.StringUtil;
+import wingman.logic.CommandMetrics;
+import wingman.logic.Logic;
+import wingman.logic.LogicManager;
+import wingman.model.ItemManager;
+import wingman.model.Model;
+import wingman.model.ModelManager;
+import wingman.model.ReadOnlyItemManager;
+import wingman.model.ReadOnlyUserPrefs;
+import wingman.model.UserPrefs;
+import wingman.model.crew.Crew;
+import wingman.model.flight.Flight;
+import wingman.model.item.Item;
+import wingman.model.location.Location;
+import wingman.model.pilot.Pilot;
+import wingman.model.plane.Plane;
+import wingman.storage.ItemStorage;
+import wingman.storage.JsonUserPrefsStorage;
+import wingman.storage.Storage;
+import wingman.storage.StorageManager;
+import wingman.storage.UserPrefsStorage;
+import wingman.storage.binary.storage.BinaryCrewManagerStorage;
+import wingman.storage.binary.storage.BinaryFlightManagerStorage;
+import wingman.storage.binary.storage.BinaryLocationManagerStorage;
+import wingman.storage.binary.storage.BinaryPilotManagerStorage;
+import wingman.storage.binary.storage.BinaryPlaneManagerStorage;
+import wingman.storage.journal.JournalItemStorage;
+import wingman.storage.journal.storage.JournalCrewManagerStorage;
+import wingman.storage.journal.storage.JournalFlightManagerStorage;
+import wingman.storage.journal.storage.JournalLocationManagerStorage;
+import wingman.storage.journal.storage.JournalPilotManagerStorage;
+import wingman.storage.journal.storage.JournalPlaneManagerStorage;
+import wingman.storage.json.storage.JsonCrewManagerStorage;
+import wingman.storage.json.storage.JsonFlightManagerStorage;
+import wingman.storage.json.storage.JsonLocationManagerStorage;
+import wingman.storage.json.storage.JsonPilotManagerStorage;
+import wingman.storage.json.storage.JsonPlaneManagerStorage;
+
+/**
+ * Sets up the non-UI components of the application, i.e. the config, the
+ * storage, the model and the logic, and tears them down again. This is
+ * shared by the JavaFX application and the headless runner, so that neither
+ * needs the other to load the data.
+ */
+public class AppBootstrap {
+    private static final Logger logger = LogsCenter.getLogger(AppBootstrap.class);
+    private Logic logic;
+    private Storage storage;
+    private Model model;
+    private Config config;
+
+    /**
+     * Loads the config, the user prefs and the data, and registers the
+     * components with {@link GetUtil}.
+     *
+     * @param configPath the path of the config file, or null to use the
+     *                   default config file.
+     * @return the components set up.
+     * @throws IOException if the data files cannot be created.
+     */
+    public static AppBootstrap init(Path configPath) throws IOException {
+        final AppBootstrap bootstrap = new AppBootstrap();
+        bootstrap.initFields(configPath);
+        bootstrap.configureServiceLocator();
+        return bootstrap;
+    }
+
+    /**
+     * Initialises respective fields from storage
+     */
+    private void initFields(Path configPath) throws IOException {
+        config = initConfig(configPath);
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        initLogging(config);
+        storage = initStorage(userPrefs, userPrefsStorage);
+        model = initModelManager(storage, userPrefs);
+        logic = new LogicManager(model, storage);
+    }
+
+    /**
+     * To allow for convenient access to the services in the specified packages,
+     * without disrupting effective isolation between classes
+     */
+    private void configureServiceLocator() {
+        GetUtil.put(Config.class, config);
+        GetUtil.put(Storage.class, storage);
+        GetUtil.put(Model.class, model);
+        GetUtil.put(Logic.class, logic);
+    }
+
+    /**
+     * Read a specified manager from data
+     *
+     * @param managerSupplier the data from which the manager is read
+     * @param managerName     name of the manager
+     * @param <T>             the type of object that the manager manages
+     * @return a read only version of the item manager
+     */
+    private <T extends Item> ReadOnlyItemManager<T> readManager(
+            Callable<Optional<? extends ReadOnlyItemManager<T>>> managerSupplier,
+            String managerName
+    ) {
+        Optional<? extends ReadOnlyItemManager<T>> managerOptional;
+        try {
+            managerOptional = managerSupplier.call();
+            if (managerOptional.isPresent()) {
+                return managerOptional.get();
+            }
+            logger.info(
+                    String.format("Data file for %s is not found.", managerName)
+            );
+            return new ItemManager<>();
+        } catch (DataConversionException | IOException e) {
+            logger.info(String.format(
+                    "Exception caught while reading data file for %s: %s",
+                    managerName,
+                    e.toString()
+            ));
+            return new ItemManager<>();
+        } catch (Exception e) {
+            logger.info(String.format(
+                    "Unknown Exception: %s.",
+                    e.getMessage()
+            ));
+            return new ItemManager<>();
+        }
+    }
+
+    /**
+     * Reads a specified manager from data on the common pool, logging the
+     * time taken.
+     *
+     * @param managerSupplier the data from which the manager is read
+     * @param managerName     name of the manager
+     * @param <T>             the type of object that the manager manages
+     * @return a future of a read only version of the item manager
+     */
+    private <T extends Item> CompletableFuture<ReadOnlyItemManager<T>> readManagerAsync(
+            Callable<Optional<? extends ReadOnlyItemManager<T>>> managerSupplier,
+            String managerName
+    ) {
+        return CompletableFuture.supplyAsync(() -> {
+            final long start = System.nanoTime();
+            final ReadOnlyItemManager<T> manager =
+                    readManager(managerSupplier, managerName);
+            logger.info(String.format(
+                    "Read %d item(s) for %s in %d ms",
+                    manager.size(),
+                    managerName,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+            ));
+            return manager;
+        });
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
+     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * <p>
+     * The managers are read concurrently, as they are stored in separate
+     * files and only resolve their links to each other lazily.
+     */
+    private Model initModelManager(
+            Storage storage,
+            ReadOnlyUserPrefs userPrefs
+    ) {
+        final long start = System.nanoTime();
+        final CompletableFuture<ReadOnlyItemManager<Pilot>> pilotManager =
+                readManagerAsync(storage::readPilotManager, "PilotManager");
+        final CompletableFuture<ReadOnlyItemManager<Location>> locationManager =
+                readManagerAsync(storage::readLocationManager, "LocationManager");
+        final CompletableFuture<ReadOnlyItemManager<Crew>> crewManager =
+                readManagerAsync(storage::readCrewManager, "CrewManager");
+        final CompletableFuture<ReadOnlyItemManager<Plane>> planeManager =
+                readManagerAsync(storage::readPlaneManager, "PlaneManager");
+        final CompletableFuture<ReadOnlyItemManager<Flight>> flightManager =
+                readManagerAsync(storage::readFlightManager, "FlightManager");
+
+        final Model model = new ModelManager(userPrefs, pilotManager.join(),
+                locationManager.join(), crewManager.join(), planeManager.join(),
+                flightManager.join()
+        );
+        logger.info(String.format("Read all managers in %d ms",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+        return model;
+    }
+
+    /**
+     * Initialises storages for specified object types and user preferences
+     *
+     * @param userPrefs        user preferences
+     * @param userPrefsStorage storage destination for user preferences
+     * @return StorageManager object that manages the storages for specified object types and user preferences
+     */
+    private Storage initStorage(
+            UserPrefs userPrefs,
+            UserPrefsStorage userPrefsStorage
+    ) throws IOException {
+        FileUtil.createParentDirsOfFile(userPrefs.getPilotManagerFilePath());
+        FileUtil.createParentDirsOfFile(userPrefs.getCrewManagerFilePath());
+        FileUtil.createParentDirsOfFile(userPrefs.getPlaneManagerFilePath());
+        FileUtil.createParentDirsOfFile(userPrefs.getLocationManagerFilePath());
+        FileUtil.createParentDirsOfFile(userPrefs.getFlightManagerFilePath());
+        FileUtil.createIfMissing(userPrefs.getPilotManagerFilePath());
+        FileUtil.createIfMissing(userPrefs.getCrewManagerFilePath());
+        FileUtil.createIfMissing(userPrefs.getPlaneManagerFilePath());
+        FileUtil.createIfMissing(userPrefs.getLocationManagerFilePath());
+        FileUtil.createIfMissing(userPrefs.getFlightManagerFilePath());
+        final JournalPilotManagerStorage journalPilotStorage =
+                new JournalPilotManagerStorage(userPrefs.getPilotManagerFilePath());
+        final JournalLocationManagerStorage journalLocationStorage =
+                new JournalLocationManagerStorage(userPrefs.getLocationManagerFilePath());
+        final JournalCrewManagerStorage journalCrewStorage =
+                new JournalCrewManagerStorage(userPrefs.getCrewManagerFilePath());
+        final JournalPlaneManagerStorage journalPlaneStorage =
+                new JournalPlaneManagerStorage(userPrefs.getPlaneManagerFilePath());
+        final JournalFlightManagerStorage journalFlightStorage =
+                new JournalFlightManagerStorage(userPrefs.getFlightManagerFilePath());
+        // the records left in a journal are folded into the JSON file before
+        // any format reads it, so that they are neither lost when switching
+        // away from the journal nor replayed over newer data when switching
+        // back to it
+        compactJournal(journalPilotStorage);
+        compactJournal(journalLocationStorage);
+        compactJournal(journalCrewStorage);
+        compactJournal(journalPlaneStorage);
+        compactJournal(journalFlightStorage);
+        final ItemStorage<Pilot> pilotStorage;
+        final ItemStorage<Location> locationStorage;
+        final ItemStorage<Crew> crewStorage;
+        final ItemStorage<Plane> planeStorage;
+        final ItemStorage<Flight> flightStorage;
+        switch (userPrefs.getStorageFormat()) {
+        case JOURNAL:
+            pilotStorage = journalPilotStorage;
+            locationStorage = journalLocationStorage;
+            crewStorage = journalCrewStorage;
+            planeStorage = journalPlaneStorage;
+            flightStorage = journalFlightStorage;
+            // data edited in the binary format is picked up when switching back
+            convertIfNewer(new BinaryPilotManagerStorage(toBinaryPath(pilotStorage.getPath())), pilotStorage);
+            convertIfNewer(
+                    new BinaryLocationManagerStorage(toBinaryPath(locationStorage.getPath())), locationStorage);
+            convertIfNewer(new BinaryCrewManagerStorage(toBinaryPath(crewStorage.getPath())), crewStorage);
+            convertIfNewer(new BinaryPlaneManagerStorage(toBinaryPath(planeStorage.getPath())), planeStorage);
+            convertIfNewer(new BinaryFlightManagerStorage(toBinaryPath(flightStorage.getPath())), flightStorage);
+            break;
+        case BINARY:
+            pilotStorage = new BinaryPilotManagerStorage(toBinaryPath(userPrefs.getPilotManagerFilePath()));
+            locationStorage = new BinaryLocationManagerStorage(toBinaryPath(userPrefs.getLocationManagerFilePath()));
+            crewStorage = new BinaryCrewManagerStorage(toBinaryPath(userPrefs.getCrewManagerFilePath()));
+            planeStorage = new BinaryPlaneManagerStorage(toBinaryPath(userPrefs.getPlaneManagerFilePath()));
+            flightStorage = new BinaryFlightManagerStorage(toBinaryPath(userPrefs.getFlightManagerFilePath()));
+            convertIfNewer(new JsonPilotManagerStorage(userPrefs.getPilotManagerFilePath()), pilotStorage);
+            convertIfNewer(new JsonLocationManagerStorage(userPrefs.getLocationManagerFilePath()), locationStorage);
+            convertIfNewer(new JsonCrewManagerStorage(userPrefs.getCrewManagerFilePath()), crewStorage);
+            convertIfNewer(new JsonPlaneManagerStorage(userPrefs.getPlaneManagerFilePath()), planeStorage);
+            convertIfNewer(new JsonFlightManagerStorage(userPrefs.getFlightManagerFilePath()), flightStorage);
+            break;
+        case JSON:
+        default:
+            pilotStorage = new JsonPilotManagerStorage(userPrefs.getPilotManagerFilePath());
+            locationStorage = new JsonLocationManagerStorage(userPrefs.getLocationManagerFilePath());
+            crewStorage = new JsonCrewManagerStorage(userPrefs.getCrewManagerFilePath());
+            planeStorage = new JsonPlaneManagerStorage(userPrefs.getPlaneManagerFilePath());
+            flightStorage = new JsonFlightManagerStorage(userPrefs.getFlightManagerFilePath());
+            // data edited in the binary format is picked up when switching back
+            convertIfNewer(new BinaryPilotManagerStorage(toBinaryPath(pilotStorage.getPath())), pilotStorage);
+            convertIfNewer(
+                    new BinaryLocationManagerStorage(toBinaryPath(locationStorage.getPath())), locationStorage);
+            convertIfNewer(new BinaryCrewManagerStorage(toBinaryPath(crewStorage.getPath())), crewStorage);
+            convertIfNewer(new BinaryPlaneManagerStorage(toBinaryPath(planeStorage.getPath())), planeStorage);
+            convertIfNewer(new BinaryFlightManagerStorage(toBinaryPath(flightStorage.getPath())), flightStorage);
+            break;
+        }
+        logger.info("Using " + userPrefs.getStorageFormat() + " storage format");
+        return new StorageManager(userPrefsStorage, pilotStorage,
+                locationStorage,
+                crewStorage, planeStorage, flightStorage
+        );
+    }
+
+    /**
+     * Folds the journal of the given storage, if any, into its JSON file.
+     * Failures are logged and leave the files untouched, as the journal is
+     * still replayed when the journal format is used again.
+     *
+     * @param storage the journaled storage.
+     */
+    private static void compactJournal(JournalItemStorage<?, ?, ?> storage) {
+        try {
+            storage.compact();
+        } catch (DataConversionException | IOException e) {
+            logger.warning(String.format("Could not compact the journal of %s: %s",
+                    storage.getPath(), e));
+        }
+    }
+
+    private void initLogging(Config config) {
+        LogsCenter.init(config);
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    protected Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(
+                    configFilePathUsed);
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataConversionException e) {
+            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
+                                   + "Using default config properties");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(
+                    e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    protected UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using prefs file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataConversionException e) {
+            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
+                                   + "Using default user prefs");
+            initializedPrefs = new UserPrefs();
+        } catch (IOException e) {
+            logger.warning(
+                    "Problem while reading from the file. Will be starting with an empty AddressBook");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(
+                    e));
+        }
+
+        return initializedPrefs;
+    }
+
+    /**
+     * Waits for the pending saves, saves the user prefs, writes the command
+     * metrics, if any command has been timed, to the metrics file of the
+     * config and writes the pending log messages, which should be done
+     * before the application exits.
+     *
+     * @return whether the data and the user prefs have all been saved.
+     */
+    public boolean stop() {
+        boolean isSaved = true;
+        try {
+            logic.flushSaves();
+        } catch (IOException e) {
+            isSaved = false;
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            isSaved = false;
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(
+                    e));
+        }
+        final CommandMetrics metrics = logic.getCommandMetrics();
+        if (!metrics.isEmpty()) {
+            try {
+                metrics.writeTo(config.getMetricsFilePath());
+            } catch (IOException e) {
+                logger.warning("Failed to write command metrics " + StringUtil.getDetails(e));
+            }
+        }
+        LogsCenter.flush();
+        return isSaved;
+    }
+
+    public Logic getLogic() {
+        return logic;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+}
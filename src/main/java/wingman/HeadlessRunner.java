@@ -0,0 +1,291 @@
+package wingman;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Logger;
+
+import wingman.commons.core.LogsCenter;
+import wingman.logic.Logic;
+import wingman.logic.core.CommandResult;
+import wingman.logic.core.exceptions.CommandException;
+import wingman.logic.core.exceptions.ParseException;
+
+/**
+ * Runs a script of commands against the data without starting the JavaFX
+ * UI, e.g. for bulk imports and nightly roster jobs. The commands are read
+ * from a file, or from the standard input, one per line; blank lines and
+ * lines starting with {@code #} are skipped.
+ * <p>
+ * Usage: {@code --headless [--config=<path>] [--batch] [<file>|-]}
+ * <p>
+ * With {@code --batch}, the commands run as a single batch, which is saved
+ * once and rolled back as a whole if any command fails. Otherwise, every
+ * command runs on its own and a failing command does not stop the script.
+ * Either way, a report of the throughput and of the latency of the commands
+ * is printed at the end.
+ */
+public class HeadlessRunner {
+    public static final String HEADLESS_FLAG = "--headless";
+
+    private static final String BATCH_FLAG = "--batch";
+
+    private static final String CONFIG_FLAG_PREFIX = "--config=";
+
+    private static final String STDIN_ARGUMENT = "-";
+
+    private static final String COMMENT_PREFIX = "#";
+
+    private static final String USAGE =
+            "Usage: --headless [--config=<path>] [--batch] [<file>|-]";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessRunner.class);
+
+    private final Logic logic;
+
+    private final PrintStream err;
+
+    /**
+     * Creates a runner executing commands through the given logic.
+     *
+     * @param logic the logic to execute the commands with.
+     * @param err   the stream to which failures are reported.
+     */
+    HeadlessRunner(Logic logic, PrintStream err) {
+        this.logic = logic;
+        this.err = err;
+    }
+
+    /**
+     * Runs the script given by the arguments and exits with a non-zero
+     * status if any of the commands has failed or if the data could not be
+     * saved.
+     *
+     * @param args the command line arguments.
+     */
+    public static void main(String[] args) {
+        System.exit(run(args));
+    }
+
+    private static int run(String[] args) {
+        Path configPath = null;
+        boolean isBatch = false;
+        String script = STDIN_ARGUMENT;
+        for (String arg : args) {
+            if (arg.equals(HEADLESS_FLAG)) {
+                continue;
+            }
+            if (arg.equals(BATCH_FLAG)) {
+                isBatch = true;
+            } else if (arg.startsWith(CONFIG_FLAG_PREFIX)) {
+                configPath = Paths.get(arg.substring(CONFIG_FLAG_PREFIX.length()));
+            } else if (arg.startsWith("--")) {
+                System.err.println(USAGE);
+                return 2;
+            } else {
+                script = arg;
+            }
+        }
+
+        final AppBootstrap bootstrap;
+        try {
+            bootstrap = AppBootstrap.init(configPath);
+        } catch (IOException e) {
+            System.err.println("Could not load the data: " + e.getMessage());
+            return 1;
+        }
+
+        final HeadlessRunner runner = new HeadlessRunner(bootstrap.getLogic(), System.err);
+        Report report = null;
+        final boolean isSaved;
+        try (BufferedReader reader = open(script)) {
+            report = isBatch ? runner.runBatch(reader) : runner.run(reader);
+        } catch (IOException e) {
+            System.err.println("Could not read the script: " + e.getMessage());
+        } finally {
+            // even if a command has thrown, the writes still queued must be
+            // performed before the exit stops the thread performing them
+            isSaved = bootstrap.stop();
+        }
+        if (!isSaved) {
+            System.err.println("Could not save the data, see the log for details.");
+        }
+        if (report == null) {
+            return 1;
+        }
+
+        System.out.println(report);
+        return report.getFailureCount() == 0 && isSaved ? 0 : 1;
+    }
+
+    private static BufferedReader open(String script) throws IOException {
+        if (script.equals(STDIN_ARGUMENT)) {
+            return new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        }
+        return Files.newBufferedReader(Paths.get(script), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns whether the line of a script holds a command, i.e. whether it
+     * is neither blank nor a comment.
+     *
+     * @param line the line.
+     * @return true if the line holds a command.
+     */
+    static boolean isCommand(String line) {
+        final String trimmed = line.trim();
+        return !trimmed.isEmpty() && !trimmed.startsWith(COMMENT_PREFIX);
+    }
+
+    /**
+     * Executes the commands read from the reader one by one, until the end
+     * of the input or until a command asks to exit.
+     *
+     * @param reader the reader of the script.
+     * @return the report of the run.
+     * @throws IOException if the script cannot be read.
+     */
+    Report run(BufferedReader reader) throws IOException {
+        final List<Long> latencies = new ArrayList<>();
+        int failures = 0;
+        int lineNumber = 0;
+        final long start = System.nanoTime();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (!isCommand(line)) {
+                continue;
+            }
+            final long commandStart = System.nanoTime();
+            boolean isExit = false;
+            try {
+                final CommandResult result = logic.execute(line.trim());
+                isExit = result.isExit();
+            } catch (CommandException | ParseException e) {
+                failures++;
+                err.printf("Line %d: %s%n", lineNumber, e.getMessage());
+            }
+            latencies.add(System.nanoTime() - commandStart);
+            if (isExit) {
+                break;
+            }
+        }
+        final long totalNanos = System.nanoTime() - start;
+        logger.info(String.format("Ran %d commands headlessly, %d failed",
+                latencies.size(), failures));
+        return new Report(toArray(latencies), failures, totalNanos);
+    }
+
+    /**
+     * Executes the commands read from the reader as a single batch, which
+     * is rolled back as a whole if any of the commands fails. The latency
+     * of the commands cannot be told apart in a batch, so it is averaged
+     * over the batch.
+     *
+     * @param reader the reader of the script.
+     * @return the report of the run.
+     * @throws IOException if the script cannot be read.
+     */
+    Report runBatch(BufferedReader reader) throws IOException {
+        final List<String> commands = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (isCommand(line)) {
+                commands.add(line.trim());
+            }
+        }
+        int failures = 0;
+        final long start = System.nanoTime();
+        try {
+            logic.executeBatch(commands);
+        } catch (CommandException | ParseException e) {
+            failures = commands.size();
+            err.println(e.getMessage());
+        }
+        final long totalNanos = System.nanoTime() - start;
+        final long[] latencies = new long[commands.size()];
+        if (!commands.isEmpty()) {
+            Arrays.fill(latencies, totalNanos / commands.size());
+        }
+        return new Report(latencies, failures, totalNanos);
+    }
+
+    private static long[] toArray(List<Long> values) {
+        final long[] result = new long[values.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = values.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * The throughput and the latency of the commands of a run.
+     */
+    static final class Report {
+        private final long[] sortedLatencies;
+
+        private final int failureCount;
+
+        private final long totalNanos;
+
+        /**
+         * Creates the report of a run.
+         *
+         * @param latencies    the latency of every command, in nanoseconds.
+         * @param failureCount the number of commands that have failed.
+         * @param totalNanos   the duration of the run, in nanoseconds.
+         */
+        Report(long[] latencies, int failureCount, long totalNanos) {
+            this.sortedLatencies = latencies.clone();
+            Arrays.sort(this.sortedLatencies);
+            this.failureCount = failureCount;
+            this.totalNanos = totalNanos;
+        }
+
+        int getCommandCount() {
+            return sortedLatencies.length;
+        }
+
+        int getFailureCount() {
+            return failureCount;
+        }
+
+        /**
+         * Returns the latency below which the given share of the commands
+         * have run, by the nearest-rank method.
+         *
+         * @param percentile the percentile, between 0 (exclusive) and 100.
+         * @return the latency, in nanoseconds, or 0 if no command has run.
+         */
+        long percentile(double percentile) {
+            if (sortedLatencies.length == 0) {
+                return 0;
+            }
+            final int rank = (int) Math.ceil(percentile / 100 * sortedLatencies.length);
+            return sortedLatencies[Math.max(rank, 1) - 1];
+        }
+
+        @Override
+        public String toString() {
+            final double totalMillis = totalNanos / 1e6;
+            final double throughput = totalNanos == 0
+                    ? 0
+                    : sortedLatencies.length / (totalNanos / 1e9);
+            return String.format("Commands: %d (%d failed)%n"
+                            + "Total: %.1f ms, %.1f commands/s%n"
+                            + "Latency (us): p50 %d, p90 %d, p99 %d, max %d",
+                    sortedLatencies.length, failureCount,
+                    totalMillis, throughput,
+                    percentile(50) / 1000, percentile(90) / 1000,
+                    percentile(99) / 1000, percentile(100) / 1000);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package wingman;
 
+import java.util.Arrays;
+
 import javafx.application.Application;
 
 /**
@@ -17,9 +19,16 @@ import javafx.application.Application;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * When started with --headless, the application runs a script of commands
+ * through {@link HeadlessRunner} instead, without starting JavaFX at all.
  */
 public class Main {
     public static void main(String[] args) {
+        if (Arrays.asList(args).contains(HeadlessRunner.HEADLESS_FLAG)) {
+            HeadlessRunner.main(args);
+            return;
+        }
         Application.launch(MainApp.class, args);
     }
 }
@@ -0,0 +1,191 @@
+package wingman.commons.core;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A handler that passes the records it is given on to other handlers on a
+ * background thread, so that logging never waits for the console or the
+ * log file.
+ * <p>
+ * The records wait in a bounded queue. When the queue is full, e.g. because
+ * the disk is slow, new records are dropped rather than blocking the caller,
+ * and the number of records dropped is reported once the writer catches up.
+ */
+class AsyncLogHandler extends Handler {
+    private static final String DROPPED_MESSAGE = "Dropped %d log records, the log queue was full.";
+
+    private static final long CLOSE_TIMEOUT_MILLIS = 1000;
+
+    private final int capacity;
+
+    private final List<Handler> delegates;
+
+    /**
+     * Guards the queued records and the number of records dropped.
+     */
+    private final Lock queueLock = new ReentrantLock();
+
+    private final Condition isNotEmpty = queueLock.newCondition();
+
+    private final Queue<LogRecord> queue = new ArrayDeque<>();
+
+    private long droppedCount;
+
+    /**
+     * Held while records are taken from the queue and passed on, so that
+     * the writer and the callers of {@link #flush()} pass them on in order.
+     */
+    private final Object writeLock = new Object();
+
+    private final Thread writer;
+
+    private volatile boolean isClosed;
+
+    /**
+     * Creates a handler passing the records on to the given handlers, and
+     * starts its writer thread.
+     *
+     * @param capacity  the number of records that can wait to be written.
+     * @param delegates the handlers writing the records.
+     */
+    AsyncLogHandler(int capacity, List<Handler> delegates) {
+        this.capacity = capacity;
+        this.delegates = List.copyOf(delegates);
+        this.writer = new Thread(this::write, "wingman-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Queues the record to be written, or drops it if the queue is full.
+     *
+     * @param record the record to be written.
+     */
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+        // the caller can only be inferred on the thread that logged
+        record.getSourceClassName();
+        queueLock.lock();
+        try {
+            if (queue.size() < capacity) {
+                queue.add(record);
+                isNotEmpty.signal();
+            } else {
+                droppedCount++;
+            }
+        } finally {
+            queueLock.unlock();
+        }
+    }
+
+    /**
+     * Writes the records queued so far on the calling thread, and flushes
+     * the handlers writing them.
+     */
+    @Override
+    public void flush() {
+        synchronized (writeLock) {
+            drain();
+            delegates.forEach(Handler::flush);
+        }
+    }
+
+    /**
+     * Writes the records queued so far, stops the writer thread and closes
+     * the handlers writing the records.
+     */
+    @Override
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        writer.interrupt();
+        try {
+            // lets the writer finish passing on the records it has taken
+            writer.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (writeLock) {
+            drain();
+            delegates.forEach(Handler::close);
+        }
+    }
+
+    /**
+     * Returns the number of records dropped so far because the queue was
+     * full, and not reported yet.
+     *
+     * @return the number of records dropped.
+     */
+    public long getDroppedCount() {
+        queueLock.lock();
+        try {
+            return droppedCount;
+        } finally {
+            queueLock.unlock();
+        }
+    }
+
+    private void write() {
+        while (!isClosed) {
+            queueLock.lock();
+            try {
+                while (queue.isEmpty() && !isClosed) {
+                    isNotEmpty.await();
+                }
+            } catch (InterruptedException e) {
+                return;
+            } finally {
+                queueLock.unlock();
+            }
+            synchronized (writeLock) {
+                drain();
+            }
+        }
+    }
+
+    /**
+     * Writes the records queued, and reports the records dropped.
+     */
+    private void drain() {
+        final List<LogRecord> records;
+        final long dropped;
+        queueLock.lock();
+        try {
+            records = new ArrayList<>(queue);
+            queue.clear();
+            dropped = droppedCount;
+            droppedCount = 0;
+        } finally {
+            queueLock.unlock();
+        }
+        records.forEach(this::deliver);
+        if (dropped > 0) {
+            final LogRecord record = new LogRecord(Level.WARNING, String.format(DROPPED_MESSAGE, dropped));
+            record.setLoggerName(AsyncLogHandler.class.getSimpleName());
+            record.setSourceClassName(AsyncLogHandler.class.getName());
+            record.setSourceMethodName("drain");
+            deliver(record);
+        }
+    }
+
+    private void deliver(LogRecord record) {
+        for (Handler delegate : delegates) {
+            delegate.publish(record);
+        }
+    }
+}
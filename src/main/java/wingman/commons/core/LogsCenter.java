@@ -1,9 +1,14 @@
 package wingman.commons.core;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
@@ -14,39 +19,47 @@ import java.util.logging.SimpleFormatter;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * The messages are written on a background thread, so that logging does not wait for the console or the
+ *   file. If they are logged faster than they can be written, up to {@value #QUEUE_CAPACITY} of them wait
+ *   to be written and the rest are dropped.<br>
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
+    private static final int QUEUE_CAPACITY = 10_000;
     private static final String LOG_FILE = "wingman.log";
+    private static final String FILE_HANDLER_ERROR_MESSAGE = "Error adding file handler for logger.";
+    private static final Map<String, Logger> loggers = new ConcurrentHashMap<>();
     private static Level currentLogLevel = Level.INFO;
-    private static final Logger logger = LogsCenter.getLogger(LogsCenter.class);
+    private static AsyncLogHandler asyncHandler;
     private static FileHandler fileHandler;
     private static ConsoleHandler consoleHandler;
+    private static final Logger logger = LogsCenter.getLogger(LogsCenter.class);
 
     /**
      * Initializes with a custom log level (specified in the {@code config} object)
-     * Loggers obtained *AFTER* this initialization will have their logging level changed<br>
-     * Logging levels for existing loggers will only be updated if the logger with the same name
-     * is requested again from the LogsCenter.
+     * The logging level applies to all the loggers, including those obtained before this initialization.
      */
     public static void init(Config config) {
-        currentLogLevel = config.getLogLevel();
+        setLevel(config.getLogLevel());
         logger.info("currentLogLevel: " + currentLogLevel);
     }
 
+    private static synchronized void setLevel(Level level) {
+        currentLogLevel = level;
+        for (Handler handler : new Handler[] {asyncHandler, fileHandler, consoleHandler}) {
+            if (handler != null) {
+                handler.setLevel(level);
+            }
+        }
+    }
+
     /**
-     * Creates a logger with the given name.
+     * Returns the logger with the given name, creating it if it has not been
+     * obtained before.
      */
     public static Logger getLogger(String name) {
-        Logger logger = Logger.getLogger(name);
-        logger.setUseParentHandlers(false);
-
-        removeHandlers(logger);
-        addConsoleHandler(logger);
-        addFileHandler(logger);
-
-        return Logger.getLogger(name);
+        return loggers.computeIfAbsent(name, LogsCenter::createLogger);
     }
 
     /**
@@ -60,14 +73,25 @@ public class LogsCenter {
     }
 
     /**
-     * Adds the {@code consoleHandler} to the {@code logger}. <br>
-     * Creates the {@code consoleHandler} if it is null.
+     * Writes the messages logged so far, e.g. before the application exits.
      */
-    private static void addConsoleHandler(Logger logger) {
-        if (consoleHandler == null) {
-            consoleHandler = createConsoleHandler();
+    public static synchronized void flush() {
+        if (asyncHandler != null) {
+            asyncHandler.flush();
         }
-        logger.addHandler(consoleHandler);
+    }
+
+    /**
+     * Creates a logger with the given name, writing to the console and the log file.
+     */
+    private static Logger createLogger(String name) {
+        Logger logger = Logger.getLogger(name);
+        logger.setUseParentHandlers(false);
+
+        removeHandlers(logger);
+        addAsyncHandler(logger);
+
+        return logger;
     }
 
     /**
@@ -79,18 +103,34 @@ public class LogsCenter {
     }
 
     /**
-     * Adds the {@code fileHandler} to the {@code logger}. <br>
-     * Creates {@code fileHandler} if it is null.
+     * Adds the {@code asyncHandler} to the {@code logger}. <br>
+     * Creates the {@code asyncHandler}, with the {@code consoleHandler} and
+     * {@code fileHandler} writing for it, if it is null.
      */
-    private static void addFileHandler(Logger logger) {
+    private static synchronized void addAsyncHandler(Logger logger) {
+        final boolean isCreated = asyncHandler == null;
+        if (isCreated) {
+            asyncHandler = createAsyncHandler();
+        }
+        logger.addHandler(asyncHandler);
+        if (isCreated && fileHandler == null) {
+            logger.warning(FILE_HANDLER_ERROR_MESSAGE);
+        }
+    }
+
+    private static AsyncLogHandler createAsyncHandler() {
+        final List<Handler> handlers = new ArrayList<>();
+        consoleHandler = createConsoleHandler();
+        handlers.add(consoleHandler);
         try {
-            if (fileHandler == null) {
-                fileHandler = createFileHandler();
-            }
-            logger.addHandler(fileHandler);
+            fileHandler = createFileHandler();
+            handlers.add(fileHandler);
         } catch (IOException e) {
-            logger.warning("Error adding file handler for logger.");
+            fileHandler = null;
         }
+        AsyncLogHandler asyncHandler = new AsyncLogHandler(QUEUE_CAPACITY, handlers);
+        asyncHandler.setLevel(currentLogLevel);
+        return asyncHandler;
     }
 
     /**
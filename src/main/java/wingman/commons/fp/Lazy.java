@@ -4,12 +4,13 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
- * A lazily evaluated value.
+ * A lazily evaluated value. The value is evaluated at most once, even if it
+ * is requested by several threads at the same time.
  *
  * @param <T> the type of the value that's to be lazily evaluated.
  */
 public class Lazy<T> {
-    private Either<Supplier<T>, T> supplierOrValue;
+    private volatile Either<Supplier<T>, T> supplierOrValue;
 
     private Lazy(Either<Supplier<T>, T> supplierOrValue) {
         this.supplierOrValue = supplierOrValue;
@@ -43,10 +44,17 @@ public class Lazy<T> {
      * @return the value stored inside this lazy instance.
      */
     public T get() {
-        if (supplierOrValue.isLeft()) {
-            supplierOrValue = Either.right(supplierOrValue.getLeft().get());
+        Either<Supplier<T>, T> current = supplierOrValue;
+        if (current.isLeft()) {
+            synchronized (this) {
+                current = supplierOrValue;
+                if (current.isLeft()) {
+                    current = Either.right(current.getLeft().get());
+                    supplierOrValue = current;
+                }
+            }
         }
-        return supplierOrValue.getRight();
+        return current.getRight();
     }
 
     /**
@@ -2,8 +2,8 @@ package wingman.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import java.util.logging.Logger;
 
@@ -14,6 +14,8 @@ import wingman.commons.fp.Lazy;
  * The service locator for locating already instantiated services. This can
  * be used to help with dependency injection and create effective isolation
  * between different classes.
+ * <p>
+ * The services may be registered and located from any thread.
  */
 public class GetUtil {
     private static final String SERVICE_NOT_REGISTERED_MESSAGE =
@@ -28,7 +30,7 @@ public class GetUtil {
     private static final String CLEAR_MESSAGE =
         "Clearing the contents of GetUtil.";
 
-    private static final Map<Class<?>, Lazy<?>> services = new HashMap<>();
+    private static final Map<Class<?>, Lazy<?>> services = new ConcurrentHashMap<>();
 
     private static final Logger logger = LogsCenter.getLogger(GetUtil.class);
 
@@ -48,9 +50,10 @@ public class GetUtil {
     @SuppressWarnings("unchecked")
     public static <T> T get(Class<T> clazz) {
         requireNonNull(clazz);
-        if (services.containsKey(clazz)) {
+        final Lazy<?> service = services.get(clazz);
+        if (service != null) {
             try {
-                return (T) services.get(clazz).get();
+                return (T) service.get();
             } catch (ClassCastException e) {
                 throw new GetException(String.format(CAST_FAILED_MESSAGE,
                     e.getMessage()));
@@ -72,18 +75,21 @@ public class GetUtil {
     }
 
     /**
-     * Throws the {@link GetException} if contains the key already.
+     * Registers the service unless the key is already registered, in which
+     * case the {@link GetException} is thrown.
      *
-     * @param key the key.
-     * @param <T> the type of the value.
+     * @param key     the key.
+     * @param service the service.
+     * @param <T>     the type of the value.
      */
-    private static <T> void throwIfContains(Class<T> key) {
-        if (!services.containsKey(key)) {
+    private static <T> void putOrThrow(Class<T> key, Lazy<?> service) {
+        final Lazy<?> existing = services.putIfAbsent(key, service);
+        if (existing == null) {
             return;
         }
         throw new GetException(
             String.format(SERVICE_ALREADY_REGISTERED_MESSAGE,
-                services.get(key).toString())
+                existing.toString())
         );
     }
 
@@ -94,12 +100,29 @@ public class GetUtil {
      * @param <T> the type of the value.
      */
     public static <T> void delete(Class<T> key) {
-        if (!services.containsKey(key)) {
+        final Lazy<?> removed = services.remove(key);
+        if (removed == null) {
+            return;
+        }
+        logger.info(() -> String.format(DELETE_IF_CONTAINS_MESSAGE,
+            removed.toString(), key.getName()));
+    }
+
+    /**
+     * Registers the service, replacing the service registered with the key
+     * if there is one.
+     *
+     * @param key     the key.
+     * @param service the service.
+     * @param <T>     the type of the value.
+     */
+    private static <T> void putReplacing(Class<T> key, Lazy<?> service) {
+        final Lazy<?> replaced = services.put(key, service);
+        if (replaced == null) {
             return;
         }
-        logger.info(String.format(DELETE_IF_CONTAINS_MESSAGE,
-            services.get(key).toString(), key.getName()));
-        services.remove(key);
+        logger.info(() -> String.format(DELETE_IF_CONTAINS_MESSAGE,
+            replaced.toString(), key.getName()));
     }
 
     /**
@@ -115,8 +138,7 @@ public class GetUtil {
     public static <T> void put(Class<T> key, T value) {
         requireNonNull(key);
         requireNonNull(value);
-        throwIfContains(key);
-        services.put(key, Lazy.of(value));
+        putOrThrow(key, Lazy.of(value));
     }
 
     /**
@@ -127,8 +149,8 @@ public class GetUtil {
      * @param <T>   the type of the service.
      */
     public static <T> void putForce(Class<T> key, T value) {
-        delete(key);
-        services.put(key, Lazy.of(value));
+        requireNonNull(key);
+        putReplacing(key, Lazy.of(value));
     }
 
     /**
@@ -142,8 +164,7 @@ public class GetUtil {
     public static <T> void putLazy(Class<T> key, Supplier<T> supplier) {
         requireNonNull(key);
         requireNonNull(supplier);
-        throwIfContains(key);
-        services.put(key, Lazy.of(supplier));
+        putOrThrow(key, Lazy.of(supplier));
     }
 
     /**
@@ -157,8 +178,7 @@ public class GetUtil {
     public static <T> void putLazyForce(Class<T> key, Supplier<T> supplier) {
         requireNonNull(key);
         requireNonNull(supplier);
-        delete(key);
-        services.put(key, Lazy.of(supplier));
+        putReplacing(key, Lazy.of(supplier));
     }
 
     /**
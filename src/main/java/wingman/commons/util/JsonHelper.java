@@ -52,4 +52,11 @@ public class JsonHelper {
     public <T> String toJsonString(T jsonFile) throws JsonProcessingException {
         return JsonUtil.toJsonString(jsonFile);
     }
+
+    /**
+     * @see JsonUtil#toCompactJsonString(Object)
+     */
+    public <T> String toCompactJsonString(T jsonFile) throws JsonProcessingException {
+        return JsonUtil.toCompactJsonString(jsonFile);
+    }
 }
@@ -0,0 +1,377 @@
+package wingman.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import wingman.commons.util.FileUtil;
+import wingman.model.OperationMode;
+
+/**
+ * Times the phases of the commands executed, per command word and
+ * operation mode, and the writes to the storage, per file. This shows
+ * whether a slow command spends its time being parsed, waiting for the
+ * model, changing the model and resolving links, or saving.
+ * <p>
+ * The times are kept in histograms of a fixed size, so the metrics take
+ * the same memory however many commands are executed. They can be
+ * recorded and read from any thread.
+ */
+public class CommandMetrics {
+    /**
+     * The phases of a command that are timed.
+     */
+    public enum Phase {
+        /**
+         * Parsing the command text into a command.
+         */
+        PARSE,
+        /**
+         * Waiting for the lock of the model, e.g. while a background reader
+         * holds it.
+         */
+        LOCK,
+        /**
+         * Executing the command against the model, including the resolution
+         * of the links it touches.
+         */
+        EXECUTE,
+        /**
+         * Capturing the modified data and scheduling it to be written.
+         */
+        SAVE
+    }
+
+    private static final String NO_COMMANDS_MESSAGE = "No commands have been timed yet.";
+
+    private static final String COMMAND_HEADER = "%s %s (%d command(s))";
+
+    private static final String WRITE_HEADER = "Writes to the storage";
+
+    private static final String LINE_FORMAT =
+            "  %s: p50 %s, p90 %s, p99 %s, max %s, total %s (%d)";
+
+    private final Map<Key, Histogram[]> commands = new ConcurrentHashMap<>();
+
+    private final Map<String, Histogram> writes = new ConcurrentHashMap<>();
+
+    /**
+     * Starts timing a command.
+     *
+     * @param mode        the operation mode in which the command is executed.
+     * @param commandText the command as entered by the user.
+     * @return the timer of the command.
+     */
+    public Timer startTimer(OperationMode mode, String commandText) {
+        requireNonNull(commandText);
+        final String trimmed = commandText.trim();
+        final int end = trimmed.indexOf(' ');
+        return new Timer(new Key(mode, end < 0 ? trimmed : trimmed.substring(0, end)));
+    }
+
+    /**
+     * Records the time taken by a phase of a command.
+     *
+     * @param mode        the operation mode in which the command is executed.
+     * @param commandWord the command word of the command.
+     * @param phase       the phase timed.
+     * @param nanos       the time taken, in nanoseconds.
+     */
+    public void record(OperationMode mode, String commandWord, Phase phase, long nanos) {
+        record(new Key(mode, commandWord), phase, nanos);
+    }
+
+    private void record(Key key, Phase phase, long nanos) {
+        commands.computeIfAbsent(key, k -> newHistograms())[phase.ordinal()].record(nanos);
+    }
+
+    private static Histogram[] newHistograms() {
+        final Histogram[] histograms = new Histogram[Phase.values().length];
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new Histogram();
+        }
+        return histograms;
+    }
+
+    /**
+     * Records the time taken to write a file to the storage.
+     *
+     * @param file  the file written.
+     * @param nanos the time taken, in nanoseconds.
+     */
+    public void recordWrite(String file, long nanos) {
+        writes.computeIfAbsent(file, f -> new Histogram()).record(nanos);
+    }
+
+    /**
+     * Returns the number of times the phase of the command has been timed.
+     *
+     * @param mode        the operation mode in which the command is executed.
+     * @param commandWord the command word of the command.
+     * @param phase       the phase timed.
+     * @return the number of times timed.
+     */
+    public long getCount(OperationMode mode, String commandWord, Phase phase) {
+        final Histogram[] histograms = commands.get(new Key(mode, commandWord));
+        return histograms == null ? 0 : histograms[phase.ordinal()].getCount();
+    }
+
+    /**
+     * Returns the number of times the file has been written.
+     *
+     * @param file the file written.
+     * @return the number of writes.
+     */
+    public long getWriteCount(String file) {
+        final Histogram histogram = writes.get(file);
+        return histogram == null ? 0 : histogram.getCount();
+    }
+
+    /**
+     * Returns true if no command or write has been timed yet.
+     *
+     * @return whether nothing has been timed.
+     */
+    public boolean isEmpty() {
+        return commands.isEmpty() && writes.isEmpty();
+    }
+
+    /**
+     * Returns a summary of the times recorded so far, one block per command
+     * word and operation mode, followed by the writes to the storage.
+     *
+     * @return the summary of the times.
+     */
+    public String toReport() {
+        if (isEmpty()) {
+            return NO_COMMANDS_MESSAGE;
+        }
+        final List<String> lines = new ArrayList<>();
+        final List<Map.Entry<Key, Histogram[]>> entries = new ArrayList<>(commands.entrySet());
+        entries.sort(Map.Entry.comparingByKey(Key.ORDER));
+        for (Map.Entry<Key, Histogram[]> entry : entries) {
+            final Histogram[] histograms = entry.getValue();
+            final Key key = entry.getKey();
+            long count = 0;
+            for (Histogram histogram : histograms) {
+                count = Math.max(count, histogram.getCount());
+            }
+            lines.add(String.format(COMMAND_HEADER, key.mode.name().toLowerCase(), key.commandWord, count));
+            for (Phase phase : Phase.values()) {
+                final Histogram histogram = histograms[phase.ordinal()];
+                if (histogram.getCount() > 0) {
+                    lines.add(formatLine(phase.name().toLowerCase(), histogram));
+                }
+            }
+        }
+        if (!writes.isEmpty()) {
+            lines.add(WRITE_HEADER);
+            writes.entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey())
+                    .forEach(entry -> lines.add(formatLine(entry.getKey().toLowerCase(), entry.getValue())));
+        }
+        return String.join("\n", lines);
+    }
+
+    /**
+     * Writes the summary of the times recorded so far to the given file.
+     *
+     * @param file the file to be written.
+     * @throws IOException if the file cannot be written.
+     */
+    public void writeTo(Path file) throws IOException {
+        FileUtil.createIfMissing(file);
+        FileUtil.writeToFile(file, toReport() + System.lineSeparator());
+    }
+
+    private static String formatLine(String label, Histogram histogram) {
+        final Histogram.Summary summary = histogram.summarize();
+        return String.format(LINE_FORMAT, label,
+                formatNanos(summary.p50), formatNanos(summary.p90), formatNanos(summary.p99),
+                formatNanos(summary.max), formatNanos(summary.total), summary.count);
+    }
+
+    private static String formatNanos(long nanos) {
+        if (nanos < 1_000_000) {
+            return String.format("%.1f us", nanos / 1e3);
+        }
+        return String.format("%.1f ms", nanos / 1e6);
+    }
+
+    /**
+     * Times the phases of a single command, each phase starting when the
+     * previous one has ended.
+     */
+    public final class Timer {
+        private final Key key;
+
+        private long lapStart = System.nanoTime();
+
+        private Timer(Key key) {
+            this.key = key;
+        }
+
+        /**
+         * Records the time since the previous phase ended, or since the
+         * timer was started, as the time taken by the given phase.
+         *
+         * @param phase the phase that has just ended.
+         */
+        public void lap(Phase phase) {
+            final long now = System.nanoTime();
+            record(key, phase, now - lapStart);
+            lapStart = now;
+        }
+    }
+
+    /**
+     * Identifies the commands that are timed together.
+     */
+    private static final class Key {
+        private static final Comparator<Key> ORDER = Comparator
+                .comparing((Key key) -> key.mode)
+                .thenComparing(key -> key.commandWord);
+
+        private final OperationMode mode;
+
+        private final String commandWord;
+
+        private Key(OperationMode mode, String commandWord) {
+            this.mode = requireNonNull(mode);
+            this.commandWord = requireNonNull(commandWord);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            final Key otherKey = (Key) other;
+            return mode == otherKey.mode && commandWord.equals(otherKey.commandWord);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(mode, commandWord);
+        }
+    }
+
+    /**
+     * A histogram of durations in nanoseconds, with buckets that are 1/8 of
+     * a power of two wide, so that the percentiles are accurate to within
+     * an eighth whatever the range of the durations.
+     */
+    static final class Histogram {
+        private static final int SUB_BUCKET_BITS = 3;
+
+        private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+        /**
+         * The durations below this are counted exactly, one bucket each.
+         */
+        private static final int LINEAR_LIMIT = 2 * SUB_BUCKET_COUNT;
+
+        private static final int BUCKET_COUNT =
+                LINEAR_LIMIT + (Long.SIZE - 1 - (SUB_BUCKET_BITS + 1)) * SUB_BUCKET_COUNT;
+
+        private final long[] counts = new long[BUCKET_COUNT];
+
+        private long count;
+
+        private long total;
+
+        private long max;
+
+        synchronized void record(long nanos) {
+            final long value = Math.max(0, nanos);
+            counts[bucketOf(value)]++;
+            count++;
+            total += value;
+            max = Math.max(max, value);
+        }
+
+        synchronized long getCount() {
+            return count;
+        }
+
+        synchronized Summary summarize() {
+            return new Summary(count, total, max,
+                    percentile(0.5), percentile(0.9), percentile(0.99));
+        }
+
+        /**
+         * Returns the upper bound of the bucket holding the nearest-rank
+         * percentile, capped at the largest duration recorded.
+         */
+        private long percentile(double fraction) {
+            if (count == 0) {
+                return 0;
+            }
+            final long rank = Math.max(1, (long) Math.ceil(fraction * count));
+            long seen = 0;
+            for (int bucket = 0; bucket < counts.length; bucket++) {
+                seen += counts[bucket];
+                if (seen >= rank) {
+                    return Math.min(max, upperBoundOf(bucket));
+                }
+            }
+            return max;
+        }
+
+        static int bucketOf(long value) {
+            if (value < LINEAR_LIMIT) {
+                return (int) value;
+            }
+            final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+            final int shift = exponent - SUB_BUCKET_BITS;
+            final int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+            return LINEAR_LIMIT + (exponent - SUB_BUCKET_BITS - 1) * SUB_BUCKET_COUNT + subBucket;
+        }
+
+        static long upperBoundOf(int bucket) {
+            if (bucket < LINEAR_LIMIT) {
+                return bucket;
+            }
+            final int exponent = (bucket - LINEAR_LIMIT) / SUB_BUCKET_COUNT + SUB_BUCKET_BITS + 1;
+            final int subBucket = (bucket - LINEAR_LIMIT) % SUB_BUCKET_COUNT;
+            final int shift = exponent - SUB_BUCKET_BITS;
+            return ((long) (SUB_BUCKET_COUNT + subBucket + 1) << shift) - 1;
+        }
+
+        /**
+         * The statistics of a histogram at a point in time.
+         */
+        static final class Summary {
+            private final long count;
+
+            private final long total;
+
+            private final long max;
+
+            private final long p50;
+
+            private final long p90;
+
+            private final long p99;
+
+            private Summary(long count, long total, long max, long p50, long p90, long p99) {
+                this.count = count;
+                this.total = total;
+                this.max = max;
+                this.p50 = p50;
+                this.p90 = p90;
+                this.p99 = p99;
+            }
+        }
+    }
+}
@@ -1,10 +1,15 @@
 package wingman.logic;
 
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Consumer;
+
 import javafx.collections.ObservableList;
 import wingman.commons.core.GuiSettings;
 import wingman.logic.core.CommandResult;
 import wingman.logic.core.exceptions.CommandException;
 import wingman.logic.core.exceptions.ParseException;
+import wingman.model.ModelEvent;
 import wingman.model.OperationMode;
 import wingman.model.crew.Crew;
 import wingman.model.flight.Flight;
@@ -27,6 +32,46 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the commands in order as one transaction, and saves the
+     * data once after all of them have been executed. If any command
+     * fails, the changes made by the earlier commands are rolled back and
+     * nothing is saved. If a command runs the batch, e.g. {@code batch}, the
+     * changes are saved along with that command instead.
+     *
+     * @param commandTexts the commands as entered by the user.
+     * @return the results of the commands, in order.
+     * @throws CommandException If an error occurs during command execution.
+     * @throws ParseException   If an error occurs during parsing.
+     */
+    List<CommandResult> executeBatch(List<String> commandTexts) throws CommandException, ParseException;
+
+    /**
+     * Returns the number of files that were scheduled to be written to the
+     * storage after the last command was executed. Only the data that the
+     * command has modified is written.
+     *
+     * @return the number of files written by the last command.
+     */
+    int getLastSavedFileCount();
+
+    /**
+     * Returns the times taken by the phases of the commands executed so
+     * far, and by the writes to the storage.
+     *
+     * @return the metrics of the commands.
+     */
+    CommandMetrics getCommandMetrics();
+
+    /**
+     * Blocks until all the data saved so far has been written to the
+     * storage. Saving is done in the background, so this should be called
+     * before the application exits.
+     *
+     * @throws IOException if any of the pending writes has failed.
+     */
+    void flushSaves() throws IOException;
+
     /**
      * Returns the user prefs' GUI settings.
      */
@@ -85,4 +130,13 @@ public interface Logic {
      * @return the filtered list of locations.
      */
     ObservableList<Location> getFilteredLocationList();
+
+    /**
+     * Registers a listener to be notified of every change to the items of
+     * the model, on the thread executing the commands.
+     *
+     * @param listener the listener.
+     * @see wingman.model.Model#addListener(Consumer)
+     */
+    void addModelListener(Consumer<? super ModelEvent> listener);
 }
@@ -1,6 +1,15 @@
 package wingman.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -11,14 +20,19 @@ import wingman.logic.core.CommandResult;
 import wingman.logic.core.WingmanParser;
 import wingman.logic.core.exceptions.CommandException;
 import wingman.logic.core.exceptions.ParseException;
+import wingman.logic.toplevel.batch.BatchCommandFactory;
 import wingman.model.Model;
+import wingman.model.ModelEvent;
 import wingman.model.OperationMode;
+import wingman.model.UndoLog;
 import wingman.model.crew.Crew;
 import wingman.model.flight.Flight;
 import wingman.model.item.Item;
 import wingman.model.location.Location;
 import wingman.model.pilot.Pilot;
 import wingman.model.plane.Plane;
+import wingman.storage.PendingWrite;
+import wingman.storage.PersistenceExecutor;
 import wingman.storage.Storage;
 
 /**
@@ -28,10 +42,36 @@ import wingman.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    private static final String SAVED_FILES_MESSAGE = "Scheduled %d file(s) to be saved after command: %s";
+    private static final String USER_PREFS_KEY = "USER_PREFS";
+    private static final String BATCH_FAILURE_MESSAGE =
+            "Command %d of the batch failed, so the whole batch has been rolled back.\n%s: %s";
+    private static final String NESTED_BATCH_MESSAGE = "A batch cannot run another batch.";
+    private static final String EARLIER_SAVE_FAILED_WARNING =
+            "Warning: an earlier save failed, so all the data has been scheduled to be saved again: %s";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
     private final Model model;
     private final Storage storage;
     private final WingmanParser parser;
+    private final CommandMetrics metrics = new CommandMetrics();
+    private final PersistenceExecutor persistenceExecutor;
+
+    /**
+     * The number of files scheduled to be written after the last command.
+     */
+    private int lastSavedFileCount;
+
+    /**
+     * Whether a command is being executed, under the write lock of the
+     * model. A batch run by such a command, e.g. {@code batch roster.txt},
+     * is saved along with that command.
+     */
+    private boolean isExecuting;
+
+    /**
+     * Whether the commands of a batch are being executed.
+     */
+    private boolean isRunningBatch;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and
@@ -45,6 +85,22 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         this.parser = parser;
+        this.persistenceExecutor = new PersistenceExecutor(metrics::recordWrite);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} that saves through the given
+     * {@code PersistenceExecutor}, e.g. for tests to wait for the writes.
+     *
+     * @param model               the model to use.
+     * @param storage             the storage to use.
+     * @param persistenceExecutor the executor performing the writes.
+     */
+    LogicManager(Model model, Storage storage, PersistenceExecutor persistenceExecutor) {
+        this.model = model;
+        this.storage = storage;
+        this.parser = new WingmanParser();
+        this.persistenceExecutor = persistenceExecutor;
     }
 
     /**
@@ -60,28 +116,188 @@ public class LogicManager implements Logic {
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
+        final CommandMetrics.Timer timer = metrics.startTimer(getOperationMode(), commandText);
         final Command command = parser.parse(getOperationMode(), commandText);
-        final CommandResult result = command.execute(model);
-        this.save();
-        return result;
+        timer.lap(CommandMetrics.Phase.PARSE);
+        final Lock writeLock = model.getLock().writeLock();
+        writeLock.lock();
+        isExecuting = true;
+        try {
+            timer.lap(CommandMetrics.Phase.LOCK);
+            final CommandResult result = command.execute(model);
+            timer.lap(CommandMetrics.Phase.EXECUTE);
+            final Optional<String> warning = persist(commandText);
+            timer.lap(CommandMetrics.Phase.SAVE);
+            return warning.map(message -> withWarning(result, message)).orElse(result);
+        } finally {
+            isExecuting = false;
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public List<CommandResult> executeBatch(List<String> commandTexts) throws CommandException, ParseException {
+        requireNonNull(commandTexts);
+        final CommandMetrics.Timer batchTimer =
+                metrics.startTimer(getOperationMode(), BatchCommandFactory.COMMAND_WORD);
+        final Lock writeLock = model.getLock().writeLock();
+        writeLock.lock();
+        final boolean isRunByCommand = isExecuting;
+        isExecuting = true;
+        try {
+            if (isRunByCommand) {
+                // the command running the batch is timed and saved as a whole
+                return runBatch(commandTexts);
+            }
+            batchTimer.lap(CommandMetrics.Phase.LOCK);
+            final List<CommandResult> results = runBatch(commandTexts);
+            batchTimer.lap(CommandMetrics.Phase.EXECUTE);
+            final Optional<String> warning = persist(String.format("batch of %d command(s)", commandTexts.size()));
+            batchTimer.lap(CommandMetrics.Phase.SAVE);
+            if (warning.isPresent() && !results.isEmpty()) {
+                final int last = results.size() - 1;
+                results.set(last, withWarning(results.get(last), warning.get()));
+            }
+            return results;
+        } finally {
+            isExecuting = isRunByCommand;
+            writeLock.unlock();
+        }
     }
 
     /**
-     * Saves the current state of the application to the storage.
+     * Executes the commands in order, recording the changes they make to
+     * the model in an {@link UndoLog}, which rolls them back if any command
+     * fails. Must be called under the write lock of the model.
      *
+     * @param commandTexts the commands as entered by the user.
+     * @return the results of the commands, in order.
+     */
+    private List<CommandResult> runBatch(List<String> commandTexts) throws CommandException, ParseException {
+        if (isRunningBatch) {
+            throw new CommandException(NESTED_BATCH_MESSAGE);
+        }
+        isRunningBatch = true;
+        final UndoLog undoLog = model.startUndoLog();
+        try {
+            final List<CommandResult> results = new ArrayList<>(commandTexts.size());
+            for (int i = 0; i < commandTexts.size(); i++) {
+                final String commandText = commandTexts.get(i);
+                try {
+                    final CommandMetrics.Timer timer = metrics.startTimer(getOperationMode(), commandText);
+                    final Command command = parser.parse(getOperationMode(), commandText);
+                    timer.lap(CommandMetrics.Phase.PARSE);
+                    results.add(command.execute(model));
+                    timer.lap(CommandMetrics.Phase.EXECUTE);
+                } catch (CommandException e) {
+                    undoLog.rollback();
+                    throw new CommandException(batchFailureMessage(i, commandText, e), e);
+                } catch (ParseException e) {
+                    undoLog.rollback();
+                    throw new ParseException(batchFailureMessage(i, commandText, e), e);
+                } catch (RuntimeException e) {
+                    undoLog.rollback();
+                    throw e;
+                }
+            }
+            return results;
+        } finally {
+            undoLog.commit();
+            isRunningBatch = false;
+        }
+    }
+
+    private static String batchFailureMessage(int index, String commandText, Exception e) {
+        return String.format(BATCH_FAILURE_MESSAGE, index + 1, commandText, e.getMessage());
+    }
+
+    /**
+     * Saves the changes made by the given commands. A failure of the writes
+     * scheduled previously does not fail the commands, which have taken
+     * effect and whose changes have been scheduled to be saved along with
+     * all the data, so it is returned as a warning instead.
+     *
+     * @param description the description of the commands, for logging.
+     * @return the warning about a failure of the previous writes, if any.
+     * @throws CommandException if the changes could not be prepared for
+     *                          saving.
+     */
+    private Optional<String> persist(String description) throws CommandException {
+        final Optional<IOException> failure = persistenceExecutor.takeFailure();
+        this.save(failure.isPresent());
+        logger.fine(() -> String.format(SAVED_FILES_MESSAGE, lastSavedFileCount, description));
+        return failure.map(e -> String.format(EARLIER_SAVE_FAILED_WARNING, e));
+    }
+
+    private static CommandResult withWarning(CommandResult result, String warning) {
+        return new CommandResult(result.getFeedbackToUser() + "\n" + warning,
+                result.isShowHelp(), result.isExit());
+    }
+
+    /**
+     * Saves the current state of the application to the storage in the
+     * background. Only the managers that have been modified since the last
+     * save are written, unless {@code isFullSave} is set.
+     *
+     * @param isFullSave whether all the managers should be written, e.g.
+     *                   because a previous write has failed.
      * @throws CommandException if there was an error during saving.
      */
-    private void save() throws CommandException {
+    private void save(boolean isFullSave) throws CommandException {
+        final Set<OperationMode> dirtyManagers = isFullSave
+                ? EnumSet.allOf(OperationMode.class)
+                : model.getDirtyManagers();
+        int savedFileCount = 0;
         try {
-            storage.savePilotManager(model.getPilotManager());
-            storage.savePlaneManager(model.getPlaneManager());
-            storage.saveCrewManager(model.getCrewManager());
-            storage.saveLocationManager(model.getLocationManager());
-            storage.saveFlightManager(model.getFlightManager());
-            storage.saveUserPrefs(model.getUserPrefs());
+            if (dirtyManagers.contains(OperationMode.PILOT)) {
+                schedule(OperationMode.PILOT, storage.prepareSavePilotManager(model.getPilotManager()));
+                savedFileCount++;
+            }
+            if (dirtyManagers.contains(OperationMode.PLANE)) {
+                schedule(OperationMode.PLANE, storage.prepareSavePlaneManager(model.getPlaneManager()));
+                savedFileCount++;
+            }
+            if (dirtyManagers.contains(OperationMode.CREW)) {
+                schedule(OperationMode.CREW, storage.prepareSaveCrewManager(model.getCrewManager()));
+                savedFileCount++;
+            }
+            if (dirtyManagers.contains(OperationMode.LOCATION)) {
+                schedule(OperationMode.LOCATION, storage.prepareSaveLocationManager(model.getLocationManager()));
+                savedFileCount++;
+            }
+            if (dirtyManagers.contains(OperationMode.FLIGHT)) {
+                schedule(OperationMode.FLIGHT, storage.prepareSaveFlightManager(model.getFlightManager()));
+                savedFileCount++;
+            }
+            if (isFullSave || model.isUserPrefsDirty()) {
+                persistenceExecutor.submit(USER_PREFS_KEY, storage.prepareSaveUserPrefs(model.getUserPrefs()));
+                savedFileCount++;
+            }
         } catch (IOException e) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + e, e);
+        } finally {
+            lastSavedFileCount = savedFileCount;
         }
+        model.markAllClean();
+    }
+
+    private void schedule(OperationMode mode, PendingWrite write) {
+        persistenceExecutor.submit(mode.name(), write);
+    }
+
+    @Override
+    public void flushSaves() throws IOException {
+        persistenceExecutor.flush();
+    }
+
+    @Override
+    public CommandMetrics getCommandMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public int getLastSavedFileCount() {
+        return lastSavedFileCount;
     }
 
     @Override
@@ -96,56 +312,44 @@ public class LogicManager implements Logic {
 
     @Override
     public ObservableList<Item> getFilteredItemList() {
-        logger.info("Getting filtered item list: " + model
-                                                             .getItemsList()
-                                                             .size() + " "
-                            + "items");
+        logger.fine(() -> "Getting filtered item list: "
+                + model.getItemsList().size() + " items");
         return model.getItemsList();
     }
 
     @Override
     public ObservableList<Flight> getFilteredFlightList() {
-        logger.info("Getting filtered flight list: " + model
-                                                               .getFlightList()
-                                                               .size() + " "
-                            + "flights");
+        logger.fine(() -> "Getting filtered flight list: "
+                + model.getFlightList().size() + " flights");
         return model.getFlightList();
     }
 
     @Override
     public ObservableList<Crew> getFilteredCrewList() {
-        logger.info("Getting filtered crew list: " + model
-                                                             .getCrewList()
-                                                             .size() + " "
-                            + "crew");
+        logger.fine(() -> "Getting filtered crew list: "
+                + model.getCrewList().size() + " crew");
         return model.getCrewList();
     }
 
     @Override
     public ObservableList<Plane> getFilteredPlaneList() {
-        logger.info("Getting filtered plane list: " + model
-                                                              .getPlaneList()
-                                                              .size() + " "
-                            + "planes");
+        logger.fine(() -> "Getting filtered plane list: "
+                + model.getPlaneList().size() + " planes");
         return model.getPlaneList();
     }
 
     @Override
     public ObservableList<Pilot> getFilteredPilotList() {
-        logger.info("Getting filtered pilot list: " + model
-                                                              .getPilotList()
-                                                              .size() + " "
-                            + "pilots");
+        logger.fine(() -> "Getting filtered pilot list: "
+                + model.getPilotList().size() + " pilots");
         return model.getPilotList();
     }
 
     @Override
 
     public ObservableList<Location> getFilteredLocationList() {
-        logger.info("Getting filtered location list: " + model
-                                                                 .getLocationList()
-                                                                 .size() + " "
-                            + "locations");
+        logger.fine(() -> "Getting filtered location list: "
+                + model.getLocationList().size() + " locations");
         return model.getLocationList();
     }
 
@@ -153,4 +357,9 @@ public class LogicManager implements Logic {
     public OperationMode getOperationMode() {
         return model.getOperationMode();
     }
+
+    @Override
+    public void addModelListener(Consumer<? super ModelEvent> listener) {
+        model.addListener(listener);
+    }
 }
@@ -1,18 +1,32 @@
 package wingman.logic.core;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import wingman.logic.core.exceptions.CommandException;
 import wingman.logic.core.exceptions.ParseException;
 
 /**
  * Represents the parameters of a command.
+ * <p>
+ * The named values are kept in an array indexed by the ordinal of their
+ * prefixes, i.e. the position of the prefix in the sorted prefixes of the
+ * command, so that parsing a command does not need a map of optionals.
  */
 public class CommandParam {
+    /**
+     * The sorted prefixes of each prefix set that commands have been parsed
+     * with, which give the ordinals of the prefixes.
+     */
+    private static final Map<Set<String>, String[]> PREFIX_TABLES =
+            new ConcurrentHashMap<>();
+
     /**
      * The unnamed token of the command, which is the part right after
      * command word and before the first prefix.
@@ -20,10 +34,17 @@ public class CommandParam {
     private final Optional<String> unnamedValue;
 
     /**
-     * The named token of the command, which is the part right after
-     * one prefix and before the next prefix.
+     * The sorted prefixes of the command, or null if the command has no
+     * named tokens. This array is shared and must not be modified.
+     */
+    private final String[] prefixes;
+
+    /**
+     * The named token of the command following each prefix, which is the
+     * part right after one prefix and before the next prefix, indexed by
+     * the ordinal of the prefix. A prefix without a value maps to null.
      */
-    private final Optional<Map<String, Optional<String>>> namedValues;
+    private final String[] values;
 
     /**
      * Creates a command parameter from the given tokens. Note that this
@@ -41,7 +62,27 @@ public class CommandParam {
             Optional<Map<String, Optional<String>>> namedValues
     ) {
         this.unnamedValue = unnamedValue;
-        this.namedValues = namedValues;
+        if (namedValues.isEmpty()) {
+            this.prefixes = null;
+            this.values = null;
+            return;
+        }
+        final Map<String, Optional<String>> map = namedValues.get();
+        this.prefixes = map.keySet().stream().sorted().toArray(String[]::new);
+        this.values = new String[prefixes.length];
+        for (int i = 0; i < prefixes.length; i++) {
+            values[i] = map.get(prefixes[i]).orElse(null);
+        }
+    }
+
+    private CommandParam(
+            Optional<String> unnamedValue,
+            String[] prefixes,
+            String[] values
+    ) {
+        this.unnamedValue = unnamedValue;
+        this.prefixes = prefixes;
+        this.values = values;
     }
 
     /**
@@ -62,50 +103,66 @@ public class CommandParam {
     ) throws ParseException {
         // special cases
         if (tokens.size() == 0) {
-            return new CommandParam(
-                    Optional.empty(),
-                    Optional.empty()
-            );
+            return new CommandParam(Optional.empty(), null, null);
         }
         if (prefixes.isEmpty()) {
             return new CommandParam(
                     Optional.of(String.join(" ", tokens)),
-                    Optional.empty()
+                    null,
+                    null
             );
         }
         // set up
-        Set<String> prefixMap = prefixes.get();
+        final String[] table = PREFIX_TABLES.computeIfAbsent(
+                prefixes.get(),
+                (set) -> set.stream().sorted().toArray(String[]::new)
+        );
+        final StringBuilder builder = new StringBuilder();
         // handle the unnamed token
-        Optional<String> unnamedValue =
-                parseUnnamedValue(tokens, prefixMap);
+        final Optional<String> unnamedValue =
+                parseUnnamedValue(tokens, table, builder);
         // handle the named tokens
-        Map<String, Optional<String>> namedValues =
-                parseNamedValues(tokens, prefixMap);
-        return new CommandParam(unnamedValue, Optional.of(namedValues));
+        final String[] namedValues =
+                parseNamedValues(tokens, table, builder);
+        return new CommandParam(unnamedValue, table, namedValues);
+    }
+
+    /**
+     * Returns the ordinal of the prefix in the given sorted prefixes.
+     *
+     * @param prefixes the sorted prefixes.
+     * @param token    the token to look up.
+     * @return the ordinal of the token, or -1 if it is not a prefix.
+     */
+    private static int ordinalOf(String[] prefixes, String token) {
+        for (int i = 0; i < prefixes.length; i++) {
+            if (prefixes[i].equals(token)) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     /**
      * Parses the unnamed value from the given tokens. The unnamed value is
      * the part right after the command word and before the first prefix.
      * Note that it is assumed that the tokens already have the command word
-     * removed. The prefix set is used to determine when the unnamed value
+     * removed. The prefixes are used to determine when the unnamed value
      * ends.
      *
      * @param tokens   the tokens of the command, with the command word
      *                 removed.
-     * @param prefixes the prefixes of the command.
+     * @param prefixes the sorted prefixes of the command.
+     * @param builder  the empty builder to join the tokens with.
      * @return the unnamed value parsed.
      */
     private static Optional<String> parseUnnamedValue(
             Deque<String> tokens,
-            Set<String> prefixes
+            String[] prefixes,
+            StringBuilder builder
     ) throws ParseException {
-        if (tokens.size() == 0) {
-            return Optional.empty();
-        }
-        final StringBuilder builder = new StringBuilder();
         while (tokens.size() > 0) {
-            if (prefixes.contains(tokens.peek())) {
+            if (ordinalOf(prefixes, tokens.peek()) >= 0) {
                 break;
             }
             builder.append(tokens.pop()).append(" ");
@@ -113,7 +170,9 @@ public class CommandParam {
         if (builder.length() == 0) {
             return Optional.empty();
         }
-        return Optional.of(builder.toString().trim());
+        final String value = builder.toString().trim();
+        builder.setLength(0);
+        return Optional.of(value);
     }
 
     /**
@@ -124,70 +183,61 @@ public class CommandParam {
      *
      * @param tokens   the tokens of the command, with the command word and
      *                 the unnamed value removed.
-     * @param prefixes the prefixes of the command.
-     * @return the named values parsed.
+     * @param prefixes the sorted prefixes of the command.
+     * @param builder  the empty builder to join the tokens with.
+     * @return the named values parsed, indexed by the ordinals of their
+     *         prefixes.
      */
-    private static Map<String, Optional<String>> parseNamedValues(
+    private static String[] parseNamedValues(
             Deque<String> tokens,
-            Set<String> prefixes
+            String[] prefixes,
+            StringBuilder builder
     ) throws ParseException {
+        final String[] values = new String[prefixes.length];
         if (tokens.size() == 0) {
-            return padNamedValues(new HashMap<>(), prefixes);
+            return values;
         }
-        Map<String, Optional<String>> namedValues = new HashMap<>();
-        String prefix = tokens.pop();
+        int ordinal = ordinalOf(prefixes, tokens.pop());
         // just to be defensive, despite the assumption
-        while (!prefixes.contains(prefix)) {
-            prefix = tokens.pop();
+        while (ordinal < 0) {
+            ordinal = ordinalOf(prefixes, tokens.pop());
         }
-        final StringBuilder builder = new StringBuilder();
         while (tokens.size() > 0) {
-            if (!prefixes.contains(tokens.peek())) {
+            final int next = ordinalOf(prefixes, tokens.peek());
+            if (next < 0) {
                 builder.append(tokens.pop()).append(" ");
                 continue;
             }
-            // check if it is already in there.
-            if (namedValues.containsKey(prefix)
-                        && namedValues.get(prefix).isPresent()) {
-                throw ParseException.formatted(
-                        "Found duplicated keys: %s",
-                        prefix
-                );
-            }
-            namedValues.put(prefix, Optional.of(builder.toString().trim()));
-            prefix = tokens.pop();
+            putValue(values, prefixes, ordinal, builder.toString().trim());
+            tokens.pop();
+            ordinal = next;
             builder.setLength(0);
         }
         if (builder.length() > 0) {
-            if (namedValues.containsKey(prefix)
-                        && namedValues.get(prefix).isPresent()) {
-                throw ParseException.formatted(
-                        "Found duplicated keys: %s",
-                        prefix
-                );
-            }
-            namedValues.put(prefix, Optional.of(builder.toString().trim()));
+            putValue(values, prefixes, ordinal, builder.toString().trim());
         }
-        return padNamedValues(namedValues, prefixes);
+        return values;
     }
 
     /**
-     * Pad the named values with empty values for the prefixes that are not
-     * present in the named values.
+     * Puts the value of the prefix with the given ordinal, unless the
+     * prefix already has a value.
      *
-     * @param namedValues the named values to pad.
-     * @param prefixes    the prefixes to pad.
-     * @return the named values padded.
+     * @throws ParseException if the prefix already has a value.
      */
-    private static Map<String, Optional<String>> padNamedValues(
-            Map<String, Optional<String>> namedValues, Set<String> prefixes
-    ) {
-        for (String p : prefixes) {
-            if (!namedValues.containsKey(p)) {
-                namedValues.put(p, Optional.empty());
-            }
+    private static void putValue(
+            String[] values,
+            String[] prefixes,
+            int ordinal,
+            String value
+    ) throws ParseException {
+        if (values[ordinal] != null) {
+            throw ParseException.formatted(
+                    "Found duplicated keys: %s",
+                    prefixes[ordinal]
+            );
         }
-        return namedValues;
+        values[ordinal] = value;
     }
 
     /**
@@ -227,18 +277,29 @@ public class CommandParam {
      * @return the named token of the command.
      */
     public Optional<Map<String, Optional<String>>> getNamedValues() {
+        if (prefixes == null) {
+            return Optional.empty();
+        }
+        final Map<String, Optional<String>> namedValues = new HashMap<>();
+        for (int i = 0; i < prefixes.length; i++) {
+            namedValues.put(prefixes[i], Optional.ofNullable(values[i]));
+        }
         // so that the caller cannot modify the named token
-        return namedValues.map(Map::copyOf);
+        return Optional.of(Collections.unmodifiableMap(namedValues));
     }
 
     /**
      * Gets the value of the named token with the given prefix.
      */
     public Optional<String> getNamedValues(String prefix) {
-        if (namedValues.isEmpty()) {
+        if (prefixes == null) {
+            return Optional.empty();
+        }
+        final int ordinal = ordinalOf(prefixes, prefix);
+        if (ordinal < 0) {
             return Optional.empty();
         }
-        return namedValues.get().get(prefix);
+        return Optional.ofNullable(values[ordinal]);
     }
 
     /**
@@ -346,6 +407,7 @@ public class CommandParam {
         }
         CommandParam otherCommandParam = (CommandParam) other;
         return unnamedValue.equals(otherCommandParam.unnamedValue)
-                       && namedValues.equals(otherCommandParam.namedValues);
+                       && Arrays.equals(prefixes, otherCommandParam.prefixes)
+                       && Arrays.equals(values, otherCommandParam.values);
     }
 }
@@ -2,8 +2,11 @@ package wingman.logic.core;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collections;
 import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import wingman.logic.core.exceptions.CommandException;
@@ -14,6 +17,12 @@ import wingman.logic.core.exceptions.ParseException;
  * factories.
  */
 public abstract class FactoryParser {
+    /**
+     * The factories indexed by their command words, built from
+     * {@link #getFactories()} the first time a command is parsed.
+     */
+    private Map<String, CommandFactory<?>> factoriesByWord;
+
     /**
      * Gets the list of factories that this parser handles.
      *
@@ -21,6 +30,24 @@ public abstract class FactoryParser {
      */
     protected abstract List<CommandFactory<?>> getFactories();
 
+    /**
+     * Returns the factories indexed by their command words. If several
+     * factories share a command word, the first one in
+     * {@link #getFactories()} wins.
+     *
+     * @return the unmodifiable map from command words to factories.
+     */
+    private Map<String, CommandFactory<?>> getFactoriesByWord() {
+        if (factoriesByWord == null) {
+            final Map<String, CommandFactory<?>> map = new HashMap<>();
+            for (CommandFactory<?> factory : getFactories()) {
+                map.putIfAbsent(factory.getCommandWord(), factory);
+            }
+            factoriesByWord = Collections.unmodifiableMap(map);
+        }
+        return factoriesByWord;
+    }
+
     /**
      * Parses the given tokens and returns the corresponding command. If
      * there is no command that matches the tokens, an empty optional is
@@ -36,15 +63,13 @@ public abstract class FactoryParser {
         if (tokens.isEmpty()) {
             throw new ParseException("Tokens is empty");
         }
-        String commandWord = tokens.peek();
-        for (CommandFactory<?> factory : getFactories()) {
-            if (commandWord.equals(factory.getCommandWord())) {
-                tokens.pop();
-                final CommandParam param =
-                        CommandParam.from(tokens, factory.getPrefixes());
-                return Optional.of(factory.createCommand(param));
-            }
+        final CommandFactory<?> factory = getFactoriesByWord().get(tokens.peek());
+        if (factory == null) {
+            return Optional.empty();
         }
-        return Optional.empty();
+        tokens.pop();
+        final CommandParam param =
+                CommandParam.from(tokens, factory.getPrefixes());
+        return Optional.of(factory.createCommand(param));
     }
 }
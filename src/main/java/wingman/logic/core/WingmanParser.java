@@ -1,9 +1,11 @@
 package wingman.logic.core;
 
 import java.util.ArrayDeque;
-import java.util.Arrays;
+import java.util.Collections;
 import java.util.Deque;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import wingman.logic.core.exceptions.CommandException;
@@ -16,8 +18,10 @@ import wingman.logic.pilot.linklocation.PilotLocationLinkCommandFactory;
 import wingman.logic.plane.linkflight.PlaneFlightLinkCommandFactory;
 import wingman.logic.plane.linklocation.PlaneLocationLinkCommandFactory;
 import wingman.logic.toplevel.add.AddCommandFactory;
+import wingman.logic.toplevel.batch.BatchCommandFactory;
 import wingman.logic.toplevel.changemode.ChangeModeCommandFactory;
 import wingman.logic.toplevel.delete.DeleteCommandFactory;
+import wingman.logic.toplevel.stats.StatsCommandFactory;
 import wingman.logic.toplevel.syntax.CrewSyntax;
 import wingman.logic.toplevel.syntax.FlightSyntax;
 import wingman.logic.toplevel.syntax.LocationSyntax;
@@ -128,13 +132,16 @@ public class WingmanParser extends FactoryParser {
      * The top level command factories that are available in the application.
      */
     private static final List<CommandFactory<?>> COMMAND_FACTORIES = List.of(
-            new ChangeModeCommandFactory()
+            new ChangeModeCommandFactory(),
+            new BatchCommandFactory(),
+            new StatsCommandFactory()
     );
 
     /**
-     * The command groups that are available in the application.
+     * The command groups that are available in the application, indexed by
+     * their operation modes.
      */
-    private final List<CommandGroup> groups;
+    private final Map<OperationMode, CommandGroup> groups;
 
     /**
      * The list of top-level factories that produces commands.
@@ -153,7 +160,12 @@ public class WingmanParser extends FactoryParser {
             List<CommandGroup> commandGroups,
             List<CommandFactory<?>> factories
     ) {
-        this.groups = commandGroups;
+        final Map<OperationMode, CommandGroup> groups =
+                new EnumMap<>(OperationMode.class);
+        for (CommandGroup group : commandGroups) {
+            groups.putIfAbsent(group.getOperationMode(), group);
+        }
+        this.groups = Collections.unmodifiableMap(groups);
         this.factories = factories;
     }
 
@@ -171,12 +183,53 @@ public class WingmanParser extends FactoryParser {
      * being unable to recover back to the original user input, i.e. if the
      * user used different whitespace characters other than spaces. However,
      * for the purpose of this application, this is acceptable.
+     * <p>
+     * This gives the same tokens as {@code userInput.split("\\s+")}, i.e. a
+     * leading empty token if the input starts with whitespace, but scans the
+     * input by hand instead of going through a regular expression.
      *
      * @param userInput the user input to tokenize.
      * @return a {@code Deque} of {@code String}s that contains the tokens.
      */
-    private static Deque<String> tokenize(String userInput) {
-        return new ArrayDeque<>(Arrays.asList(userInput.split("\\s+")));
+    static Deque<String> tokenize(String userInput) {
+        final Deque<String> tokens = new ArrayDeque<>();
+        final int length = userInput.length();
+        if (length == 0) {
+            tokens.add(userInput);
+            return tokens;
+        }
+        int start = 0;
+        int i = 0;
+        while (i < length) {
+            if (!isWhitespace(userInput.charAt(i))) {
+                i++;
+                continue;
+            }
+            if (i > start || i == 0) {
+                tokens.add(userInput.substring(start, i));
+            }
+            while (i < length && isWhitespace(userInput.charAt(i))) {
+                i++;
+            }
+            start = i;
+        }
+        if (start < length) {
+            tokens.add(userInput.substring(start));
+        } else if (tokens.size() == 1 && tokens.peek().isEmpty()) {
+            // the input is made up of whitespace only
+            tokens.clear();
+        }
+        return tokens;
+    }
+
+    /**
+     * Returns true if the character is matched by the regex {@code \s}.
+     *
+     * @param c the character.
+     * @return true if the character is an ASCII whitespace character.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
     }
 
     /**
@@ -228,13 +281,11 @@ public class WingmanParser extends FactoryParser {
             OperationMode operationMode,
             Deque<String> tokens
     ) throws ParseException, CommandException {
-        for (CommandGroup commandGroup : this.groups) {
-            if (!commandGroup.getOperationMode().equals(operationMode)) {
-                continue;
-            }
-            return Optional.of(commandGroup.parse(tokens));
+        final CommandGroup commandGroup = this.groups.get(operationMode);
+        if (commandGroup == null) {
+            return Optional.empty();
         }
-        return Optional.empty();
+        return Optional.of(commandGroup.parse(tokens));
     }
 
     @Override
@@ -59,10 +59,13 @@ public class LinkCrewToFlightCommand implements Command {
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
+        model.recordChange(flight);
         try {
             for (Map.Entry<FlightCrewType, Crew> entry : crews.entrySet()) {
                 flight.crewLink.putRevolve(entry.getKey(), entry.getValue());
+                model.recordChange(entry.getValue());
                 entry.getValue().setUnavailable();
+                model.markDirty(entry.getValue());
             }
         } catch (LinkException e) {
             throw new CommandException(e.getMessage());
@@ -70,6 +73,8 @@ public class LinkCrewToFlightCommand implements Command {
             return new CommandResult(
                     String.format("Error: %s", e.getMessage())
             );
+        } finally {
+            model.markDirty(flight);
         }
         return new CommandResult(this.toString());
     }
@@ -57,13 +57,18 @@ public class UnlinkCrewToFlightCommand implements Command {
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
+        model.recordChange(flight);
         try {
             for (Map.Entry<FlightCrewType, Crew> entry : crews.entrySet()) {
                 flight.crewLink.delete(entry.getKey(), entry.getValue());
+                model.recordChange(entry.getValue());
                 entry.getValue().setAvailable();
+                model.markDirty(entry.getValue());
             }
         } catch (LinkException e) {
             throw new CommandException(e.getMessage());
+        } finally {
+            model.markDirty(flight);
         }
 
         return new CommandResult(this.toString());
@@ -57,6 +57,7 @@ public class LinkCrewToLocationCommand implements Command {
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
+        model.recordChange(location);
         try {
             for (Map.Entry<CrewLocationType, Crew> entry : crews.entrySet()) {
                 location
@@ -65,6 +66,8 @@ public class LinkCrewToLocationCommand implements Command {
             }
         } catch (LinkException e) {
             throw new CommandException(e.getMessage());
+        } finally {
+            model.markDirty(location);
         }
         return new CommandResult(this.toString());
     }
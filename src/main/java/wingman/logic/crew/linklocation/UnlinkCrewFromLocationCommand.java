@@ -58,12 +58,15 @@ public class UnlinkCrewFromLocationCommand implements Command {
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
+        model.recordChange(location);
         try {
             for (Map.Entry<CrewLocationType, Crew> entry : crews.entrySet()) {
                 location.getCrewLink().delete(entry.getKey(), entry.getValue());
             }
         } catch (LinkException e) {
             throw new CommandException(e.getMessage());
+        } finally {
+            model.markDirty(location);
         }
         return new CommandResult(this.toString());
     }
@@ -56,6 +56,7 @@ public class LinkFlightToLocationCommand implements Command {
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
+        model.recordChange(flight);
         try {
             for (Map.Entry<FlightLocationType, Location> entry : locations.entrySet()) {
                 flight.setLocation(
@@ -65,6 +66,8 @@ public class LinkFlightToLocationCommand implements Command {
             }
         } catch (LinkException e) {
             throw new CommandException(e.getMessage());
+        } finally {
+            model.markDirty(flight);
         }
         return new CommandResult(this.toString());
     }
@@ -56,12 +56,15 @@ public class UnlinkFlightToLocationCommand implements Command {
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
+        model.recordChange(flight);
         try {
             for (Map.Entry<FlightLocationType, Location> entry : locations.entrySet()) {
                 flight.removeLocation(entry.getKey(), entry.getValue());
             }
         } catch (LinkException e) {
             throw new CommandException(e.getMessage());
+        } finally {
+            model.markDirty(flight);
         }
         return new CommandResult(this.toString());
     }
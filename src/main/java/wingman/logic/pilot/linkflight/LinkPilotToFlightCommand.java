@@ -58,13 +58,18 @@ public class LinkPilotToFlightCommand implements Command {
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
+        model.recordChange(flight);
         try {
             for (Map.Entry<FlightPilotType, Pilot> entry : pilots.entrySet()) {
                 flight.pilotLink.putRevolve(entry.getKey(), entry.getValue());
+                model.recordChange(entry.getValue());
                 entry.getValue().setUnavailable();
+                model.markDirty(entry.getValue());
             }
         } catch (LinkException e) {
             throw new CommandException(e.getMessage());
+        } finally {
+            model.markDirty(flight);
         }
 
         return new CommandResult(this.toString());
@@ -57,6 +57,7 @@ public class LinkPilotToLocationCommand implements Command {
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
+        model.recordChange(location);
         try {
             for (Map.Entry<PilotLocationType, Pilot> entry : pilot.entrySet()) {
                 location
@@ -65,6 +66,8 @@ public class LinkPilotToLocationCommand implements Command {
             }
         } catch (LinkException e) {
             throw new CommandException(e.getMessage());
+        } finally {
+            model.markDirty(location);
         }
 
         return new CommandResult(this.toString());
@@ -62,6 +62,7 @@ public class UnlinkPilotToLocationCommand implements Command {
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
+        model.recordChange(location);
         try {
             for (Map.Entry<PilotLocationType, Pilot> entry : pilot.entrySet()) {
                 location
@@ -70,6 +71,8 @@ public class UnlinkPilotToLocationCommand implements Command {
             }
         } catch (LinkException e) {
             throw new CommandException(e.getMessage());
+        } finally {
+            model.markDirty(location);
         }
 
         return new CommandResult(this.toString());
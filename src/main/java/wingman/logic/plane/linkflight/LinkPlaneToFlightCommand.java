@@ -59,13 +59,18 @@ public class LinkPlaneToFlightCommand implements Command {
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
+        model.recordChange(flight);
         try {
             for (Map.Entry<FlightPlaneType, Plane> entry : planes.entrySet()) {
                 flight.planeLink.putRevolve(entry.getKey(), entry.getValue());
+                model.recordChange(entry.getValue());
                 entry.getValue().setUnavailable();
+                model.markDirty(entry.getValue());
             }
         } catch (LinkException e) {
             throw new CommandException(e.getMessage());
+        } finally {
+            model.markDirty(flight);
         }
 
         return new CommandResult(this.toString());
@@ -58,6 +58,7 @@ public class UnlinkPlaneToLocationCommand implements Command {
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
+        model.recordChange(location);
         try {
             for (Map.Entry<PlaneLocationType, Plane> entry : plane.entrySet()) {
                 location
@@ -66,6 +67,8 @@ public class UnlinkPlaneToLocationCommand implements Command {
             }
         } catch (LinkException e) {
             throw new CommandException(e.getMessage());
+        } finally {
+            model.markDirty(location);
         }
 
         return new CommandResult(this.toString());
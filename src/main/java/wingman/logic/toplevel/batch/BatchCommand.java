@@ -0,0 +1,73 @@
+package wingman.logic.toplevel.batch;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import wingman.commons.fp.Lazy;
+import wingman.commons.util.FileUtil;
+import wingman.logic.Logic;
+import wingman.logic.core.Command;
+import wingman.logic.core.CommandResult;
+import wingman.logic.core.exceptions.CommandException;
+import wingman.logic.core.exceptions.ParseException;
+import wingman.model.Model;
+
+/**
+ * The command that runs the commands in a file as one batch, so that
+ * either all of them take effect or, if any of them fails, none of them
+ * does. Every non-blank line of the file is a command, except for the lines
+ * starting with {@code #}, which are comments.
+ */
+public class BatchCommand implements Command {
+    private static final String SUCCESS_MESSAGE = "Executed %d command(s) from %s in one batch.";
+
+    private static final String FILE_ERROR_MESSAGE = "Could not read batch file: ";
+
+    /**
+     * The file holding the commands.
+     */
+    private final Path file;
+
+    /**
+     * The logic that parses and executes the commands.
+     */
+    private final Lazy<Logic> logicLazy;
+
+    /**
+     * Creates a command running the commands in the given file.
+     *
+     * @param file      the file holding the commands.
+     * @param logicLazy the logic that parses and executes the commands.
+     */
+    public BatchCommand(Path file, Lazy<Logic> logicLazy) {
+        this.file = requireNonNull(file);
+        this.logicLazy = requireNonNull(logicLazy);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        final String content;
+        try {
+            content = FileUtil.readFromFile(file);
+        } catch (IOException e) {
+            throw new CommandException(FILE_ERROR_MESSAGE + e, e);
+        }
+        final List<String> commandTexts = new ArrayList<>();
+        for (String line : content.split("\\R")) {
+            final String commandText = line.trim();
+            if (!commandText.isEmpty() && !commandText.startsWith("#")) {
+                commandTexts.add(commandText);
+            }
+        }
+        try {
+            final List<CommandResult> results = logicLazy.get().executeBatch(commandTexts);
+            return new CommandResult(String.format(SUCCESS_MESSAGE, results.size(), file));
+        } catch (ParseException e) {
+            throw new CommandException(e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package wingman.logic.toplevel.batch;
+
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.Set;
+
+import wingman.commons.util.FileUtil;
+import wingman.commons.util.GetUtil;
+import wingman.logic.Logic;
+import wingman.logic.core.CommandFactory;
+import wingman.logic.core.CommandParam;
+import wingman.logic.core.exceptions.ParseException;
+
+/**
+ * The factory that's responsible for creating a {@code BatchCommand}.
+ */
+public class BatchCommandFactory implements CommandFactory<BatchCommand> {
+    public static final String COMMAND_WORD = "batch";
+
+    private static final String USAGE_MESSAGE = "Please specify the file to run, e.g. "
+            + COMMAND_WORD + " roster.txt";
+
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public Optional<Set<String>> getPrefixes() {
+        return Optional.empty();
+    }
+
+    @Override
+    public BatchCommand createCommand(CommandParam param) throws ParseException {
+        final String fileName = param.getUnnamedValueOrThrow(USAGE_MESSAGE).trim();
+        if (fileName.isEmpty() || !FileUtil.isValidPath(fileName)) {
+            throw new ParseException(USAGE_MESSAGE);
+        }
+        return new BatchCommand(Paths.get(fileName), GetUtil.getLazy(Logic.class));
+    }
+}
@@ -0,0 +1,30 @@
+package wingman.logic.toplevel.stats;
+
+import static java.util.Objects.requireNonNull;
+
+import wingman.commons.fp.Lazy;
+import wingman.logic.CommandMetrics;
+import wingman.logic.core.Command;
+import wingman.logic.core.CommandResult;
+import wingman.logic.core.exceptions.CommandException;
+import wingman.model.Model;
+
+/**
+ * The command that shows how long the commands executed so far have taken,
+ * phase by phase.
+ */
+public class StatsCommand implements Command {
+    /**
+     * The metrics of the commands executed so far.
+     */
+    private final Lazy<CommandMetrics> metricsLazy;
+
+    public StatsCommand(Lazy<CommandMetrics> metricsLazy) {
+        this.metricsLazy = requireNonNull(metricsLazy);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        return new CommandResult(metricsLazy.get().toReport());
+    }
+}
@@ -0,0 +1,38 @@
+package wingman.logic.toplevel.stats;
+
+import java.util.Optional;
+import java.util.Set;
+
+import wingman.commons.util.GetUtil;
+import wingman.logic.Logic;
+import wingman.logic.core.CommandFactory;
+import wingman.logic.core.CommandParam;
+import wingman.logic.core.exceptions.ParseException;
+
+/**
+ * The factory that's responsible for creating a {@code StatsCommand}.
+ */
+public class StatsCommandFactory implements CommandFactory<StatsCommand> {
+    public static final String COMMAND_WORD = "stats";
+
+    private static final String NO_ARGUMENTS_MESSAGE = "%s does not take any arguments, but got: %s";
+
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public Optional<Set<String>> getPrefixes() {
+        return Optional.empty();
+    }
+
+    @Override
+    public StatsCommand createCommand(CommandParam param) throws ParseException {
+        final Optional<String> arguments = param.getUnnamedValue();
+        if (arguments.isPresent()) {
+            throw new ParseException(String.format(NO_ARGUMENTS_MESSAGE, COMMAND_WORD, arguments.get()));
+        }
+        return new StatsCommand(GetUtil.getLazy(Logic.class).map(Logic::getCommandMetrics));
+    }
+}
@@ -3,8 +3,13 @@ package wingman.model;
 import static java.util.Objects.requireNonNull;
 import static wingman.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import wingman.model.exception.IndexOutOfBoundException;
@@ -24,6 +29,24 @@ public class ItemManager<T extends Item> implements
      */
     private final UniqueList<T> items;
 
+    /**
+     * The ids of the items that have been added, modified or removed since
+     * this manager was last marked as clean, i.e. the items that need to be
+     * persisted again.
+     */
+    private final Set<String> dirtyIds = new LinkedHashSet<>();
+
+    /**
+     * The number of times that items have been added, replaced or removed.
+     */
+    private long version;
+
+    /**
+     * The number of times that items have been added, replaced, removed or
+     * marked as modified, i.e. whether anything in this manager has changed.
+     */
+    private long modificationCount;
+
     {
         items = new UniqueList<>();
     }
@@ -53,7 +76,14 @@ public class ItemManager<T extends Item> implements
      * @param items the list of items to replace the current list with.
      */
     public void setItems(List<T> items) {
+        for (T item : this.items) {
+            markDirty(item.getId());
+        }
         this.items.setItems(items);
+        version++;
+        for (T item : items) {
+            markDirty(item.getId());
+        }
     }
 
     /**
@@ -98,6 +128,32 @@ public class ItemManager<T extends Item> implements
      */
     public void addItem(T item) throws DuplicateItemException {
         items.add(item);
+        version++;
+        markDirty(item.getId());
+    }
+
+    /**
+     * Adds an item to the list at the given position, e.g. to put back an
+     * item that has been removed.
+     *
+     * @param index the position of the item.
+     * @param item  the item to add
+     */
+    public void addItem(int index, T item) throws DuplicateItemException {
+        items.add(index, item);
+        version++;
+        markDirty(item.getId());
+    }
+
+    /**
+     * Returns the position of the item with the given id, or -1 if there is
+     * no such item.
+     *
+     * @param id the id of the item.
+     * @return the position of the item.
+     */
+    public int indexOf(String id) {
+        return items.indexOf(id);
     }
 
     /**
@@ -109,6 +165,9 @@ public class ItemManager<T extends Item> implements
     public void setItem(T target, T editedItem) {
         requireAllNonNull(target, editedItem);
         items.setItem(target, editedItem);
+        version++;
+        markDirty(target.getId());
+        markDirty(editedItem.getId());
     }
 
     /**
@@ -118,10 +177,40 @@ public class ItemManager<T extends Item> implements
      */
     public void removeItem(T item) {
         items.remove(item);
+        version++;
+        markDirty(item.getId());
     }
 
+    /**
+     * Removes the item with the given {@code id} from this
+     * {@code ItemManager}.
+     *
+     * @param id the id of the item to remove
+     */
     public void removeItem(String id) {
         items.remove(id);
+        version++;
+        markDirty(id);
+    }
+
+    /**
+     * Removes the items with the given {@code ids} from this
+     * {@code ItemManager} at once. Ids that are not in this manager are
+     * ignored.
+     *
+     * @param ids the ids of the items to remove
+     */
+    public void removeItems(Collection<String> ids) {
+        requireNonNull(ids);
+        final List<String> removedIds = ids.stream()
+                .filter(items::contains)
+                .collect(Collectors.toList());
+        if (removedIds.isEmpty()) {
+            return;
+        }
+        items.removeAll(removedIds);
+        version++;
+        removedIds.forEach(this::markDirty);
     }
 
     /**
@@ -136,14 +225,63 @@ public class ItemManager<T extends Item> implements
         removeItem(itemToRemove.getId());
     }
 
+    /**
+     * Returns true if this manager has been modified since it was last
+     * marked as clean.
+     *
+     * @return true if this manager needs to be persisted again.
+     */
+    public boolean isDirty() {
+        return !dirtyIds.isEmpty();
+    }
+
+    @Override
+    public Set<String> getDirtyIds() {
+        return Collections.unmodifiableSet(dirtyIds);
+    }
+
+    /**
+     * Marks the item with the given id as modified. This should be called
+     * whenever an item held by this manager is mutated in place, e.g. when
+     * its links or its availability changes, since such changes do not go
+     * through this manager.
+     *
+     * @param id the id of the modified item
+     */
+    public void markDirty(String id) {
+        requireNonNull(id);
+        dirtyIds.add(id);
+        modificationCount++;
+    }
+
+    /**
+     * Marks this manager as clean, i.e. its current state has been
+     * persisted.
+     */
+    public void markClean() {
+        dirtyIds.clear();
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the number of changes made to this manager, including the
+     * changes made to its items in place, as reported through
+     * {@link #markDirty(String)}. Unlike {@link #getVersion()}, this tells
+     * whether a copy of the manager is still up to date.
+     *
+     * @return the number of changes made to this manager.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     @Override
     public Optional<T> getItemOptional(String id) {
-        for (T item : items) {
-            if (item.getId().equals(id)) {
-                return Optional.of(item);
-            }
-        }
-        return Optional.empty();
+        return Optional.ofNullable(items.get(id));
     }
 
     @Override
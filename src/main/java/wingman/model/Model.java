@@ -1,6 +1,12 @@
 package wingman.model;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -50,7 +56,7 @@ public interface Model {
     void setOperationMode(OperationMode operationMode);
 
     /**
-     * Returns the list of items.
+     * Returns the list of items of the current operation mode.
      */
     ObservableList<Item> getItemsList();
 
@@ -65,6 +71,141 @@ public interface Model {
     void setGuiSettings(GuiSettings guiSettings);
 
 
+    //=========== Links ================================================================
+
+    /**
+     * Returns the items of the given type that link to the item with the
+     * given id, e.g. the flights that a pilot has been assigned to.
+     *
+     * @param id        the id of the linked item.
+     * @param ownerType the type of the linking items.
+     * @param <T>       the type of the linking items.
+     * @return the items of the given type linking to the item.
+     */
+    <T extends Item> List<T> getLinkingItems(String id, Class<T> ownerType);
+
+
+    //=========== Persistence ==========================================================
+
+    /**
+     * Records the state of {@code item} before it is mutated in place, e.g.
+     * by changing its links or its availability, so that an {@link UndoLog}
+     * can roll it back. Commands that mutate an item in place must call
+     * this before the change, and {@link #markDirty(Item)} after it.
+     *
+     * @param item the item that is about to be mutated.
+     */
+    void recordChange(Item item);
+
+    /**
+     * Marks the manager that holds {@code item} as dirty, so that it would
+     * be persisted on the next save, and tells the listeners that the item
+     * has changed. Commands that mutate an item in place, e.g. by changing
+     * its links or its availability, must call this after the change since
+     * such changes do not go through the managers.
+     *
+     * @param item the item that has been mutated.
+     */
+    void markDirty(Item item);
+
+    /**
+     * Returns the managers that have been modified since the last call to
+     * {@link #markAllClean()}.
+     *
+     * @return the operation modes of the managers that are dirty.
+     */
+    Set<OperationMode> getDirtyManagers();
+
+    /**
+     * Returns true if the user prefs have been modified since the last call
+     * to {@link #markAllClean()}.
+     *
+     * @return true if the user prefs are dirty.
+     */
+    boolean isUserPrefsDirty();
+
+    /**
+     * Marks all the managers and the user prefs as clean, i.e. their current
+     * state has been persisted.
+     */
+    void markAllClean();
+
+
+    //=========== Events ===============================================================
+
+    /**
+     * Registers a listener to be notified of every change to the items of
+     * this model, one {@link ModelEvent} per changed item. The listener is
+     * notified on the thread making the change, while it holds the write
+     * lock, so it must not block.
+     *
+     * @param listener the listener.
+     */
+    void addListener(Consumer<? super ModelEvent> listener);
+
+    /**
+     * Unregisters a listener registered with {@link #addListener(Consumer)}.
+     *
+     * @param listener the listener.
+     */
+    void removeListener(Consumer<? super ModelEvent> listener);
+
+
+    //=========== Concurrency ==========================================================
+
+    /**
+     * Returns the lock guarding the state of this model, including the links
+     * of its items. Commands hold the write lock while they run, so threads
+     * other than the one running the commands, e.g. exports, reports and
+     * availability checks, must hold the read lock while they read the
+     * model. The listeners of the observable lists are still notified on
+     * the thread running the commands.
+     *
+     * @return the lock guarding this model.
+     */
+    ReadWriteLock getLock();
+
+    /**
+     * Starts recording the changes made to this model, until the log
+     * returned is rolled back or committed. Only one log can record at a
+     * time, and it must be used under the write lock.
+     *
+     * @return the log recording the changes.
+     * @throws IllegalStateException if another log is still recording.
+     */
+    UndoLog startUndoLog();
+
+    /**
+     * Reads the model while holding its read lock, so that no command can
+     * modify it halfway through the read. Any number of readers may read
+     * the model at the same time.
+     *
+     * @param reader the function reading the model.
+     * @param <R>    the type of the result.
+     * @return the result of the reader.
+     */
+    default <R> R read(Function<? super Model, ? extends R> reader) {
+        final Lock readLock = getLock().readLock();
+        readLock.lock();
+        try {
+            return reader.apply(this);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Returns a consistent, read-only view of all the managers of this model
+     * and of the links between their items, as of now. Unlike the model,
+     * the snapshot can be read without holding the lock, so long-running
+     * reads, e.g. reports, do not block the commands. Snapshots share
+     * whatever has not changed in between, so taking them is cheap.
+     *
+     * @return the snapshot of this model.
+     */
+    ModelSnapshot snapshot();
+
+
     //=========== Pilot methods ========================================================
 
     /**
@@ -0,0 +1,92 @@
+package wingman.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+/**
+ * A change to a single item of a {@link Model}, e.g. a pilot that has been
+ * added or a flight whose links have changed. Listeners registered with
+ * {@link Model#addListener(java.util.function.Consumer)} receive one event
+ * per changed item, so they can update what they show in proportion to the
+ * change instead of to the size of the model.
+ */
+public final class ModelEvent {
+    /**
+     * The kinds of change to an item.
+     */
+    public enum Type {
+        /**
+         * The item has been added to its manager.
+         */
+        ADDED,
+        /**
+         * The item has been removed from its manager.
+         */
+        REMOVED,
+        /**
+         * The item has been replaced, or its state, e.g. its availability,
+         * has changed in place.
+         */
+        UPDATED,
+        /**
+         * The links held by the item have changed.
+         */
+        LINKED
+    }
+
+    private final Type type;
+
+    private final OperationMode mode;
+
+    private final String id;
+
+    /**
+     * Creates an event.
+     *
+     * @param type the kind of change.
+     * @param mode the operation mode of the manager holding the item.
+     * @param id   the id of the item.
+     */
+    public ModelEvent(Type type, OperationMode mode, String id) {
+        this.type = requireNonNull(type);
+        this.mode = requireNonNull(mode);
+        this.id = requireNonNull(id);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public OperationMode getMode() {
+        return mode;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof ModelEvent)) {
+            return false;
+        }
+        final ModelEvent otherEvent = (ModelEvent) other;
+        return type == otherEvent.type
+                && mode == otherEvent.mode
+                && id.equals(otherEvent.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, mode, id);
+    }
+
+    @Override
+    public String toString() {
+        return type + " " + mode + " " + id;
+    }
+}
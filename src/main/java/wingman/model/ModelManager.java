@@ -3,11 +3,20 @@ package wingman.model;
 import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
-import javafx.beans.binding.Bindings;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
@@ -21,6 +30,8 @@ import wingman.model.flight.Flight;
 import wingman.model.flight.exceptions.FlightNotFoundException;
 import wingman.model.item.Item;
 import wingman.model.item.exceptions.DuplicateItemException;
+import wingman.model.link.Link;
+import wingman.model.link.LinkIndex;
 import wingman.model.location.Location;
 import wingman.model.location.exceptions.LocationNotFoundException;
 import wingman.model.pilot.Pilot;
@@ -30,6 +41,10 @@ import wingman.model.plane.exceptions.PlaneNotFoundException;
 
 /**
  * Represents the in-memory model of the address book data.
+ * <p>
+ * The model itself is not synchronized: it is modified by one thread at a
+ * time, under the write lock of {@link #getLock()}, which the logic holds
+ * while running a command. Other threads read it under the read lock.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
@@ -39,31 +54,41 @@ public class ModelManager implements Model {
     // pilot manager
     private final ItemManager<Pilot> pilotManager;
     private final FilteredList<Pilot> filteredPilots;
-    private final ObservableList<Pilot> pilotList;
 
     // location manager
     private final ItemManager<Location> locationManager;
     private final FilteredList<Location> filteredLocations;
-    private final ObservableList<Location> locationList;
 
     // crew manager
     private final ItemManager<Crew> crewManager;
     private final FilteredList<Crew> filteredCrew;
-    private final ObservableList<Crew> crewList;
 
     // plane manager
     private final ItemManager<Plane> planeManager;
     private final FilteredList<Plane> filteredPlanes;
-    private final ObservableList<Plane> planeList;
 
     // flight manager
     private final ItemManager<Flight> flightManager;
     private final FilteredList<Flight> filteredFlights;
-    private final ObservableList<Flight> flightList;
 
     // general utilities
-    private final ObservableList<Item> itemsList;
-    private Optional<ObservableList<? extends Item>> lastBoundList = Optional.empty();
+    private final Map<OperationMode, ObservableList<Item>> itemLists = new EnumMap<>(OperationMode.class);
+
+    // events
+    private final List<Consumer<? super ModelEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    // persistence
+    private boolean isUserPrefsDirty;
+
+    // undo
+    private UndoLog undoLog;
+
+    // links
+    private final LinkIndex linkIndex = new LinkIndex(this::getSharedId);
+
+    // concurrency
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private ModelSnapshot lastSnapshot;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -99,14 +124,17 @@ public class ModelManager implements Model {
         this.flightManager = new ItemManager<>(flightManager);
         filteredFlights = new FilteredList<>(this.flightManager.getItemList());
 
-        itemsList = FXCollections.observableArrayList();
-        flightList = new FilteredList<>(filteredFlights);
-        crewList = new FilteredList<>(filteredCrew);
-        planeList = new FilteredList<>(filteredPlanes);
-        pilotList = new FilteredList<>(filteredPilots);
-        locationList = new FilteredList<>(filteredLocations);
+        attachLinks(this.locationManager);
+        attachLinks(this.flightManager);
+
+        itemLists.put(OperationMode.PILOT, asItemList(filteredPilots));
+        itemLists.put(OperationMode.PLANE, asItemList(filteredPlanes));
+        itemLists.put(OperationMode.FLIGHT, asItemList(filteredFlights));
+        itemLists.put(OperationMode.CREW, asItemList(filteredCrew));
+        itemLists.put(OperationMode.LOCATION, asItemList(filteredLocations));
 
         setOperationMode(userPrefs.getOperationMode());
+        markAllClean();
     }
 
     /**
@@ -124,7 +152,9 @@ public class ModelManager implements Model {
     @Override
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
+        recordUserPrefs();
         this.userPrefs.resetData(userPrefs);
+        isUserPrefsDirty = true;
     }
 
     @Override
@@ -138,73 +168,56 @@ public class ModelManager implements Model {
     }
 
     /**
-     * Sets the operation mode of the app.
+     * Sets the operation mode of the app. The list of items of every mode is
+     * kept up to date at all times, so switching modes does not copy any.
      *
      * @param mode the new operation mode
      */
     @Override
     public void setOperationMode(OperationMode mode) {
+        requireNonNull(mode);
+        recordUserPrefs();
         this.userPrefs.setOperationMode(mode);
-        switch (mode) {
-        case PILOT:
-            rebind(filteredPilots);
-            break;
-        case PLANE:
-            rebind(filteredPlanes);
-            break;
-        case FLIGHT:
-            rebind(filteredFlights);
-            break;
-        case CREW:
-            rebind(filteredCrew);
-            break;
-        case LOCATION:
-            rebind(filteredLocations);
-            break;
-        default:
-            logger.warning("Unknown operation mode: " + mode);
-            break;
-        }
-    }
-
-    private void rebind(ObservableList<? extends Item> list) {
-        if (lastBoundList.isPresent()) {
-            final ObservableList<? extends Item> lastBound =
-                    lastBoundList.get();
-            Bindings.unbindContent(itemsList, lastBound);
-        }
-        Bindings.bindContent(itemsList, list);
-        lastBoundList = Optional.of(list);
+        isUserPrefsDirty = true;
+    }
+
+    /**
+     * Returns an unmodifiable view of the given list as a list of items,
+     * which is safe since the view cannot be added to.
+     */
+    @SuppressWarnings("unchecked")
+    private static ObservableList<Item> asItemList(ObservableList<? extends Item> list) {
+        return FXCollections.unmodifiableObservableList((ObservableList<Item>) list);
     }
 
     @Override
     public ObservableList<Item> getItemsList() {
-        return itemsList;
+        return itemLists.get(getOperationMode());
     }
 
     @Override
     public ObservableList<Flight> getFlightList() {
-        return flightList;
+        return filteredFlights;
     }
 
     @Override
     public ObservableList<Crew> getCrewList() {
-        return crewList;
+        return filteredCrew;
     }
 
     @Override
     public ObservableList<Plane> getPlaneList() {
-        return planeList;
+        return filteredPlanes;
     }
 
     @Override
     public ObservableList<Pilot> getPilotList() {
-        return pilotList;
+        return filteredPilots;
     }
 
     @Override
     public ObservableList<Location> getLocationList() {
-        return locationList;
+        return filteredLocations;
     }
 
     @Override
@@ -215,7 +228,349 @@ public class ModelManager implements Model {
     @Override
     public void setGuiSettings(GuiSettings guiSettings) {
         requireNonNull(guiSettings);
+        recordUserPrefs();
         userPrefs.setGuiSettings(guiSettings);
+        isUserPrefsDirty = true;
+    }
+
+
+    //=========== Links ========================================================
+
+    @Override
+    public <T extends Item> List<T> getLinkingItems(String id, Class<T> ownerType) {
+        requireNonNull(id);
+        return linkIndex.getLinkingItems(id, ownerType);
+    }
+
+    /**
+     * Registers the links of the item in the reverse link index.
+     *
+     * @param item the item that has been added to the model.
+     */
+    private void attachLinks(Item item) {
+        item.getLinks().forEach((link) -> link.attach(item, linkIndex));
+    }
+
+    private void attachLinks(ReadOnlyItemManager<?> manager) {
+        manager.getItemList().forEach(this::attachLinks);
+    }
+
+    /**
+     * Returns the instance of the id held by the item of this model with
+     * that id, if any, for the links to share it.
+     *
+     * @param id the id linked to.
+     * @return the id held by the linked item, or the given id if there is
+     *         no such item.
+     */
+    private String getSharedId(String id) {
+        for (ReadOnlyItemManager<?> manager : List.of(pilotManager, crewManager, planeManager, locationManager)) {
+            final Optional<? extends Item> item = manager.getItemOptional(id);
+            if (item.isPresent()) {
+                return item.get().getId();
+            }
+        }
+        return id;
+    }
+
+    /**
+     * Unregisters the links of the item from the reverse link index.
+     *
+     * @param item the item that has been removed from the model.
+     */
+    private void detachLinks(Item item) {
+        item.getLinks().forEach(Link::detach);
+    }
+
+    private void detachLinks(ReadOnlyItemManager<?> manager) {
+        manager.getItemList().forEach(this::detachLinks);
+    }
+
+    /**
+     * Removes the item with the given id from the manager, and unlinks it
+     * from all the items linking to it, so that no broken links are left
+     * behind.
+     *
+     * @param manager the manager holding the item.
+     * @param id      the id of the item to be removed.
+     */
+    private <T extends Item> void removeItem(ItemManager<T> manager, String id) {
+        final T item = manager.getItem(id);
+        if (undoLog != null) {
+            linkIndex.getLinkingItems(id, Item.class).forEach(this::recordChange);
+            if (item != null) {
+                final int index = manager.indexOf(id);
+                undoLog.record(() -> restoreItem(manager, index, item));
+            }
+        }
+        manager.removeItem(id);
+        if (item != null) {
+            detachLinks(item);
+            fire(ModelEvent.Type.REMOVED, modeOf(manager), id);
+        }
+        linkIndex.unlinkAll(id).forEach(this::markDirty);
+    }
+
+    /**
+     * Puts an item that has been removed back into the manager.
+     *
+     * @param manager the manager that held the item.
+     * @param index   the position of the item in the manager.
+     * @param item    the item that has been removed.
+     */
+    private <T extends Item> void restoreItem(ItemManager<T> manager, int index, T item) {
+        manager.addItem(index, item);
+        attachLinks(item);
+        fire(ModelEvent.Type.ADDED, modeOf(manager), item.getId());
+    }
+
+    /**
+     * Replaces the items of the manager with those of {@code newData},
+     * reporting every item as removed and then added.
+     *
+     * @param manager the manager whose items are replaced.
+     * @param newData the new items.
+     */
+    private <T extends Item> void resetItems(ItemManager<T> manager, ReadOnlyItemManager<T> newData) {
+        requireNonNull(newData);
+        final OperationMode mode = modeOf(manager);
+        for (T item : manager.getItemList()) {
+            fire(ModelEvent.Type.REMOVED, mode, item.getId());
+        }
+        manager.resetData(newData);
+        for (T item : manager.getItemList()) {
+            fire(ModelEvent.Type.ADDED, mode, item.getId());
+        }
+    }
+
+
+    //=========== Persistence ==================================================
+
+    @Override
+    public void markDirty(Item item) {
+        requireNonNull(item);
+        final String id = item.getId();
+        // only the flights and locations hold links, and that is all that
+        // can change about them in place
+        final ModelEvent.Type type = item.getLinks().isEmpty()
+                ? ModelEvent.Type.UPDATED
+                : ModelEvent.Type.LINKED;
+        markDirtyIfContains(pilotManager, id, type);
+        markDirtyIfContains(locationManager, id, type);
+        markDirtyIfContains(crewManager, id, type);
+        markDirtyIfContains(planeManager, id, type);
+        markDirtyIfContains(flightManager, id, type);
+    }
+
+    /**
+     * Marks the manager as dirty if it holds an item with the given id.
+     *
+     * @param manager the manager to be checked.
+     * @param id      the id of the item that has been mutated.
+     * @param type    the kind of change to be reported.
+     */
+    private void markDirtyIfContains(ItemManager<?> manager, String id, ModelEvent.Type type) {
+        if (manager.hasItem(id)) {
+            manager.markDirty(id);
+            fire(type, modeOf(manager), id);
+        }
+    }
+
+    @Override
+    public Set<OperationMode> getDirtyManagers() {
+        final Set<OperationMode> dirtyManagers = EnumSet.noneOf(OperationMode.class);
+        if (pilotManager.isDirty()) {
+            dirtyManagers.add(OperationMode.PILOT);
+        }
+        if (planeManager.isDirty()) {
+            dirtyManagers.add(OperationMode.PLANE);
+        }
+        if (flightManager.isDirty()) {
+            dirtyManagers.add(OperationMode.FLIGHT);
+        }
+        if (crewManager.isDirty()) {
+            dirtyManagers.add(OperationMode.CREW);
+        }
+        if (locationManager.isDirty()) {
+            dirtyManagers.add(OperationMode.LOCATION);
+        }
+        return dirtyManagers;
+    }
+
+    @Override
+    public boolean isUserPrefsDirty() {
+        return isUserPrefsDirty;
+    }
+
+    @Override
+    public void markAllClean() {
+        pilotManager.markClean();
+        planeManager.markClean();
+        flightManager.markClean();
+        crewManager.markClean();
+        locationManager.markClean();
+        isUserPrefsDirty = false;
+    }
+
+
+    //=========== Events =======================================================
+
+    @Override
+    public void addListener(Consumer<? super ModelEvent> listener) {
+        listeners.add(requireNonNull(listener));
+    }
+
+    @Override
+    public void removeListener(Consumer<? super ModelEvent> listener) {
+        listeners.remove(listener);
+    }
+
+    private void fire(ModelEvent.Type type, OperationMode mode, String id) {
+        if (listeners.isEmpty()) {
+            return;
+        }
+        final ModelEvent event = new ModelEvent(type, mode, id);
+        for (Consumer<? super ModelEvent> listener : listeners) {
+            listener.accept(event);
+        }
+    }
+
+    /**
+     * Reports that an item has been replaced by another, which is an update
+     * if the two share the same id.
+     */
+    private void fireReplaced(OperationMode mode, Item target, Item editedItem) {
+        if (target.getId().equals(editedItem.getId())) {
+            fire(ModelEvent.Type.UPDATED, mode, editedItem.getId());
+            return;
+        }
+        fire(ModelEvent.Type.REMOVED, mode, target.getId());
+        fire(ModelEvent.Type.ADDED, mode, editedItem.getId());
+    }
+
+    private OperationMode modeOf(ReadOnlyItemManager<?> manager) {
+        if (manager == pilotManager) {
+            return OperationMode.PILOT;
+        }
+        if (manager == planeManager) {
+            return OperationMode.PLANE;
+        }
+        if (manager == flightManager) {
+            return OperationMode.FLIGHT;
+        }
+        if (manager == crewManager) {
+            return OperationMode.CREW;
+        }
+        if (manager == locationManager) {
+            return OperationMode.LOCATION;
+        }
+        throw new IllegalArgumentException("Unknown manager: " + manager);
+    }
+
+
+    //=========== Undo =========================================================
+
+    @Override
+    public UndoLog startUndoLog() {
+        if (undoLog != null) {
+            throw new IllegalStateException("An undo log is already recording.");
+        }
+        undoLog = new UndoLog(() -> undoLog = null);
+        return undoLog;
+    }
+
+    /**
+     * Records the action undoing a change, if an undo log is recording.
+     *
+     * @param undoAction the action undoing the change.
+     */
+    private void record(Runnable undoAction) {
+        if (undoLog != null) {
+            undoLog.record(undoAction);
+        }
+    }
+
+    /**
+     * Records how to undo the replacement of all the items of the manager.
+     *
+     * @param manager the manager whose items are about to be replaced.
+     * @param setter  the method replacing the items of the manager.
+     */
+    private <T extends Item> void recordReset(ItemManager<T> manager, Consumer<ReadOnlyItemManager<T>> setter) {
+        if (undoLog != null) {
+            final ItemManager<T> oldData = new ItemManager<>(manager);
+            undoLog.record(() -> setter.accept(oldData));
+        }
+    }
+
+    /**
+     * Saves the state of an item that is about to be changed in place, i.e.
+     * its links and availability, the first time it is changed while an
+     * undo log is recording.
+     *
+     * @param item the item about to be changed.
+     */
+    @Override
+    public void recordChange(Item item) {
+        requireNonNull(item);
+        if (undoLog == null || !undoLog.touch(item)) {
+            return;
+        }
+        final List<Runnable> restores = new ArrayList<>();
+        item.getLinks().forEach((link) -> restores.add(link.saveContents()));
+        if (item instanceof Pilot) {
+            final Pilot pilot = (Pilot) item;
+            restores.add(pilot.isAvailable() ? pilot::setAvailable : pilot::setUnavailable);
+        } else if (item instanceof Crew) {
+            final Crew crew = (Crew) item;
+            restores.add(crew.isAvailable() ? crew::setAvailable : crew::setUnavailable);
+        } else if (item instanceof Plane) {
+            final Plane plane = (Plane) item;
+            restores.add(plane.isAvailable() ? plane::setAvailable : plane::setUnavailable);
+        }
+        undoLog.record(() -> {
+            restores.forEach(Runnable::run);
+            markDirty(item);
+        });
+    }
+
+    /**
+     * Saves the user prefs the first time they are changed while an undo log
+     * is recording.
+     */
+    private void recordUserPrefs() {
+        if (undoLog == null || !undoLog.touch(userPrefs)) {
+            return;
+        }
+        final UserPrefs saved = new UserPrefs(userPrefs);
+        final boolean wasDirty = isUserPrefsDirty;
+        undoLog.record(() -> {
+            userPrefs.resetData(saved);
+            isUserPrefsDirty = wasDirty;
+        });
+    }
+
+
+    //=========== Concurrency ==================================================
+
+    @Override
+    public ReadWriteLock getLock() {
+        return lock;
+    }
+
+    @Override
+    public ModelSnapshot snapshot() {
+        return read((model) -> takeSnapshot());
+    }
+
+    /**
+     * Takes a snapshot based on the last one. Several readers may take
+     * snapshots at the same time, hence the synchronization.
+     */
+    private synchronized ModelSnapshot takeSnapshot() {
+        lastSnapshot = ModelSnapshot.of(lastSnapshot, pilotManager, crewManager,
+                planeManager, locationManager, flightManager);
+        return lastSnapshot;
     }
 
 
@@ -234,12 +589,15 @@ public class ModelManager implements Model {
     @Override
     public void setPilotManagerFilePath(Path pilotManagerFilePath) {
         requireNonNull(pilotManagerFilePath);
+        recordUserPrefs();
         userPrefs.setPilotManagerFilePath(pilotManagerFilePath);
+        isUserPrefsDirty = true;
     }
 
     @Override
     public void setPilotManager(ReadOnlyItemManager<Pilot> pilotManager) {
-        this.pilotManager.resetData(pilotManager);
+        recordReset(this.pilotManager, this::setPilotManager);
+        resetItems(this.pilotManager, pilotManager);
     }
 
     @Override
@@ -250,29 +608,33 @@ public class ModelManager implements Model {
 
     @Override
     public void deletePilot(Pilot target) {
-        pilotManager.removeItem(target);
+        removeItem(pilotManager, target.getId());
     }
 
     @Override
     public void deletePilot(String id) {
-        pilotManager.removeItem(id);
+        removeItem(pilotManager, id);
     }
 
     @Override
     public void deletePilotByIndex(int index) throws IndexOutOfBoundException {
-        pilotManager.removeItemByIndex(index);
+        removeItem(pilotManager, pilotManager.getItem(index).getId());
     }
 
     @Override
     public void addPilot(Pilot pilot) {
         requireNonNull(pilot);
         pilotManager.addItem(pilot);
+        record(() -> removeItem(pilotManager, pilot.getId()));
+        fire(ModelEvent.Type.ADDED, OperationMode.PILOT, pilot.getId());
     }
 
     @Override
     public void setPilot(Pilot target, Pilot editedPilot) {
         CollectionUtil.requireAllNonNull(target, editedPilot);
         pilotManager.setItem(target, editedPilot);
+        record(() -> setPilot(editedPilot, target));
+        fireReplaced(OperationMode.PILOT, target, editedPilot);
     }
 
     @Override
@@ -315,16 +677,10 @@ public class ModelManager implements Model {
 
     @Override
     public Location getLocationById(String id) {
-        Location locationToFind = null;
-        for (Location location : getFilteredLocationList()) {
-            if (location.getId().equals(id)) {
-                locationToFind = location;
-            }
-        }
-        if (locationToFind == null) {
-            throw new LocationNotFoundException();
-        }
-        return locationToFind;
+        final Predicate<? super Location> predicate = filteredLocations.getPredicate();
+        return locationManager.getItemOptional(id)
+                .filter((location) -> predicate == null || predicate.test(location))
+                .orElseThrow(LocationNotFoundException::new);
     }
 
     @Override
@@ -340,12 +696,17 @@ public class ModelManager implements Model {
     @Override
     public void setLocationManagerFilePath(Path locationManagerFilePath) {
         requireNonNull(locationManagerFilePath);
+        recordUserPrefs();
         userPrefs.setPilotManagerFilePath(locationManagerFilePath);
+        isUserPrefsDirty = true;
     }
 
     @Override
     public void setLocationManager(ReadOnlyItemManager<Location> locationManager) {
-        this.locationManager.resetData(locationManager);
+        recordReset(this.locationManager, this::setLocationManager);
+        detachLinks(this.locationManager);
+        resetItems(this.locationManager, locationManager);
+        attachLinks(this.locationManager);
     }
 
     @Override
@@ -356,29 +717,36 @@ public class ModelManager implements Model {
 
     @Override
     public void deleteLocation(Location location) {
-        locationManager.removeItem(location);
+        removeItem(locationManager, location.getId());
     }
 
     @Override
     public void deleteLocation(String id) {
-        locationManager.removeItem(id);
+        removeItem(locationManager, id);
     }
 
     @Override
     public void deleteLocationByIndex(int index) throws IndexOutOfBoundException {
-        locationManager.removeItemByIndex(index);
+        removeItem(locationManager, locationManager.getItem(index).getId());
     }
 
     @Override
     public void addLocation(Location location) throws DuplicateItemException {
         requireNonNull(location);
         locationManager.addItem(location);
+        record(() -> removeItem(locationManager, location.getId()));
+        attachLinks(location);
+        fire(ModelEvent.Type.ADDED, OperationMode.LOCATION, location.getId());
     }
 
     @Override
     public void setLocation(Location target, Location editedLocation) {
         CollectionUtil.requireAllNonNull(target, editedLocation);
         locationManager.setItem(target, editedLocation);
+        record(() -> setLocation(editedLocation, target));
+        detachLinks(target);
+        attachLinks(editedLocation);
+        fireReplaced(OperationMode.LOCATION, target, editedLocation);
     }
 
     @Override
@@ -398,7 +766,8 @@ public class ModelManager implements Model {
     @Override
     public void setCrewManager(ReadOnlyItemManager<Crew> crewManager) {
         requireNonNull(crewManager);
-        this.crewManager.resetData(crewManager);
+        recordReset(this.crewManager, this::setCrewManager);
+        resetItems(this.crewManager, crewManager);
     }
 
     @Override
@@ -414,7 +783,9 @@ public class ModelManager implements Model {
     @Override
     public void setCrewManagerFilePath(Path crewManagerFilePath) {
         requireNonNull(crewManagerFilePath);
+        recordUserPrefs();
         userPrefs.setCrewManagerFilePath(crewManagerFilePath);
+        isUserPrefsDirty = true;
     }
 
     @Override
@@ -433,32 +804,36 @@ public class ModelManager implements Model {
     public void addCrew(Crew crew) throws DuplicateItemException {
         requireNonNull(crew);
         crewManager.addItem(crew);
+        record(() -> removeItem(crewManager, crew.getId()));
+        fire(ModelEvent.Type.ADDED, OperationMode.CREW, crew.getId());
     }
 
     @Override
     public void deleteCrew(Crew crew) {
-        crewManager.removeItem(crew);
+        removeItem(crewManager, crew.getId());
     }
 
     @Override
     public void deleteCrew(String id) {
-        crewManager.removeItem(id);
+        removeItem(crewManager, id);
     }
 
     @Override
     public void deleteCrew(int index) throws IndexOutOfBoundException {
-        crewManager.removeItemByIndex(index);
+        removeItem(crewManager, crewManager.getItem(index).getId());
     }
 
     @Override
     public void deleteCrewByIndex(int index) throws IndexOutOfBoundException {
-        crewManager.removeItemByIndex(index);
+        removeItem(crewManager, crewManager.getItem(index).getId());
     }
 
     @Override
     public void setCrew(Crew target, Crew editedCrew) {
         CollectionUtil.requireAllNonNull(target, editedCrew);
         crewManager.setItem(target, editedCrew);
+        record(() -> setCrew(editedCrew, target));
+        fireReplaced(OperationMode.CREW, target, editedCrew);
     }
 
     @Override
@@ -500,7 +875,8 @@ public class ModelManager implements Model {
     //=========== Plane ========================================================
     @Override
     public void setPlaneManager(ReadOnlyItemManager<Plane> planeManager) {
-        this.planeManager.resetData(planeManager);
+        recordReset(this.planeManager, this::setPlaneManager);
+        resetItems(this.planeManager, planeManager);
     }
 
     @Override
@@ -512,21 +888,23 @@ public class ModelManager implements Model {
     public void addPlane(Plane plane) throws DuplicateItemException {
         CollectionUtil.requireAllNonNull(plane);
         planeManager.addItem(plane);
+        record(() -> removeItem(planeManager, plane.getId()));
+        fire(ModelEvent.Type.ADDED, OperationMode.PLANE, plane.getId());
     }
 
     @Override
     public void deletePlane(Plane plane) {
-        planeManager.removeItem(plane);
+        removeItem(planeManager, plane.getId());
     }
 
     @Override
     public void deletePlane(String id) {
-        planeManager.removeItem(id);
+        removeItem(planeManager, id);
     }
 
     @Override
     public void deletePlaneByIndex(int index) throws IndexOutOfBoundException {
-        planeManager.removeItemByIndex(index);
+        removeItem(planeManager, planeManager.getItem(index).getId());
     }
 
     @Override
@@ -544,6 +922,8 @@ public class ModelManager implements Model {
     public void setPlane(Plane target, Plane editedPlane) {
         CollectionUtil.requireAllNonNull(target, editedPlane);
         planeManager.setItem(target, editedPlane);
+        record(() -> setPlane(editedPlane, target));
+        fireReplaced(OperationMode.PLANE, target, editedPlane);
     }
 
     @Override
@@ -586,16 +966,10 @@ public class ModelManager implements Model {
 
     @Override
     public Flight getFlightById(String id) {
-        Flight flightToFind = null;
-        for (Flight flight : getFilteredFlightList()) {
-            if (flight.getId().equals(id)) {
-                flightToFind = flight;
-            }
-        }
-        if (flightToFind == null) {
-            throw new FlightNotFoundException();
-        }
-        return flightToFind;
+        final Predicate<? super Flight> predicate = filteredFlights.getPredicate();
+        return flightManager.getItemOptional(id)
+                .filter((flight) -> predicate == null || predicate.test(flight))
+                .orElseThrow(FlightNotFoundException::new);
     }
 
     @Override
@@ -611,12 +985,17 @@ public class ModelManager implements Model {
     @Override
     public void setFlightManagerFilePath(Path flightManagerFilePath) {
         requireNonNull(flightManagerFilePath);
+        recordUserPrefs();
         userPrefs.setFlightManagerFilePath(flightManagerFilePath);
+        isUserPrefsDirty = true;
     }
 
     @Override
     public void setFlightManager(ReadOnlyItemManager<Flight> flightManager) {
-        this.flightManager.resetData(flightManager);
+        recordReset(this.flightManager, this::setFlightManager);
+        detachLinks(this.flightManager);
+        resetItems(this.flightManager, flightManager);
+        attachLinks(this.flightManager);
     }
 
     @Override
@@ -627,29 +1006,36 @@ public class ModelManager implements Model {
 
     @Override
     public void deleteFlight(Flight target) {
-        flightManager.removeItem(target);
+        removeItem(flightManager, target.getId());
     }
 
     @Override
     public void deleteFlight(String id) {
-        flightManager.removeItem(id);
+        removeItem(flightManager, id);
     }
 
     @Override
     public void deleteFlightByIndex(int index) throws IndexOutOfBoundException {
-        flightManager.removeItemByIndex(index);
+        removeItem(flightManager, flightManager.getItem(index).getId());
     }
 
     @Override
     public void addFlight(Flight flight) throws DuplicateItemException {
         requireNonNull(flight);
         flightManager.addItem(flight);
+        record(() -> removeItem(flightManager, flight.getId()));
+        attachLinks(flight);
+        fire(ModelEvent.Type.ADDED, OperationMode.FLIGHT, flight.getId());
     }
 
     @Override
     public void setFlight(Flight target, Flight editedFlight) {
         CollectionUtil.requireAllNonNull(target, editedFlight);
         flightManager.setItem(target, editedFlight);
+        record(() -> setFlight(editedFlight, target));
+        detachLinks(target);
+        attachLinks(editedFlight);
+        fireReplaced(OperationMode.FLIGHT, target, editedFlight);
     }
 
     @Override
@@ -0,0 +1,260 @@
+package wingman.model;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+import wingman.commons.fp.Lazy;
+import wingman.model.crew.Crew;
+import wingman.model.flight.Flight;
+import wingman.model.item.Item;
+import wingman.model.location.Location;
+import wingman.model.pilot.Pilot;
+import wingman.model.plane.Plane;
+
+/**
+ * A consistent, read-only view of all the managers of a {@link Model} and of
+ * the links between their items, as of the time it has been taken. Since
+ * the view does not change when the model does, it can be read on any
+ * thread, e.g. by exports and reports, without holding the lock of the
+ * model and without blocking the commands.
+ * <p>
+ * The items in a snapshot are copies of the items in the model, whose links
+ * resolve against the other managers of the same snapshot. They must not be
+ * modified.
+ * <p>
+ * Taking a snapshot shares as much as possible with the previous one: a
+ * manager that has not changed since is reused as is, and so are the
+ * copies of the items that have not changed. Flights and locations are
+ * copied again whenever a manager that they link to has changed, since
+ * their links have to resolve against the new managers, and otherwise only
+ * the flights and locations whose own links have changed are copied again.
+ */
+public final class ModelSnapshot {
+    private final Part<Pilot> pilots;
+
+    private final Part<Crew> crew;
+
+    private final Part<Plane> planes;
+
+    private final Part<Location> locations;
+
+    private final Part<Flight> flights;
+
+    private ModelSnapshot(
+            Part<Pilot> pilots,
+            Part<Crew> crew,
+            Part<Plane> planes,
+            Part<Location> locations,
+            Part<Flight> flights
+    ) {
+        this.pilots = pilots;
+        this.crew = crew;
+        this.planes = planes;
+        this.locations = locations;
+        this.flights = flights;
+    }
+
+    /**
+     * Takes a snapshot of the given managers, sharing what has not changed
+     * with the previous snapshot. The managers must not be modified while
+     * the snapshot is taken.
+     *
+     * @param previous  the previous snapshot of the same managers, or null.
+     * @param pilots    the pilot manager.
+     * @param crew      the crew manager.
+     * @param planes    the plane manager.
+     * @param locations the location manager.
+     * @param flights   the flight manager.
+     * @return the snapshot taken.
+     */
+    static ModelSnapshot of(
+            ModelSnapshot previous,
+            ItemManager<Pilot> pilots,
+            ItemManager<Crew> crew,
+            ItemManager<Plane> planes,
+            ItemManager<Location> locations,
+            ItemManager<Flight> flights
+    ) {
+        final Part<Pilot> pilotPart = Part.of(previous == null ? null : previous.pilots,
+                pilots, ModelSnapshot::copy,
+                (pilot, copy) -> pilot.isAvailable() == copy.isAvailable());
+        final Part<Crew> crewPart = Part.of(previous == null ? null : previous.crew,
+                crew, ModelSnapshot::copy,
+                (member, copy) -> member.isAvailable() == copy.isAvailable());
+        final Part<Plane> planePart = Part.of(previous == null ? null : previous.planes,
+                planes, ModelSnapshot::copy,
+                (plane, copy) -> plane.isAvailable() == copy.isAvailable());
+
+        // the copies of the flights and locations can only be reused if the
+        // managers which their links resolve against have been reused
+        final boolean isLocationReusable = previous != null
+                && pilotPart == previous.pilots
+                && crewPart == previous.crew
+                && planePart == previous.planes;
+        final Part<Location> locationPart = Part.of(isLocationReusable ? previous.locations : null,
+                locations, (location) -> copy(location, pilotPart, crewPart, planePart),
+                (location, copy) -> location.getCrewLink().hasSameContents(copy.getCrewLink())
+                        && location.getPilotLink().hasSameContents(copy.getPilotLink())
+                        && location.getPlaneLink().hasSameContents(copy.getPlaneLink()));
+
+        final boolean isFlightReusable = isLocationReusable
+                && locationPart == previous.locations;
+        final Part<Flight> flightPart = Part.of(isFlightReusable ? previous.flights : null,
+                flights, (flight) -> copy(flight, pilotPart, crewPart, planePart, locationPart),
+                (flight, copy) -> flight.getPilotLink().hasSameContents(copy.getPilotLink())
+                        && flight.getCrewLink().hasSameContents(copy.getCrewLink())
+                        && flight.getPlaneLink().hasSameContents(copy.getPlaneLink())
+                        && flight.getLocationLink().hasSameContents(copy.getLocationLink()));
+
+        return new ModelSnapshot(pilotPart, crewPart, planePart, locationPart, flightPart);
+    }
+
+    private static Pilot copy(Pilot pilot) {
+        final Pilot copy = new Pilot(pilot.getId(), pilot.getName(), pilot.getAge(),
+                pilot.getGender(), pilot.getRank(), pilot.getFlightHour());
+        if (!pilot.isAvailable()) {
+            copy.setUnavailable();
+        }
+        return copy;
+    }
+
+    private static Crew copy(Crew member) {
+        final Crew copy = new Crew(member.getId(), member.getName(), member.getRank());
+        if (!member.isAvailable()) {
+            copy.setUnavailable();
+        }
+        return copy;
+    }
+
+    private static Plane copy(Plane plane) {
+        final Plane copy = new Plane(plane.getId(), plane.getModel(), plane.getAge());
+        if (!plane.isAvailable()) {
+            copy.setUnavailable();
+        }
+        return copy;
+    }
+
+    private static Location copy(
+            Location location,
+            Part<Pilot> pilots,
+            Part<Crew> crew,
+            Part<Plane> planes
+    ) {
+        return new Location(location.getId(), location.getName(),
+                location.getCrewLink().copyWith(crew.lazyManager),
+                location.getPilotLink().copyWith(pilots.lazyManager),
+                location.getPlaneLink().copyWith(planes.lazyManager));
+    }
+
+    private static Flight copy(
+            Flight flight,
+            Part<Pilot> pilots,
+            Part<Crew> crew,
+            Part<Plane> planes,
+            Part<Location> locations
+    ) {
+        return new Flight(flight.getId(), flight.getCode(),
+                flight.getPilotLink().copyWith(pilots.lazyManager),
+                flight.getCrewLink().copyWith(crew.lazyManager),
+                flight.getPlaneLink().copyWith(planes.lazyManager),
+                flight.getLocationLink().copyWith(locations.lazyManager));
+    }
+
+    public ReadOnlyItemManager<Pilot> getPilotManager() {
+        return pilots.manager;
+    }
+
+    public ReadOnlyItemManager<Crew> getCrewManager() {
+        return crew.manager;
+    }
+
+    public ReadOnlyItemManager<Plane> getPlaneManager() {
+        return planes.manager;
+    }
+
+    public ReadOnlyItemManager<Location> getLocationManager() {
+        return locations.manager;
+    }
+
+    public ReadOnlyItemManager<Flight> getFlightManager() {
+        return flights.manager;
+    }
+
+    /**
+     * The snapshot of a single manager.
+     *
+     * @param <T> the type of the items of the manager.
+     */
+    private static final class Part<T extends Item> {
+        /**
+         * The copy of the manager.
+         */
+        private final ItemManager<T> manager;
+
+        /**
+         * The copy of the manager, for the links of other copies to resolve
+         * their ids against.
+         */
+        private final Lazy<ReadOnlyItemManager<T>> lazyManager;
+
+        /**
+         * The modification count of the manager when it has been copied.
+         */
+        private final long modificationCount;
+
+        /**
+         * The copy of each item of the manager, by the identity of the item.
+         */
+        private final Map<T, T> copies;
+
+        private Part(ItemManager<T> manager, long modificationCount, Map<T, T> copies) {
+            this.manager = manager;
+            this.lazyManager = Lazy.of(manager);
+            this.modificationCount = modificationCount;
+            this.copies = copies;
+        }
+
+        /**
+         * Copies the manager, reusing the part previously copied if the
+         * manager has not changed since, or else the copies of the items
+         * that are still up to date.
+         *
+         * @param previous  the part previously copied from the manager, or
+         *                  null if nothing can be reused.
+         * @param source    the manager to be copied.
+         * @param copier    the function copying an item.
+         * @param isCurrent whether the copy of an item is still up to date,
+         *                  given that the item is the same instance.
+         * @return the part copied.
+         */
+        static <T extends Item> Part<T> of(
+                Part<T> previous,
+                ItemManager<T> source,
+                Function<T, T> copier,
+                BiPredicate<T, T> isCurrent
+        ) {
+            final long modificationCount = source.getModificationCount();
+            if (previous != null && previous.modificationCount == modificationCount) {
+                return previous;
+            }
+            final Map<T, T> copies = new IdentityHashMap<>(source.size());
+            final List<T> items = new ArrayList<>(source.size());
+            for (T item : source.getItemList()) {
+                T copy = previous == null ? null : previous.copies.get(item);
+                if (copy == null || !isCurrent.test(item, copy)) {
+                    copy = copier.apply(item);
+                }
+                copies.put(item, copy);
+                items.add(copy);
+            }
+            final ItemManager<T> manager = new ItemManager<>();
+            manager.setItems(items);
+            manager.markClean();
+            return new Part<>(manager, modificationCount, copies);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package wingman.model;
 
 import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import wingman.model.item.Item;
@@ -76,4 +77,22 @@ public interface ReadOnlyItemManager<T extends Item> {
      * @return an unmodifiable view of the items list
      */
     ObservableList<T> getItemList();
+
+    /**
+     * Returns the ids of the items that have been added, modified or removed
+     * since the manager was last persisted. Storages may use this to write
+     * out only the changed items instead of the whole manager.
+     *
+     * @return an unmodifiable view of the ids of the modified items
+     */
+    Set<String> getDirtyIds();
+
+    /**
+     * Returns the version of the manager, which changes whenever an item is
+     * added, replaced or removed. Callers may cache the items they resolve
+     * from the manager for as long as the version stays the same.
+     *
+     * @return the version of the manager
+     */
+    long getVersion();
 }
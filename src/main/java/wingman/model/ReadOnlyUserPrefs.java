@@ -12,6 +12,14 @@ public interface ReadOnlyUserPrefs {
     GuiSettings getGuiSettings();
 
     OperationMode getOperationMode();
+
+    /**
+     * Returns the format in which the data of the managers is persisted.
+     *
+     * @return the storage format
+     */
+    StorageFormat getStorageFormat();
+
     /**
      * Returns the file path of the pilotManager
      *
@@ -0,0 +1,21 @@
+package wingman.model;
+
+/**
+ * The format in which the data of the managers is persisted.
+ */
+public enum StorageFormat {
+    /**
+     * Each manager is rewritten in full to its JSON file on every save.
+     */
+    JSON,
+    /**
+     * Each manager is kept as a JSON snapshot plus an append-only journal
+     * of the changes made since the snapshot was written.
+     */
+    JOURNAL,
+    /**
+     * Each manager is rewritten in full to a compact binary file next to
+     * its JSON file on every save.
+     */
+    BINARY
+}
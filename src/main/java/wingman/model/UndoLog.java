@@ -0,0 +1,89 @@
+package wingman.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Records how to undo the changes made to a {@link Model}, so that they can
+ * be rolled back, e.g. when a command of a batch fails. Only the changes
+ * themselves are recorded, so the cost of the log grows with the number of
+ * changes rather than with the size of the model.
+ * <p>
+ * The log records from the moment the model starts it until it is either
+ * rolled back or committed.
+ */
+public final class UndoLog {
+    private final Deque<Runnable> undoActions = new ArrayDeque<>();
+
+    /**
+     * The objects whose state before their first change in place has been
+     * saved, so that it is only saved once.
+     */
+    private final Set<Object> touched = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private final Runnable onEnd;
+
+    private boolean isEnded;
+
+    /**
+     * Creates a log that calls {@code onEnd} once it stops recording.
+     *
+     * @param onEnd the action that stops the model recording into this log.
+     */
+    UndoLog(Runnable onEnd) {
+        this.onEnd = requireNonNull(onEnd);
+    }
+
+    /**
+     * Records the action that undoes a change, which is run before the
+     * actions recorded earlier when the log is rolled back.
+     *
+     * @param undoAction the action undoing the change.
+     */
+    void record(Runnable undoAction) {
+        undoActions.push(requireNonNull(undoAction));
+    }
+
+    /**
+     * Marks the object as about to be changed in place.
+     *
+     * @param object the object to be changed.
+     * @return true if this is the first change of the object, whose state
+     *         should then be saved.
+     */
+    boolean touch(Object object) {
+        return touched.add(object);
+    }
+
+    /**
+     * Stops recording and undoes every change recorded, the latest first.
+     */
+    public void rollback() {
+        end();
+        while (!undoActions.isEmpty()) {
+            undoActions.pop().run();
+        }
+    }
+
+    /**
+     * Stops recording and keeps the changes recorded. Does nothing if the
+     * log has already been rolled back or committed.
+     */
+    public void commit() {
+        end();
+        undoActions.clear();
+    }
+
+    private void end() {
+        if (!isEnded) {
+            isEnded = true;
+            touched.clear();
+            onEnd.run();
+        }
+    }
+}
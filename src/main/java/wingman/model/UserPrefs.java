@@ -35,6 +35,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private int operationModeId = 0;
 
+    private StorageFormat storageFormat = StorageFormat.JSON;
+
     /**
      * Creates a {@code UserPrefs} with default values.
      */
@@ -55,11 +57,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     public void resetData(ReadOnlyUserPrefs newUserPrefs) {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
+        setOperationMode(newUserPrefs.getOperationMode());
         setPilotManagerFilePath(newUserPrefs.getPilotManagerFilePath());
         setLocationManagerFilePath(newUserPrefs.getLocationManagerFilePath());
         setCrewManagerFilePath(newUserPrefs.getCrewManagerFilePath());
         setPlaneManagerFilePath(newUserPrefs.getPlaneManagerFilePath());
         setFlightManagerFilePath(newUserPrefs.getFlightManagerFilePath());
+        setStorageFormat(newUserPrefs.getStorageFormat());
     }
 
     public GuiSettings getGuiSettings() {
@@ -94,6 +98,24 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     }
 
 
+    // =================== StorageFormat ===================
+
+    @Override
+    public StorageFormat getStorageFormat() {
+        return storageFormat;
+    }
+
+    /**
+     * Sets the format in which the data of the managers is persisted.
+     *
+     * @param storageFormat the new storage format
+     */
+    public void setStorageFormat(StorageFormat storageFormat) {
+        requireNonNull(storageFormat);
+        this.storageFormat = storageFormat;
+    }
+
+
     // =================== PilotManager ===================
 
     @Override
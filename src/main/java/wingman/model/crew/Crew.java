@@ -134,6 +134,11 @@ public class Crew implements Item {
                 name);
     }
 
+    @Override
+    public Object getNaturalKey() {
+        return List.of(getName(), getRank());
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) {
@@ -162,11 +162,21 @@ public class Flight implements Item {
         );
     }
 
+    @Override
+    public List<Link<?, ?, ?>> getLinks() {
+        return List.of(pilotLink, crewLink, planeLink, locationLink);
+    }
+
     @Override
     public String getId() {
         return this.id;
     }
 
+    @Override
+    public Object getNaturalKey() {
+        return getCode();
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) {
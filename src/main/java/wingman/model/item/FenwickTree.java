@@ -0,0 +1,57 @@
+package wingman.model.item;
+
+/**
+ * A Fenwick tree, or binary indexed tree, of {@code int} counts, which
+ * updates a count and sums the counts before a position in O(log n) time.
+ */
+final class FenwickTree {
+    /**
+     * The partial sums, where the element at {@code i} holds the sum of the
+     * counts in {@code (i - (i & -i), i]}, counting from 1.
+     */
+    private final int[] sums;
+
+    /**
+     * Creates a tree of the given number of counts, all of them 0.
+     *
+     * @param size the number of counts.
+     */
+    FenwickTree(int size) {
+        sums = new int[size + 1];
+    }
+
+    /**
+     * Returns the number of counts in this tree.
+     *
+     * @return the number of counts.
+     */
+    int size() {
+        return sums.length - 1;
+    }
+
+    /**
+     * Adds the delta to the count at the given position.
+     *
+     * @param position the position of the count, from 0.
+     * @param delta    the value to be added to the count.
+     */
+    void add(int position, int delta) {
+        for (int i = position + 1; i < sums.length; i += i & -i) {
+            sums[i] += delta;
+        }
+    }
+
+    /**
+     * Returns the sum of the counts before the given position.
+     *
+     * @param end the position after the last count to be summed.
+     * @return the sum of the counts in {@code [0, end)}.
+     */
+    int sumBefore(int end) {
+        int sum = 0;
+        for (int i = end; i > 0; i -= i & -i) {
+            sum += sums[i];
+        }
+        return sum;
+    }
+}
@@ -2,6 +2,8 @@ package wingman.model.item;
 
 import java.util.List;
 
+import wingman.model.link.Link;
+
 /**
  * The interface for objects that are identifiable by a unique ID.
  */
@@ -27,6 +29,29 @@ public interface Item {
         return List.of("ID: " + getId(), "NOT IMPLEMENTED");
     }
 
+    /**
+     * Returns the natural key of the object, i.e. the value that identifies
+     * the object from the user's point of view. Two objects of the same
+     * type must have equal natural keys if and only if they are equal, so
+     * that duplicates can be found by hashing the keys instead of comparing
+     * the objects one by one. By default, the object itself is the key.
+     *
+     * @return the natural key of the object
+     */
+    default Object getNaturalKey() {
+        return this;
+    }
+
+    /**
+     * Returns the links held by the object, which are registered in the
+     * reverse link index of the model while the object is in it.
+     *
+     * @return the links held by the object
+     */
+    default List<Link<?, ?, ?>> getLinks() {
+        return List.of();
+    }
+
     /**
      * Returns true if the two objects are the same.
      *
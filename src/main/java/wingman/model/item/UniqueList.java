@@ -2,8 +2,11 @@ package wingman.model.item;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -23,6 +26,10 @@ import wingman.model.item.exceptions.ItemNotFoundException;
  *            unique ID.
  */
 public class UniqueList<T extends Item> implements Iterable<T> {
+    /**
+     * The smallest number of slots reserved for the items.
+     */
+    private static final int MIN_SLOT_COUNT = 16;
 
     /**
      * The internal list responsible for holding the items.
@@ -35,6 +42,34 @@ public class UniqueList<T extends Item> implements Iterable<T> {
      */
     private final Map<String, T> internalMap;
 
+    /**
+     * The number of items in the list with each natural key, see
+     * {@link Item#getNaturalKey()}. This allows us an O(1) check of whether
+     * an equal item is already in the list.
+     */
+    private final Map<Object, Integer> naturalKeyCounts;
+
+    /**
+     * The slots of the items, keyed by their ids. The slots are handed out
+     * in the order of the items in the {@code internalList}, and are not
+     * shifted when an item is removed. Instead, the slot of a removed item
+     * is marked in {@code removedSlots}, and the position of an item is its
+     * slot minus the number of removed slots before it. This way, neither
+     * removing an item nor finding the position of an item walks through the
+     * items after it.
+     */
+    private final Map<String, Integer> slots;
+
+    /**
+     * The slots of the removed items, each counted as 1.
+     */
+    private FenwickTree removedSlots;
+
+    /**
+     * The slot to be given to the next item added.
+     */
+    private int nextSlot;
+
     /**
      * The unmodifiable view of the {@code internalList}.
      */
@@ -50,7 +85,10 @@ public class UniqueList<T extends Item> implements Iterable<T> {
     private UniqueList(ObservableList<T> internalList) {
         this.internalList = internalList;
         this.internalMap = new HashMap<>();
-        internalList.forEach((val) -> internalMap.put(val.getId(), val));
+        this.naturalKeyCounts = new HashMap<>();
+        this.slots = new HashMap<>();
+        internalList.forEach(this::index);
+        reassignSlots();
         internalUnmodifiableList = FXCollections.unmodifiableObservableList(
                 internalList);
     }
@@ -94,7 +132,7 @@ public class UniqueList<T extends Item> implements Iterable<T> {
     public boolean contains(T toCheck) {
         return internalMap.containsKey(toCheck.getId())
                 ||
-                internalList.contains(toCheck);
+                naturalKeyCounts.containsKey(toCheck.getNaturalKey());
     }
 
     /**
@@ -117,8 +155,35 @@ public class UniqueList<T extends Item> implements Iterable<T> {
         if (contains(toAdd)) {
             throw new DuplicateItemException(toAdd.getClass());
         }
+        if (nextSlot == removedSlots.size()) {
+            reassignSlots();
+        }
         internalList.add(toAdd);
-        internalMap.put(toAdd.getId(), toAdd);
+        index(toAdd);
+        slots.put(toAdd.getId(), nextSlot++);
+    }
+
+    /**
+     * Inserts a {@code T} at the given position of the list.
+     * The {@code T} must not already exist in the list. Since the later
+     * items move, this takes O(n) time unless the item is inserted at the
+     * end.
+     *
+     * @param index the position of the item.
+     * @param toAdd the item to add.
+     */
+    public void add(int index, T toAdd) {
+        requireNonNull(toAdd);
+        if (index == internalList.size()) {
+            add(toAdd);
+            return;
+        }
+        if (contains(toAdd)) {
+            throw new DuplicateItemException(toAdd.getClass());
+        }
+        internalList.add(index, toAdd);
+        index(toAdd);
+        reassignSlots();
     }
 
     /**
@@ -130,7 +195,7 @@ public class UniqueList<T extends Item> implements Iterable<T> {
     public void setItem(T target, T editedItem) {
         CollectionUtil.requireAllNonNull(target, editedItem);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target.getId());
 
         if (index == -1) {
             throw new ItemNotFoundException(target);
@@ -139,8 +204,9 @@ public class UniqueList<T extends Item> implements Iterable<T> {
         if (!Item.isSame(target, editedItem) && contains(editedItem)) {
             throw new DuplicateItemException(editedItem.getClass());
         }
-        internalMap.remove(target.getId());
-        internalMap.put(editedItem.getId(), editedItem);
+        unindex(internalList.get(index));
+        index(editedItem);
+        slots.put(editedItem.getId(), slots.remove(target.getId()));
         internalList.set(index, editedItem);
     }
 
@@ -158,11 +224,90 @@ public class UniqueList<T extends Item> implements Iterable<T> {
      */
     public void remove(String id) {
         requireNonNull(id);
-        if (!internalList.removeIf((val) -> val.getId().equals(id))) {
+        final int index = indexOf(id);
+        if (index == -1) {
             throw new ItemNotFoundException(id);
-        } else {
-            internalMap.remove(id);
         }
+        unindex(internalMap.get(id));
+        removedSlots.add(slots.remove(id), 1);
+        internalList.remove(index);
+    }
+
+    /**
+     * Removes the items with the given IDs from the list, firing a single
+     * change event. IDs that are not in the list are ignored.
+     *
+     * @param ids the IDs of the items to remove.
+     * @return true if any item has been removed.
+     */
+    public boolean removeAll(Collection<String> ids) {
+        requireNonNull(ids);
+        // items are matched by identity, as their equals compares content
+        final Set<T> toRemove = Collections.newSetFromMap(
+                new IdentityHashMap<>());
+        for (String id : ids) {
+            final T item = internalMap.get(id);
+            if (item != null) {
+                unindex(item);
+                removedSlots.add(slots.remove(id), 1);
+                toRemove.add(item);
+            }
+        }
+        if (toRemove.isEmpty()) {
+            return false;
+        }
+        return internalList.removeAll(toRemove);
+    }
+
+    /**
+     * Adds the item to the id map and the natural key index.
+     *
+     * @param item the item that has been put into the list.
+     */
+    private void index(T item) {
+        internalMap.put(item.getId(), item);
+        naturalKeyCounts.merge(item.getNaturalKey(), 1, Integer::sum);
+    }
+
+    /**
+     * Removes the item from the id map and the natural key index.
+     *
+     * @param item the item that has been taken out of the list.
+     */
+    private void unindex(T item) {
+        internalMap.remove(item.getId());
+        naturalKeyCounts.computeIfPresent(item.getNaturalKey(),
+                (key, count) -> count > 1 ? count - 1 : null);
+    }
+
+    /**
+     * Gives the items their positions as slots, and reserves as many slots
+     * again for the items to be added. Since this only happens once the
+     * slots reserved have run out, it takes amortized O(1) time per item
+     * added.
+     */
+    private void reassignSlots() {
+        slots.clear();
+        for (int i = 0; i < internalList.size(); i++) {
+            slots.put(internalList.get(i).getId(), i);
+        }
+        nextSlot = internalList.size();
+        removedSlots = new FenwickTree(Math.max(MIN_SLOT_COUNT, 2 * nextSlot));
+    }
+
+    /**
+     * Returns the position of the item with the given ID in the list, or -1
+     * if there is no such item.
+     *
+     * @param id the ID of the item.
+     * @return the position of the item.
+     */
+    public int indexOf(String id) {
+        final Integer slot = slots.get(id);
+        if (slot == null) {
+            return -1;
+        }
+        return slot - removedSlots.sumBefore(slot);
     }
 
     /**
@@ -177,7 +322,9 @@ public class UniqueList<T extends Item> implements Iterable<T> {
         }
         internalList.setAll(replacement);
         internalMap.clear();
-        internalList.forEach((item) -> internalMap.put(item.getId(), item));
+        naturalKeyCounts.clear();
+        internalList.forEach(this::index);
+        reassignSlots();
     }
 
     /**
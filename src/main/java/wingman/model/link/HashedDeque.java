@@ -0,0 +1,328 @@
+package wingman.model.link;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * A deque of distinct elements which is also indexed by a hash map, so that
+ * {@link #contains(Object)} and {@link #remove(Object)} take constant time
+ * instead of walking through the whole deque as {@link java.util.ArrayDeque}
+ * does. Insertion at, and removal from, both ends behave exactly as in
+ * {@link java.util.ArrayDeque}.
+ * <p>
+ * Since the elements are distinct, adding an element which is already in
+ * the deque throws an {@link IllegalArgumentException}. Null elements are
+ * not permitted.
+ *
+ * @param <E> the type of the elements.
+ */
+final class HashedDeque<E> extends AbstractCollection<E> implements Deque<E> {
+    private final Map<E, Node<E>> nodes = new HashMap<>();
+
+    private Node<E> head;
+
+    private Node<E> tail;
+
+    private int modCount;
+
+    /**
+     * Creates an empty deque.
+     */
+    HashedDeque() {
+    }
+
+    /**
+     * Creates a deque with the elements of the given collection, in the
+     * order of its iterator. Repeated elements are only kept once, at the
+     * position where they first occur.
+     *
+     * @param source the collection whose elements are to be copied.
+     */
+    HashedDeque(Collection<? extends E> source) {
+        for (E element : source) {
+            if (!contains(element)) {
+                addLast(element);
+            }
+        }
+    }
+
+    private static final class Node<E> {
+        private final E element;
+
+        private Node<E> prev;
+
+        private Node<E> next;
+
+        private Node(E element) {
+            this.element = element;
+        }
+    }
+
+    private Node<E> newNode(E element) {
+        requireNonNull(element);
+        if (nodes.containsKey(element)) {
+            throw new IllegalArgumentException(
+                    String.format("Element %s is already in the deque.", element));
+        }
+        final Node<E> node = new Node<>(element);
+        nodes.put(element, node);
+        modCount++;
+        return node;
+    }
+
+    private void unlink(Node<E> node) {
+        if (node.prev == null) {
+            head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+        nodes.remove(node.element);
+        modCount++;
+    }
+
+    @Override
+    public void addFirst(E element) {
+        final Node<E> node = newNode(element);
+        node.next = head;
+        if (head == null) {
+            tail = node;
+        } else {
+            head.prev = node;
+        }
+        head = node;
+    }
+
+    @Override
+    public void addLast(E element) {
+        final Node<E> node = newNode(element);
+        node.prev = tail;
+        if (tail == null) {
+            head = node;
+        } else {
+            tail.next = node;
+        }
+        tail = node;
+    }
+
+    @Override
+    public boolean offerFirst(E element) {
+        addFirst(element);
+        return true;
+    }
+
+    @Override
+    public boolean offerLast(E element) {
+        addLast(element);
+        return true;
+    }
+
+    @Override
+    public E removeFirst() {
+        if (head == null) {
+            throw new NoSuchElementException();
+        }
+        return pollFirst();
+    }
+
+    @Override
+    public E removeLast() {
+        if (tail == null) {
+            throw new NoSuchElementException();
+        }
+        return pollLast();
+    }
+
+    @Override
+    public E pollFirst() {
+        if (head == null) {
+            return null;
+        }
+        final E element = head.element;
+        unlink(head);
+        return element;
+    }
+
+    @Override
+    public E pollLast() {
+        if (tail == null) {
+            return null;
+        }
+        final E element = tail.element;
+        unlink(tail);
+        return element;
+    }
+
+    @Override
+    public E getFirst() {
+        if (head == null) {
+            throw new NoSuchElementException();
+        }
+        return head.element;
+    }
+
+    @Override
+    public E getLast() {
+        if (tail == null) {
+            throw new NoSuchElementException();
+        }
+        return tail.element;
+    }
+
+    @Override
+    public E peekFirst() {
+        return head == null ? null : head.element;
+    }
+
+    @Override
+    public E peekLast() {
+        return tail == null ? null : tail.element;
+    }
+
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+        final Node<E> node = nodes.get(o);
+        if (node == null) {
+            return false;
+        }
+        unlink(node);
+        return true;
+    }
+
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+        return removeFirstOccurrence(o);
+    }
+
+    @Override
+    public boolean add(E element) {
+        addLast(element);
+        return true;
+    }
+
+    @Override
+    public boolean offer(E element) {
+        return offerLast(element);
+    }
+
+    @Override
+    public E remove() {
+        return removeFirst();
+    }
+
+    @Override
+    public E poll() {
+        return pollFirst();
+    }
+
+    @Override
+    public E element() {
+        return getFirst();
+    }
+
+    @Override
+    public E peek() {
+        return peekFirst();
+    }
+
+    @Override
+    public void push(E element) {
+        addFirst(element);
+    }
+
+    @Override
+    public E pop() {
+        return removeFirst();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return removeFirstOccurrence(o);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return nodes.containsKey(o);
+    }
+
+    @Override
+    public int size() {
+        return nodes.size();
+    }
+
+    @Override
+    public void clear() {
+        nodes.clear();
+        head = null;
+        tail = null;
+        modCount++;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new NodeIterator(false);
+    }
+
+    @Override
+    public Iterator<E> descendingIterator() {
+        return new NodeIterator(true);
+    }
+
+    private final class NodeIterator implements Iterator<E> {
+        private final boolean descending;
+
+        private Node<E> next;
+
+        private Node<E> lastReturned;
+
+        private int expectedModCount = modCount;
+
+        private NodeIterator(boolean descending) {
+            this.descending = descending;
+            this.next = descending ? tail : head;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public E next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = next;
+            next = descending ? next.prev : next.next;
+            return lastReturned.element;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            unlink(lastReturned);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+    }
+}
@@ -8,10 +8,12 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
@@ -44,6 +46,15 @@ public class Link<K, T extends Item,
 
     private static final Logger _logger = LogsCenter.getLogger(Link.class);
 
+    /**
+     * The largest number of values per key for which the values are kept in
+     * a plain {@link ArrayDeque}. Keys which can hold more values, e.g. the
+     * residents of a location, are kept in a {@link HashedDeque} instead, so
+     * that looking up or deleting a value does not get slower as the key
+     * fills up.
+     */
+    static final int HASHED_CAPACITY_THRESHOLD = 64;
+
     /**
      * The shape of this link, which describes: a) what keys this link has;
      * b) how many values per key can this link hold at max.
@@ -60,6 +71,36 @@ public class Link<K, T extends Item,
      */
     private final Lazy<M> managerLazy;
 
+    /**
+     * The item that holds this link, if it has been attached to an index.
+     */
+    private Item owner;
+
+    /**
+     * The reverse index that this link keeps up to date, if any.
+     */
+    private LinkIndex index;
+
+    /**
+     * The items resolved from the ids of each key, which stay valid until
+     * the contents of the key or the version of the manager change. Since
+     * reading a link fills this cache, it is guarded by this link, so that
+     * several threads holding the read lock of the model may read the link
+     * at the same time.
+     */
+    private final Map<K, List<Optional<T>>> resolved = new HashMap<>();
+
+    /**
+     * The manager from which the cached items have been resolved.
+     */
+    private M resolvedManager;
+
+    /**
+     * The version of the manager from which the cached items have been
+     * resolved.
+     */
+    private long resolvedVersion;
+
     /**
      * Creates a link with the given shape.
      *
@@ -75,7 +116,10 @@ public class Link<K, T extends Item,
     ) throws LinkException {
         fitShapeOrThrow(shape, contents);
         this.shape = CollectionUtil.deepCopy(shape);
-        this.contents = CollectionUtil.deepCopyMapDq(contents);
+        this.contents = new HashMap<>();
+        for (K key : contents.keySet()) {
+            this.contents.put(key, newDeque(this.shape.get(key), contents.get(key)));
+        }
         this.managerLazy = managerLazy;
         fill(this.shape, this.contents);
     }
@@ -92,6 +136,18 @@ public class Link<K, T extends Item,
         fill(this.shape, this.contents);
     }
 
+    /**
+     * Creates a link sharing the shape of the given link, with a copy of
+     * its contents.
+     */
+    private Link(Link<K, T, ?> link, Lazy<M> managerLazy) {
+        this.shape = link.shape;
+        this.contents = new HashMap<>();
+        link.contents.forEach((key, ids) ->
+                this.contents.put(key, newDeque(this.shape.get(key), ids)));
+        this.managerLazy = managerLazy;
+    }
+
     /**
      * Creates a link with the given data, and returns a new one if the
      * creation failed.
@@ -158,8 +214,135 @@ public class Link<K, T extends Item,
             if (contents.containsKey(key)) {
                 continue;
             }
-            contents.put(key, new ArrayDeque<>());
+            contents.put(key, newDeque(shape.get(key), List.of()));
+        }
+    }
+
+    /**
+     * Creates the deque holding the values of a key with the given capacity.
+     *
+     * @param capacity the maximum number of values of the key.
+     * @param values   the values initially in the deque.
+     * @return the deque created.
+     */
+    private static Deque<String> newDeque(int capacity, Collection<String> values) {
+        if (capacity > HASHED_CAPACITY_THRESHOLD) {
+            return new HashedDeque<>(values);
+        }
+        return new ArrayDeque<>(values);
+    }
+
+    /**
+     * Attaches this link to the given reverse index, registering the ids it
+     * currently contains. From then on, the index is updated whenever the
+     * contents of this link change. A link can only be attached to one
+     * index at a time.
+     * <p>
+     * The ids are replaced by the instances held by the index, so that all
+     * the links of a model share one string per id, even if their ids were
+     * read from storage as separate strings.
+     *
+     * @param owner the item that holds this link.
+     * @param index the index to be kept up to date.
+     */
+    public void attach(Item owner, LinkIndex index) {
+        requireNonNull(owner);
+        requireNonNull(index);
+        detach();
+        this.owner = owner;
+        this.index = index;
+        for (Map.Entry<K, Deque<String>> entry : contents.entrySet()) {
+            final List<String> ids = new ArrayList<>(entry.getValue().size());
+            boolean isShared = true;
+            for (String id : entry.getValue()) {
+                final String linked = index.onLinked(this, id);
+                isShared &= linked == id;
+                ids.add(linked);
+            }
+            if (!isShared) {
+                entry.setValue(newDeque(shape.get(entry.getKey()), ids));
+            }
+        }
+    }
+
+    /**
+     * Detaches this link from its reverse index, if any, unregistering the
+     * ids it contains.
+     */
+    public void detach() {
+        if (index == null) {
+            return;
+        }
+        forEachId(this::notifyUnlinked);
+        this.index = null;
+        this.owner = null;
+    }
+
+    /**
+     * Returns the item that holds this link, or null if this link has not
+     * been attached to an index.
+     *
+     * @return the item that holds this link.
+     */
+    public Item getOwner() {
+        return owner;
+    }
+
+    private void forEachId(Consumer<String> action) {
+        for (Deque<String> ids : contents.values()) {
+            ids.forEach(action);
+        }
+    }
+
+    private String notifyLinked(String id) {
+        if (index != null) {
+            return index.onLinked(this, id);
+        }
+        return id;
+    }
+
+    private void notifyUnlinked(String id) {
+        if (index != null) {
+            index.onUnlinked(this, id);
+        }
+    }
+
+    /**
+     * Resolves the ids of the key into items, reusing the items resolved
+     * previously if neither the contents of the key nor the manager have
+     * changed since.
+     *
+     * @param key the key, which must be valid.
+     * @return the unmodifiable list of the resolved items.
+     */
+    private synchronized List<Optional<T>> resolve(K key) {
+        final M manager = managerLazy.get();
+        final long version = manager.getVersion();
+        if (manager != resolvedManager || version != resolvedVersion) {
+            resolved.clear();
+            resolvedManager = manager;
+            resolvedVersion = version;
         }
+        return resolved.computeIfAbsent(key, (k) -> contents.get(k)
+                .stream()
+                .map(manager::getItemOptional)
+                .collect(Collectors.collectingAndThen(
+                        Collectors.toList(),
+                        Collections::unmodifiableList
+                )));
+    }
+
+    /**
+     * Copies this link, resolving the ids of the copy through the given
+     * manager instead. The copy is neither owned by any item nor registered
+     * in any index, so changes to either link do not affect the other.
+     *
+     * @param managerLazy the manager through which the copy resolves ids.
+     * @param <N>         the type of the manager.
+     * @return the copy of this link.
+     */
+    public <N extends ReadOnlyItemManager<T>> Link<K, T, N> copyWith(Lazy<N> managerLazy) {
+        return new Link<>(this, managerLazy);
     }
 
     /**
@@ -180,6 +363,57 @@ public class Link<K, T extends Item,
         return CollectionUtil.deepCopyMapDq(contents);
     }
 
+    /**
+     * Returns true if this link holds the same ids as the given link, key by
+     * key and in the same order.
+     *
+     * @param other the link to be compared with.
+     * @return whether the two links hold the same ids.
+     */
+    public boolean hasSameContents(Link<K, ?, ?> other) {
+        requireNonNull(other);
+        if (!contents.keySet().equals(other.contents.keySet())) {
+            return false;
+        }
+        for (Map.Entry<K, Deque<String>> entry : contents.entrySet()) {
+            final Deque<String> otherIds = other.contents.get(entry.getKey());
+            if (entry.getValue().size() != otherIds.size()) {
+                return false;
+            }
+            final Iterator<String> otherIterator = otherIds.iterator();
+            for (String id : entry.getValue()) {
+                if (!id.equals(otherIterator.next())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Saves the current contents of this link, and returns the action that
+     * puts them back, e.g. to roll back later changes. The reverse index of
+     * this link, if any, is kept up to date when the contents are put back.
+     *
+     * @return the action restoring the contents saved.
+     */
+    public Runnable saveContents() {
+        final Map<K, Deque<String>> saved = getCopiedContents();
+        return () -> restoreContents(saved);
+    }
+
+    private void restoreContents(Map<K, Deque<String>> saved) {
+        forEachId(this::notifyUnlinked);
+        for (Map.Entry<K, Deque<String>> entry : saved.entrySet()) {
+            final List<String> ids = new ArrayList<>(entry.getValue().size());
+            for (String id : entry.getValue()) {
+                ids.add(notifyLinked(id));
+            }
+            contents.put(entry.getKey(), newDeque(shape.get(entry.getKey()), ids));
+        }
+        resolved.clear();
+    }
+
     /**
      * Gets the keys of this link as an unmodifiable set.
      *
@@ -261,14 +495,12 @@ public class Link<K, T extends Item,
             K key,
             String id
     ) throws LinkDuplicateException {
-        for (String cid : contents.get(key)) {
-            if (id.equals(cid)) {
-                throw new LinkDuplicateException(String.format(
-                        "A duplicate for %s has already been found.\n"
-                                + "Please try to link something else, or unlink the previous link first.",
-                        key
-                ));
-            }
+        if (contents.get(key).contains(id)) {
+            throw new LinkDuplicateException(String.format(
+                    "A duplicate for %s has already been found.\n"
+                            + "Please try to link something else, or unlink the previous link first.",
+                    key
+            ));
         }
     }
 
@@ -293,7 +525,8 @@ public class Link<K, T extends Item,
         keyValidOrThrow(key);
         canPutOrThrow(key);
         noDuplicateOrThrow(key, id);
-        this.contents.get(key).push(id);
+        this.contents.get(key).push(notifyLinked(id));
+        resolved.remove(key);
     }
 
     /**
@@ -329,11 +562,10 @@ public class Link<K, T extends Item,
         int remainingSize = getRemainingSizeOfKey(key);
         Deque<String> ids = this.contents.get(key);
         if (remainingSize == 0) {
-            ids.pop();
-            ids.add(id);
-        } else {
-            ids.add(id);
+            notifyUnlinked(ids.pop());
         }
+        ids.add(notifyLinked(id));
+        resolved.remove(key);
     }
 
     /**
@@ -343,16 +575,35 @@ public class Link<K, T extends Item,
      */
     public void clear(K key) throws LinkException {
         keyValidOrThrow(key);
+        contents.get(key).forEach(this::notifyUnlinked);
         contents.get(key).clear();
+        resolved.remove(key);
     }
 
     /**
      * Clears all the contents.
      */
     public void clear() {
+        forEachId(this::notifyUnlinked);
         for (K key : contents.keySet()) {
             contents.get(key).clear();
         }
+        resolved.clear();
+    }
+
+    /**
+     * Deletes the given id from every key of this link, if present.
+     *
+     * @param id the id to be deleted.
+     */
+    public void deleteFromAllKeys(String id) {
+        requireNonNull(id);
+        for (Map.Entry<K, Deque<String>> entry : contents.entrySet()) {
+            if (entry.getValue().remove(id)) {
+                resolved.remove(entry.getKey());
+                notifyUnlinked(id);
+            }
+        }
     }
 
     /**
@@ -376,10 +627,11 @@ public class Link<K, T extends Item,
      */
     public void delete(K key, String id) throws LinkException {
         keyValidOrThrow(key);
-        if (!contents.get(key).contains(id)) {
+        if (!contents.get(key).remove(id)) {
             throw new LinkItemNotFoundException(key.toString(), id);
         }
-        contents.get(key).remove(id);
+        resolved.remove(key);
+        notifyUnlinked(id);
     }
 
     /**
@@ -391,10 +643,7 @@ public class Link<K, T extends Item,
      */
     public List<Optional<T>> get(K key) throws LinkException {
         keyValidOrThrow(key);
-        return contents.get(key)
-                       .stream()
-                       .map((id) -> managerLazy.get().getItemOptional(id))
-                       .collect(Collectors.toList());
+        return new ArrayList<>(resolve(key));
     }
 
     /**
@@ -410,17 +659,22 @@ public class Link<K, T extends Item,
         keyValidOrThrow(key);
         final List<T> result = new ArrayList<>();
         final List<String> tbd = new ArrayList<>();
+        final Iterator<Optional<T>> items = resolve(key).iterator();
         for (String id : contents.get(key)) {
-            final Optional<T> tmp = managerLazy.get().getItemOptional(id);
+            final Optional<T> tmp = items.next();
             if (tmp.isPresent()) {
                 result.add(tmp.get());
             } else {
                 tbd.add(id);
             }
         }
+        if (!tbd.isEmpty()) {
+            resolved.remove(key);
+        }
         for (String id : tbd) {
             contents.get(key).remove(id);
-            _logger.warning(String.format(
+            notifyUnlinked(id);
+            _logger.warning(() -> String.format(
                             DELETE_BROKEN_LINK_MESSAGE,
                             id,
                             this
@@ -433,9 +687,8 @@ public class Link<K, T extends Item,
     public List<T> getValid(K key) throws LinkException {
         keyValidOrThrow(key);
         final List<T> result = new ArrayList<>();
-        for (String id : contents.get(key)) {
-            final Optional<T> tmp = managerLazy.get().getItemOptional(id);
-            tmp.ifPresent(result::add);
+        for (Optional<T> item : resolve(key)) {
+            item.ifPresent(result::add);
         }
         return result;
     }
@@ -0,0 +1,161 @@
+package wingman.model.link;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import wingman.model.item.Item;
+
+/**
+ * The reverse index of the {@link Link}s attached to it, which maps the id
+ * of every linked item to the links that contain it. This allows us to find
+ * the items linking to a given item, e.g. the flights of a pilot, without
+ * walking through all the links.
+ * <p>
+ * The links keep this index up to date themselves once they have been
+ * attached with {@link Link#attach(Item, LinkIndex)}. The index also keeps
+ * one instance of each linked id, which the links store instead of their
+ * own copies. That instance is the one held by the linked item itself when
+ * the index can find the item, so that an id read from storage is kept
+ * once however many items link to it. An id is dropped from the index as
+ * soon as no link contains it, so the index only grows with the links of
+ * the model.
+ */
+public class LinkIndex {
+    /**
+     * The links that contain each id.
+     */
+    private final Map<String, LinkedId> linksById = new HashMap<>();
+
+    /**
+     * Returns the instance of an id to be shared by the links, e.g. the one
+     * held by the item with that id.
+     */
+    private final UnaryOperator<String> sharedIds;
+
+    /**
+     * Creates an index which shares the first instance of each id that is
+     * linked.
+     */
+    public LinkIndex() {
+        this(UnaryOperator.identity());
+    }
+
+    /**
+     * Creates an index which shares the instance of each id returned by the
+     * given function when the id is first linked.
+     *
+     * @param sharedIds returns an instance equal to the given id, e.g. the
+     *                  id held by the item with that id.
+     */
+    public LinkIndex(UnaryOperator<String> sharedIds) {
+        this.sharedIds = requireNonNull(sharedIds);
+    }
+
+    /**
+     * Records that the given link now contains the id under one more key.
+     *
+     * @param link the link.
+     * @param id   the id that has been put into the link.
+     * @return the instance of the id shared by the links of this index,
+     *         which the link should store instead of the given one.
+     */
+    String onLinked(Link<?, ?, ?> link, String id) {
+        final LinkedId linkedId = linksById.computeIfAbsent(id,
+                (key) -> new LinkedId(sharedIds.apply(key)));
+        linkedId.links.merge(link, 1, Integer::sum);
+        return linkedId.id;
+    }
+
+    /**
+     * Records that the given link now contains the id under one less key.
+     *
+     * @param link the link.
+     * @param id   the id that has been removed from the link.
+     */
+    void onUnlinked(Link<?, ?, ?> link, String id) {
+        final LinkedId linkedId = linksById.get(id);
+        if (linkedId == null) {
+            return;
+        }
+        final Map<Link<?, ?, ?>, Integer> links = linkedId.links;
+        links.computeIfPresent(link, (key, count) -> count > 1 ? count - 1 : null);
+        if (links.isEmpty()) {
+            linksById.remove(id);
+        }
+    }
+
+    /**
+     * Returns the items whose links contain the given id, i.e. the items
+     * that link to the item with the given id.
+     *
+     * @param id        the id of the linked item.
+     * @param ownerType the type of the linking items to be returned.
+     * @param <T>       the type of the linking items.
+     * @return the items of the given type linking to the id.
+     */
+    public <T extends Item> List<T> getLinkingItems(String id, Class<T> ownerType) {
+        requireNonNull(ownerType);
+        final LinkedId linkedId = linksById.get(id);
+        if (linkedId == null) {
+            return Collections.emptyList();
+        }
+        final List<T> result = new ArrayList<>();
+        for (Link<?, ?, ?> link : linkedId.links.keySet()) {
+            final Item owner = link.getOwner();
+            if (ownerType.isInstance(owner)) {
+                result.add(ownerType.cast(owner));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Removes the given id from all the links that contain it.
+     *
+     * @param id the id to be unlinked.
+     * @return the items whose links have been modified.
+     */
+    public List<Item> unlinkAll(String id) {
+        final LinkedId linkedId = linksById.remove(id);
+        if (linkedId == null) {
+            return Collections.emptyList();
+        }
+        final List<Item> owners = new ArrayList<>();
+        for (Link<?, ?, ?> link : linkedId.links.keySet()) {
+            link.deleteFromAllKeys(id);
+            owners.add(link.getOwner());
+        }
+        return owners;
+    }
+
+    /**
+     * Returns the number of distinct ids contained by the links of this
+     * index.
+     *
+     * @return the number of ids.
+     */
+    public int size() {
+        return linksById.size();
+    }
+
+    /**
+     * An id contained by some links, with the links that contain it and the
+     * number of keys under which the id is found in each of them.
+     */
+    private static class LinkedId {
+        private final String id;
+
+        private final Map<Link<?, ?, ?>, Integer> links = new IdentityHashMap<>();
+
+        private LinkedId(String id) {
+            this.id = id;
+        }
+    }
+}
@@ -138,6 +138,16 @@ public class Location implements Item {
         return planeLink;
     }
 
+    @Override
+    public List<Link<?, ?, ?>> getLinks() {
+        return List.of(crewLink, pilotLink, planeLink);
+    }
+
+    @Override
+    public Object getNaturalKey() {
+        return getName();
+    }
+
     /**
      * Returns true if both locations have the same name.
      * This defines a weaker notion of equality between two locations.
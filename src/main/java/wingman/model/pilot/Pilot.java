@@ -204,6 +204,11 @@ public class Pilot implements Item {
         );
     }
 
+    @Override
+    public Object getNaturalKey() {
+        return getName();
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) {
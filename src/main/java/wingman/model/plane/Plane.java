@@ -133,6 +133,11 @@ public class Plane implements Item {
         return getModel();
     }
 
+    @Override
+    public Object getNaturalKey() {
+        return List.of(getModel(), getAge());
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) {
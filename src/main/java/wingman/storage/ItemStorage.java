@@ -53,4 +53,16 @@ public interface ItemStorage<T extends Item> {
      */
     void save(ReadOnlyItemManager<T> itemManager, Path filePath)
             throws IOException;
+
+    /**
+     * Captures the given {@link ReadOnlyItemManager} and returns the write
+     * that saves it to the storage. The manager is not accessed again after
+     * this method returns, so the write may be performed on another thread.
+     *
+     * @param itemManager cannot be null.
+     * @return the write that saves the captured manager.
+     * @throws IOException if the manager cannot be converted for storage.
+     */
+    PendingWrite prepareSave(ReadOnlyItemManager<T> itemManager)
+            throws IOException;
 }
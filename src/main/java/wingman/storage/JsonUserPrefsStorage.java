@@ -44,4 +44,10 @@ public class JsonUserPrefsStorage implements UserPrefsStorage {
         JsonUtil.saveJsonFile(userPrefs, filePath);
     }
 
+    @Override
+    public PendingWrite prepareSaveUserPrefs(ReadOnlyUserPrefs userPrefs) {
+        final UserPrefs snapshot = new UserPrefs(userPrefs);
+        return () -> JsonUtil.saveJsonFile(snapshot, filePath);
+    }
+
 }
@@ -0,0 +1,31 @@
+package wingman.storage;
+
+import java.io.IOException;
+
+/**
+ * Represents a write to the storage whose data has already been captured,
+ * so that it can be performed later, possibly on another thread, without
+ * observing any changes made to the model in the meantime.
+ */
+@FunctionalInterface
+public interface PendingWrite {
+    /**
+     * Performs the write.
+     *
+     * @throws IOException if there was any problem writing to the storage.
+     */
+    void write() throws IOException;
+
+    /**
+     * Returns a write that has the same effect as performing
+     * {@code previous} followed by this write. By default, this write is
+     * assumed to replace the whole file, so {@code previous} is dropped.
+     *
+     * @param previous the write to the same file that has not been
+     *                 performed yet.
+     * @return the coalesced write.
+     */
+    default PendingWrite after(PendingWrite previous) {
+        return this;
+    }
+}
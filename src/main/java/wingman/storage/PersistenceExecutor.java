@@ -0,0 +1,160 @@
+package wingman.storage;
+
+import static java.util.Objects.requireNonNull;
+import static wingman.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ObjLongConsumer;
+import java.util.logging.Logger;
+
+import wingman.commons.core.LogsCenter;
+
+/**
+ * Performs {@link PendingWrite}s on a dedicated background thread, so that
+ * disk latency does not hold up the thread that submits them.
+ * <p>
+ * Writes to the same file that are submitted before the previous one has
+ * started are coalesced into a single write, so a burst of commands
+ * results in only one write per file. Failures are kept until they are
+ * taken by {@link #takeFailure()} or thrown by {@link #flush()}.
+ */
+public class PersistenceExecutor {
+    private static final String WRITE_FAILED_MESSAGE =
+            "Failed to write %s: %s";
+
+    private final Logger logger =
+            LogsCenter.getLogger(PersistenceExecutor.class);
+
+    private final ExecutorService executor =
+            Executors.newSingleThreadExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "persistence");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    /**
+     * The writes that have not been started yet, keyed by the file they
+     * write to.
+     */
+    private final Map<String, PendingWrite> pendingWrites =
+            new LinkedHashMap<>();
+
+    /**
+     * The first failure that has not been reported yet.
+     */
+    private final AtomicReference<IOException> failure =
+            new AtomicReference<>();
+
+    /**
+     * Told how long each write has taken, in nanoseconds, with the key of
+     * the write.
+     */
+    private final ObjLongConsumer<String> writeTimer;
+
+    /**
+     * Whether a drain of {@link #pendingWrites} has been scheduled but not
+     * started yet.
+     */
+    private boolean isDrainScheduled;
+
+    /**
+     * Creates an executor that does not time its writes.
+     */
+    public PersistenceExecutor() {
+        this((key, nanos) -> {});
+    }
+
+    /**
+     * Creates an executor that tells the given timer how long each write
+     * has taken, on the thread performing the writes.
+     *
+     * @param writeTimer told the key of each write and the time it has
+     *                   taken, in nanoseconds.
+     */
+    public PersistenceExecutor(ObjLongConsumer<String> writeTimer) {
+        this.writeTimer = requireNonNull(writeTimer);
+    }
+
+    /**
+     * Schedules the given write. If a write for the same {@code key} is
+     * still pending, the two are coalesced.
+     *
+     * @param key   identifies the file that is written to.
+     * @param write the write to be performed.
+     */
+    public synchronized void submit(String key, PendingWrite write) {
+        requireAllNonNull(key, write);
+        final PendingWrite previous = pendingWrites.get(key);
+        pendingWrites.put(key, previous == null ? write : write.after(previous));
+        if (!isDrainScheduled) {
+            isDrainScheduled = true;
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        final Map<String, PendingWrite> writes;
+        synchronized (this) {
+            writes = new LinkedHashMap<>(pendingWrites);
+            pendingWrites.clear();
+            isDrainScheduled = false;
+        }
+        for (Map.Entry<String, PendingWrite> entry : writes.entrySet()) {
+            final long start = System.nanoTime();
+            try {
+                entry.getValue().write();
+                writeTimer.accept(entry.getKey(), System.nanoTime() - start);
+            } catch (IOException e) {
+                logger.warning(String.format(
+                        WRITE_FAILED_MESSAGE, entry.getKey(), e));
+                failure.compareAndSet(null, e);
+            }
+        }
+    }
+
+    /**
+     * Returns the first failure since the last call, if any, and clears it.
+     *
+     * @return the failure that has not been reported yet.
+     */
+    public Optional<IOException> takeFailure() {
+        return Optional.ofNullable(failure.getAndSet(null));
+    }
+
+    /**
+     * Blocks until all the writes submitted so far have been performed,
+     * keeping their failures to be taken later.
+     *
+     * @throws IOException if the executor could not wait for the writes.
+     */
+    public void awaitWrites() throws IOException {
+        try {
+            executor.submit(() -> {}).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+    }
+
+    /**
+     * Blocks until all the writes submitted so far have been performed.
+     *
+     * @throws IOException if any of the writes has failed and the failure
+     *                     has not been taken yet.
+     */
+    public void flush() throws IOException {
+        awaitWrites();
+        final Optional<IOException> failure = takeFailure();
+        if (failure.isPresent()) {
+            throw failure.get();
+        }
+    }
+}
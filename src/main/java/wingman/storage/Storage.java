@@ -25,6 +25,9 @@ public interface Storage extends UserPrefsStorage {
     @Override
     void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException;
 
+    @Override
+    PendingWrite prepareSaveUserPrefs(ReadOnlyUserPrefs userPrefs);
+
 
     // ================ Pilot methods ==============================
 
@@ -48,6 +51,12 @@ public interface Storage extends UserPrefsStorage {
      */
     void savePilotManager(ReadOnlyItemManager<Pilot> pilotManager) throws IOException;
 
+    /**
+     * Captures the pilot manager and returns the write that saves it to the
+     * {@code Storage::getPilotManagerFilePath}.
+     */
+    PendingWrite prepareSavePilotManager(ReadOnlyItemManager<Pilot> pilotManager) throws IOException;
+
 
     // ================ Location methods ==============================
 
@@ -72,6 +81,12 @@ public interface Storage extends UserPrefsStorage {
      */
     void saveLocationManager(ReadOnlyItemManager<Location> locationManager) throws IOException;
 
+    /**
+     * Captures the location manager and returns the write that saves it to the
+     * {@code Storage::getLocationManagerFilePath}.
+     */
+    PendingWrite prepareSaveLocationManager(ReadOnlyItemManager<Location> locationManager) throws IOException;
+
 
     // ================ Crew methods ==============================
 
@@ -96,6 +111,12 @@ public interface Storage extends UserPrefsStorage {
      */
     void saveCrewManager(ReadOnlyItemManager<Crew> crewManager) throws IOException;
 
+    /**
+     * Captures the crew manager and returns the write that saves it to the
+     * {@code Storage::getCrewManagerFilePath}.
+     */
+    PendingWrite prepareSaveCrewManager(ReadOnlyItemManager<Crew> crewManager) throws IOException;
+
 
     // ================ Plane methods ==============================
 
@@ -106,6 +127,12 @@ public interface Storage extends UserPrefsStorage {
 
     void savePlaneManager(ReadOnlyItemManager<Plane> planeManager) throws IOException;
 
+    /**
+     * Captures the plane manager and returns the write that saves it to the
+     * {@code Storage::getPlaneManagerFilePath}.
+     */
+    PendingWrite prepareSavePlaneManager(ReadOnlyItemManager<Plane> planeManager) throws IOException;
+
 
     // ================ Flight methods ==============================
 
@@ -133,4 +160,10 @@ public interface Storage extends UserPrefsStorage {
      * @throws IOException when the file cannot be saved
      */
     void saveFlightManager(ReadOnlyItemManager<Flight> flightManager) throws IOException;
+
+    /**
+     * Captures the flight manager and returns the write that saves it to the
+     * {@code Storage::getFlightManagerFilePath}.
+     */
+    PendingWrite prepareSaveFlightManager(ReadOnlyItemManager<Flight> flightManager) throws IOException;
 }
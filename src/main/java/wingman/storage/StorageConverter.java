@@ -0,0 +1,91 @@
+package wingman.storage;
+
+import static wingman.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import wingman.commons.core.LogsCenter;
+import wingman.commons.exceptions.DataConversionException;
+import wingman.model.ReadOnlyItemManager;
+import wingman.model.item.Item;
+
+/**
+ * Converts the data of a manager between two {@link ItemStorage}s, e.g.
+ * when the storage format is switched.
+ */
+public class StorageConverter {
+    private static final Logger logger =
+            LogsCenter.getLogger(StorageConverter.class);
+
+    private StorageConverter() {
+    }
+
+    /**
+     * Copies the data of the source storage to the target storage.
+     *
+     * @param source the storage to read from.
+     * @param target the storage to write to.
+     * @param <T>    the type of the items in the storages.
+     * @return whether there was data to be copied.
+     * @throws DataConversionException if the source cannot be read.
+     * @throws IOException             if the files cannot be accessed.
+     */
+    public static <T extends Item> boolean convert(
+            ItemStorage<T> source,
+            ItemStorage<T> target
+    ) throws DataConversionException, IOException {
+        requireAllNonNull(source, target);
+        final Optional<? extends ReadOnlyItemManager<T>> manager =
+                source.read();
+        if (manager.isEmpty()) {
+            return false;
+        }
+        target.save(manager.get());
+        return true;
+    }
+
+    /**
+     * Copies the data of the source storage to the target storage if the
+     * source has data that was written after the data of the target, e.g.
+     * when switching back to a format after editing the data in another one.
+     * Failures are logged and leave the target untouched, as the data can
+     * still be converted by switching back to the format of the source.
+     *
+     * @param source the storage to read from.
+     * @param target the storage to write to.
+     * @param <T>    the type of the items in the storages.
+     */
+    public static <T extends Item> void convertIfNewer(
+            ItemStorage<T> source,
+            ItemStorage<T> target
+    ) {
+        requireAllNonNull(source, target);
+        try {
+            if (!hasData(source.getPath())) {
+                return;
+            }
+            if (hasData(target.getPath()) && !isNewer(source.getPath(), target.getPath())) {
+                return;
+            }
+            if (convert(source, target)) {
+                logger.info(String.format("Converted %s to %s",
+                        source.getPath(), target.getPath()));
+            }
+        } catch (DataConversionException | IOException e) {
+            logger.warning(String.format("Could not convert %s to %s: %s",
+                    source.getPath(), target.getPath(), e));
+        }
+    }
+
+    private static boolean hasData(Path path) throws IOException {
+        return Files.exists(path) && Files.size(path) > 0;
+    }
+
+    private static boolean isNewer(Path path, Path other) throws IOException {
+        return Files.getLastModifiedTime(path).compareTo(Files.getLastModifiedTime(other)) > 0;
+    }
+}
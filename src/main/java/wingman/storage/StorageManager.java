@@ -64,6 +64,11 @@ public class StorageManager implements Storage {
         userPrefsStorage.saveUserPrefs(userPrefs);
     }
 
+    @Override
+    public PendingWrite prepareSaveUserPrefs(ReadOnlyUserPrefs userPrefs) {
+        return userPrefsStorage.prepareSaveUserPrefs(userPrefs);
+    }
+
 
     // ================ Pilot methods ==============================
 
@@ -109,6 +114,11 @@ public class StorageManager implements Storage {
         pilotStorage.save(pilotManager, filePath);
     }
 
+    @Override
+    public PendingWrite prepareSavePilotManager(ReadOnlyItemManager<Pilot> pilotManager) throws IOException {
+        return pilotStorage.prepareSave(pilotManager);
+    }
+
 
     // ================ Location methods ==============================
 
@@ -155,6 +165,11 @@ public class StorageManager implements Storage {
         locationStorage.save(locationManager, filePath);
     }
 
+    @Override
+    public PendingWrite prepareSaveLocationManager(ReadOnlyItemManager<Location> locationManager) throws IOException {
+        return locationStorage.prepareSave(locationManager);
+    }
+
 
     // ================ Crew methods ==============================
 
@@ -200,6 +215,11 @@ public class StorageManager implements Storage {
         crewStorage.save(crewManager, filePath);
     }
 
+    @Override
+    public PendingWrite prepareSaveCrewManager(ReadOnlyItemManager<Crew> crewManager) throws IOException {
+        return crewStorage.prepareSave(crewManager);
+    }
+
 
     // ================ Plane methods ==============================
 
@@ -245,6 +265,11 @@ public class StorageManager implements Storage {
         planeStorage.save(planeManager, filePath);
     }
 
+    @Override
+    public PendingWrite prepareSavePlaneManager(ReadOnlyItemManager<Plane> planeManager) throws IOException {
+        return planeStorage.prepareSave(planeManager);
+    }
+
 
     // ================ Flight methods ==============================
 
@@ -289,4 +314,9 @@ public class StorageManager implements Storage {
         logger.fine("Attempting to saving flights to data file: " + filePath);
         flightStorage.save(flightManager, filePath);
     }
+
+    @Override
+    public PendingWrite prepareSaveFlightManager(ReadOnlyItemManager<Flight> flightManager) throws IOException {
+        return flightStorage.prepareSave(flightManager);
+    }
 }
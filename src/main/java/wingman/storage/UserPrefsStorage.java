@@ -35,4 +35,12 @@ public interface UserPrefsStorage {
      */
     void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException;
 
+    /**
+     * Captures the given {@link ReadOnlyUserPrefs} and returns the write that
+     * saves it to the storage.
+     *
+     * @param userPrefs cannot be null.
+     * @return the write that saves the captured preferences.
+     */
+    PendingWrite prepareSaveUserPrefs(ReadOnlyUserPrefs userPrefs);
 }
@@ -0,0 +1,252 @@
+package wingman.storage.binary;
+
+import static java.util.Objects.requireNonNull;
+import static wingman.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import wingman.commons.core.LogsCenter;
+import wingman.commons.exceptions.DataConversionException;
+import wingman.commons.exceptions.IllegalValueException;
+import wingman.commons.util.FileUtil;
+import wingman.model.ItemManager;
+import wingman.model.ReadOnlyItemManager;
+import wingman.model.item.Item;
+import wingman.storage.ItemStorage;
+import wingman.storage.PendingWrite;
+
+/**
+ * Represents the base class for the persistent storage of a
+ * {@link ReadOnlyItemManager} in a compact binary format. Extend this class
+ * and implement the encoding of the fields of the item to use it.
+ * <p>
+ * A file starts with a header made of a magic number, the version of the
+ * format and the type of the items, followed by the number of items and the
+ * items themselves. Ids are written as two longs when they are
+ * {@link java.util.UUID}s, and link keys as the ordinals of their enums, so
+ * reordering the constants of a link key enum requires a new version. The
+ * file is read through memory-mapped I/O.
+ *
+ * @param <T> the type of the {@link Item} to be stored.
+ */
+public abstract class BinaryItemStorage<T extends Item>
+        implements ItemStorage<T> {
+    /**
+     * The magic number at the start of every file, "WGMN".
+     */
+    public static final int MAGIC = 0x57474D4E;
+
+    /**
+     * The version of the format that is written.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * The extension of the binary data files.
+     */
+    public static final String FILE_EXTENSION = ".bin";
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private static final String NOT_BINARY_MESSAGE =
+            "%s is not a binary data file";
+
+    private static final String UNSUPPORTED_VERSION_MESSAGE =
+            "%s has unsupported version %d";
+
+    private static final String WRONG_TYPE_MESSAGE =
+            "%s contains %s instead of %s";
+
+    private static final String DUPLICATE_ITEM_MESSAGE =
+            "Items list contains duplicate item(s): %s";
+
+    private static final String ILLEGAL_VALUE_MESSAGE =
+            "Illegal value found in %s: %s";
+
+    private final Logger logger = LogsCenter.getLogger(BinaryItemStorage.class);
+
+    private final Path filePath;
+
+    /**
+     * Creates a new BinaryItemStorage object.
+     *
+     * @param filePath the path to the file to be read from and written to.
+     */
+    public BinaryItemStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the binary data file that corresponds to the given
+     * JSON data file, i.e. the same path with the extension replaced.
+     *
+     * @param jsonPath the path to the JSON data file.
+     * @return the path to the binary data file.
+     */
+    public static Path toBinaryPath(Path jsonPath) {
+        final String fileName = jsonPath.getFileName().toString();
+        final int extensionIndex = fileName.lastIndexOf('.');
+        final String baseName = extensionIndex > 0
+                ? fileName.substring(0, extensionIndex)
+                : fileName;
+        return jsonPath.resolveSibling(baseName + FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the name of the type of the items in this storage, which is
+     * written to the header so that a file of another type is rejected.
+     *
+     * @return the name of the type of the items.
+     */
+    protected abstract String getItemType();
+
+    /**
+     * Writes the fields of the given item.
+     *
+     * @param item   the item to be written.
+     * @param writer the writer to write to.
+     * @throws IOException if the item cannot be written.
+     */
+    protected abstract void writeItem(T item, BinaryWriter writer)
+            throws IOException;
+
+    /**
+     * Reads an item written by {@link #writeItem(Item, BinaryWriter)}.
+     *
+     * @param reader the reader to read from.
+     * @return the item that has been read.
+     * @throws IllegalValueException if the data does not represent a valid
+     *                               item.
+     */
+    protected abstract T readItem(BinaryReader reader)
+            throws IllegalValueException;
+
+    @Override
+    public Path getPath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<? extends ReadOnlyItemManager<T>> read()
+            throws DataConversionException, IOException {
+        return read(filePath);
+    }
+
+    @Override
+    public Optional<? extends ReadOnlyItemManager<T>> read(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath) || Files.size(filePath) == 0) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            final MappedByteBuffer buffer = channel.map(
+                    FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return Optional.of(readManager(new BinaryReader(buffer), filePath));
+        } catch (IllegalValueException ive) {
+            logger.warning(String.format(
+                    ILLEGAL_VALUE_MESSAGE, filePath, ive.getMessage()));
+            throw new DataConversionException(ive);
+        }
+    }
+
+    private ItemManager<T> readManager(BinaryReader reader, Path filePath)
+            throws IllegalValueException {
+        if (reader.readInt() != MAGIC) {
+            throw new IllegalValueException(String.format(
+                    NOT_BINARY_MESSAGE, filePath));
+        }
+        final int version = reader.readInt();
+        if (version != VERSION) {
+            throw new IllegalValueException(String.format(
+                    UNSUPPORTED_VERSION_MESSAGE, filePath, version));
+        }
+        final String itemType = reader.readString();
+        if (!itemType.equals(getItemType())) {
+            throw new IllegalValueException(String.format(
+                    WRONG_TYPE_MESSAGE, filePath, itemType, getItemType()));
+        }
+
+        final ItemManager<T> manager = new ItemManager<>();
+        final int count = reader.readInt();
+        for (int i = 0; i < count; i++) {
+            final T item = readItem(reader);
+            if (manager.hasItem(item)) {
+                throw new IllegalValueException(String.format(
+                        DUPLICATE_ITEM_MESSAGE, item));
+            }
+            manager.addItem(item);
+        }
+        return manager;
+    }
+
+    @Override
+    public void save(ReadOnlyItemManager<T> itemManager) throws IOException {
+        save(itemManager, filePath);
+    }
+
+    @Override
+    public void save(ReadOnlyItemManager<T> itemManager, Path filePath)
+            throws IOException {
+        prepareSave(itemManager, filePath).write();
+    }
+
+    @Override
+    public PendingWrite prepareSave(ReadOnlyItemManager<T> itemManager)
+            throws IOException {
+        return prepareSave(itemManager, filePath);
+    }
+
+    /**
+     * @see #prepareSave(ReadOnlyItemManager)
+     */
+    public PendingWrite prepareSave(
+            ReadOnlyItemManager<T> itemManager,
+            Path filePath
+    ) throws IOException {
+        requireAllNonNull(itemManager, filePath);
+        // encoding is cheap, so the manager is captured as its encoded bytes
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        writeManager(itemManager, bytes);
+        return () -> {
+            final Path tempPath = filePath.resolveSibling(
+                    filePath.getFileName() + TEMP_SUFFIX);
+            FileUtil.createParentDirsOfFile(filePath);
+            try (OutputStream out = new BufferedOutputStream(
+                    Files.newOutputStream(tempPath))) {
+                bytes.writeTo(out);
+            }
+            Files.move(tempPath, filePath,
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        };
+    }
+
+    private void writeManager(
+            ReadOnlyItemManager<T> itemManager,
+            OutputStream out
+    ) throws IOException {
+        final BinaryWriter writer = new BinaryWriter(out);
+        writer.writeInt(MAGIC);
+        writer.writeInt(VERSION);
+        writer.writeString(getItemType());
+        writer.writeInt(itemManager.size());
+        for (T item : itemManager.getItemList()) {
+            writeItem(item, writer);
+        }
+        writer.flush();
+    }
+}
@@ -0,0 +1,149 @@
+package wingman.storage.binary;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+
+import wingman.commons.exceptions.IllegalValueException;
+
+/**
+ * Reads the fields of the items written by {@link BinaryWriter} from a
+ * buffer, which is usually mapped from the data file.
+ */
+public class BinaryReader {
+    private static final String TRUNCATED_MESSAGE =
+            "Data ended unexpectedly at byte %d";
+
+    private static final String ILLEGAL_ID_MESSAGE =
+            "Illegal id type %d at byte %d";
+
+    private static final String ILLEGAL_LENGTH_MESSAGE =
+            "Illegal length %d at byte %d";
+
+    private static final String ILLEGAL_KEY_MESSAGE =
+            "Illegal link key %d for %s";
+
+    private final ByteBuffer buffer;
+
+    /**
+     * Creates a new BinaryReader that reads from the given buffer.
+     *
+     * @param buffer the buffer to read from.
+     */
+    public BinaryReader(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Returns true if there is no more data to be read.
+     */
+    public boolean isAtEnd() {
+        return !buffer.hasRemaining();
+    }
+
+    /**
+     * Reads an int.
+     */
+    public int readInt() throws IllegalValueException {
+        try {
+            return buffer.getInt();
+        } catch (BufferUnderflowException e) {
+            throw truncated();
+        }
+    }
+
+    /**
+     * Reads a boolean written as a single byte.
+     */
+    public boolean readBoolean() throws IllegalValueException {
+        try {
+            return buffer.get() != 0;
+        } catch (BufferUnderflowException e) {
+            throw truncated();
+        }
+    }
+
+    /**
+     * Reads a string written as its length in bytes followed by its UTF-8
+     * bytes.
+     */
+    public String readString() throws IllegalValueException {
+        final int length = readLength();
+        final byte[] bytes = new byte[length];
+        try {
+            buffer.get(bytes);
+        } catch (BufferUnderflowException e) {
+            throw truncated();
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads an id.
+     */
+    public String readId() throws IllegalValueException {
+        final int position = buffer.position();
+        try {
+            final byte type = buffer.get();
+            switch (type) {
+            case BinaryWriter.UUID_ID:
+                return new UUID(buffer.getLong(), buffer.getLong()).toString();
+            case BinaryWriter.STRING_ID:
+                return readString();
+            default:
+                throw new IllegalValueException(String.format(
+                        ILLEGAL_ID_MESSAGE, type, position));
+            }
+        } catch (BufferUnderflowException e) {
+            throw truncated();
+        }
+    }
+
+    /**
+     * Reads the contents of a link whose keys are of the given type.
+     */
+    public <K extends Enum<K>> Map<K, Deque<String>> readLink(Class<K> keyClass)
+            throws IllegalValueException {
+        final K[] keys = keyClass.getEnumConstants();
+        final Map<K, Deque<String>> link = new EnumMap<>(keyClass);
+        final int keyCount = readLength();
+        for (int i = 0; i < keyCount; i++) {
+            final int ordinal = readInt();
+            if (ordinal < 0 || ordinal >= keys.length) {
+                throw new IllegalValueException(String.format(
+                        ILLEGAL_KEY_MESSAGE, ordinal, keyClass.getSimpleName()));
+            }
+            final int idCount = readLength();
+            final Deque<String> ids = new ArrayDeque<>(idCount);
+            for (int j = 0; j < idCount; j++) {
+                ids.add(readId());
+            }
+            link.put(keys[ordinal], ids);
+        }
+        return link;
+    }
+
+    /**
+     * Reads a length, making sure that it cannot exceed the remaining data,
+     * so that a corrupted file cannot cause a huge allocation.
+     */
+    private int readLength() throws IllegalValueException {
+        final int position = buffer.position();
+        final int length = readInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalValueException(String.format(
+                    ILLEGAL_LENGTH_MESSAGE, length, position));
+        }
+        return length;
+    }
+
+    private IllegalValueException truncated() {
+        return new IllegalValueException(String.format(
+                TRUNCATED_MESSAGE, buffer.position()));
+    }
+}
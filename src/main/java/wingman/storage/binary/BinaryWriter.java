@@ -0,0 +1,109 @@
+package wingman.storage.binary;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Deque;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Writes the fields of the items in the binary format read by
+ * {@link BinaryReader}.
+ */
+public class BinaryWriter {
+    /**
+     * Marks an id that is stored as a {@link UUID}, i.e. as two longs.
+     */
+    static final byte UUID_ID = 0;
+
+    /**
+     * Marks an id that is not a {@link UUID}, and is stored as a string.
+     */
+    static final byte STRING_ID = 1;
+
+    private final DataOutputStream out;
+
+    /**
+     * Creates a new BinaryWriter that writes to the given stream.
+     *
+     * @param out the stream to write to.
+     */
+    public BinaryWriter(OutputStream out) {
+        this.out = new DataOutputStream(out);
+    }
+
+    /**
+     * Writes an int.
+     */
+    public void writeInt(int value) throws IOException {
+        out.writeInt(value);
+    }
+
+    /**
+     * Writes a boolean as a single byte.
+     */
+    public void writeBoolean(boolean value) throws IOException {
+        out.writeBoolean(value);
+    }
+
+    /**
+     * Writes a string as its length in bytes followed by its UTF-8 bytes.
+     */
+    public void writeString(String value) throws IOException {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Writes an id. Ids that are in the canonical form of a {@link UUID}
+     * are written as two longs, other ids are written as strings.
+     */
+    public void writeId(String id) throws IOException {
+        final UUID uuid = parseUuid(id);
+        if (uuid == null) {
+            out.writeByte(STRING_ID);
+            writeString(id);
+            return;
+        }
+        out.writeByte(UUID_ID);
+        out.writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    private static UUID parseUuid(String id) {
+        try {
+            final UUID uuid = UUID.fromString(id);
+            // UUID#fromString also accepts some non-canonical forms, which
+            // would not be read back as the same string.
+            return uuid.toString().equals(id) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Writes the contents of a link. Each key is written as its ordinal,
+     * followed by the ids it is linked to.
+     */
+    public <K extends Enum<K>> void writeLink(Map<K, Deque<String>> link)
+            throws IOException {
+        out.writeInt(link.size());
+        for (Map.Entry<K, Deque<String>> entry : link.entrySet()) {
+            out.writeInt(entry.getKey().ordinal());
+            out.writeInt(entry.getValue().size());
+            for (String id : entry.getValue()) {
+                writeId(id);
+            }
+        }
+    }
+
+    /**
+     * Flushes the underlying stream.
+     */
+    public void flush() throws IOException {
+        out.flush();
+    }
+}
@@ -0,0 +1,49 @@
+package wingman.storage.binary.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import wingman.commons.exceptions.IllegalValueException;
+import wingman.model.crew.Crew;
+import wingman.storage.binary.BinaryItemStorage;
+import wingman.storage.binary.BinaryReader;
+import wingman.storage.binary.BinaryWriter;
+import wingman.storage.json.adapted.JsonAdaptedCrew;
+
+/**
+ * Represents a binary storage for {@link Crew}s.
+ */
+public class BinaryCrewManagerStorage extends BinaryItemStorage<Crew> {
+    /**
+     * Creates a new BinaryCrewManagerStorage object.
+     *
+     * @param filePath the path to the file to be read from and written to.
+     */
+    public BinaryCrewManagerStorage(Path filePath) {
+        super(filePath);
+    }
+
+    @Override
+    protected String getItemType() {
+        return "crew";
+    }
+
+    @Override
+    protected void writeItem(Crew item, BinaryWriter writer)
+            throws IOException {
+        writer.writeId(item.getId());
+        writer.writeString(item.getName());
+        writer.writeInt(item.getRank().toIndex());
+        writer.writeBoolean(item.isAvailable());
+    }
+
+    @Override
+    protected Crew readItem(BinaryReader reader) throws IllegalValueException {
+        return new JsonAdaptedCrew(
+                reader.readId(),
+                reader.readString(),
+                reader.readInt(),
+                reader.readBoolean()
+        ).toModelType();
+    }
+}
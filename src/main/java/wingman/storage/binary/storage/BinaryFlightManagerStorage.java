@@ -0,0 +1,58 @@
+package wingman.storage.binary.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import wingman.commons.exceptions.IllegalValueException;
+import wingman.model.crew.FlightCrewType;
+import wingman.model.flight.Flight;
+import wingman.model.location.FlightLocationType;
+import wingman.model.pilot.FlightPilotType;
+import wingman.model.plane.FlightPlaneType;
+import wingman.storage.binary.BinaryItemStorage;
+import wingman.storage.binary.BinaryReader;
+import wingman.storage.binary.BinaryWriter;
+import wingman.storage.json.adapted.JsonAdaptedFlight;
+
+/**
+ * Represents a binary storage for {@link Flight}s.
+ */
+public class BinaryFlightManagerStorage extends BinaryItemStorage<Flight> {
+    /**
+     * Creates a new BinaryFlightManagerStorage object.
+     *
+     * @param filePath the path to the file to be read from and written to.
+     */
+    public BinaryFlightManagerStorage(Path filePath) {
+        super(filePath);
+    }
+
+    @Override
+    protected String getItemType() {
+        return "flight";
+    }
+
+    @Override
+    protected void writeItem(Flight item, BinaryWriter writer)
+            throws IOException {
+        writer.writeId(item.getId());
+        writer.writeString(item.getCode());
+        writer.writeLink(item.getPilotLink().getCopiedContents());
+        writer.writeLink(item.getCrewLink().getCopiedContents());
+        writer.writeLink(item.getPlaneLink().getCopiedContents());
+        writer.writeLink(item.getLocationLink().getCopiedContents());
+    }
+
+    @Override
+    protected Flight readItem(BinaryReader reader)
+            throws IllegalValueException {
+        return new JsonAdaptedFlight(
+                reader.readId(),
+                reader.readString(),
+                reader.readLink(FlightPilotType.class),
+                reader.readLink(FlightCrewType.class),
+                reader.readLink(FlightPlaneType.class),
+                reader.readLink(FlightLocationType.class)
+        ).toModelType();
+    }
+}
@@ -0,0 +1,55 @@
+package wingman.storage.binary.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import wingman.commons.exceptions.IllegalValueException;
+import wingman.model.location.CrewLocationType;
+import wingman.model.location.Location;
+import wingman.model.location.PilotLocationType;
+import wingman.model.location.PlaneLocationType;
+import wingman.storage.binary.BinaryItemStorage;
+import wingman.storage.binary.BinaryReader;
+import wingman.storage.binary.BinaryWriter;
+import wingman.storage.json.adapted.JsonAdaptedLocation;
+
+/**
+ * Represents a binary storage for {@link Location}s.
+ */
+public class BinaryLocationManagerStorage extends BinaryItemStorage<Location> {
+    /**
+     * Creates a new BinaryLocationManagerStorage object.
+     *
+     * @param filePath the path to the file to be read from and written to.
+     */
+    public BinaryLocationManagerStorage(Path filePath) {
+        super(filePath);
+    }
+
+    @Override
+    protected String getItemType() {
+        return "location";
+    }
+
+    @Override
+    protected void writeItem(Location item, BinaryWriter writer)
+            throws IOException {
+        writer.writeId(item.getId());
+        writer.writeString(item.getName());
+        writer.writeLink(item.getCrewLink().getCopiedContents());
+        writer.writeLink(item.getPilotLink().getCopiedContents());
+        writer.writeLink(item.getPlaneLink().getCopiedContents());
+    }
+
+    @Override
+    protected Location readItem(BinaryReader reader)
+            throws IllegalValueException {
+        return new JsonAdaptedLocation(
+                reader.readId(),
+                reader.readString(),
+                reader.readLink(CrewLocationType.class),
+                reader.readLink(PilotLocationType.class),
+                reader.readLink(PlaneLocationType.class)
+        ).toModelType();
+    }
+}
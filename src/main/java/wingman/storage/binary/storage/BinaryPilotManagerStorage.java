@@ -0,0 +1,55 @@
+package wingman.storage.binary.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import wingman.commons.exceptions.IllegalValueException;
+import wingman.model.pilot.Pilot;
+import wingman.storage.binary.BinaryItemStorage;
+import wingman.storage.binary.BinaryReader;
+import wingman.storage.binary.BinaryWriter;
+import wingman.storage.json.adapted.JsonAdaptedPilot;
+
+/**
+ * Represents a binary storage for {@link Pilot}s.
+ */
+public class BinaryPilotManagerStorage extends BinaryItemStorage<Pilot> {
+    /**
+     * Creates a new BinaryPilotManagerStorage object.
+     *
+     * @param filePath the path to the file to be read from and written to.
+     */
+    public BinaryPilotManagerStorage(Path filePath) {
+        super(filePath);
+    }
+
+    @Override
+    protected String getItemType() {
+        return "pilot";
+    }
+
+    @Override
+    protected void writeItem(Pilot item, BinaryWriter writer)
+            throws IOException {
+        writer.writeId(item.getId());
+        writer.writeString(item.getName());
+        writer.writeInt(item.getRank().toIndex());
+        writer.writeInt(item.getAge());
+        writer.writeInt(item.getGender().toIndex());
+        writer.writeInt(item.getFlightHour());
+        writer.writeBoolean(item.isAvailable());
+    }
+
+    @Override
+    protected Pilot readItem(BinaryReader reader) throws IllegalValueException {
+        return new JsonAdaptedPilot(
+                reader.readId(),
+                reader.readString(),
+                reader.readInt(),
+                reader.readInt(),
+                reader.readInt(),
+                reader.readInt(),
+                reader.readBoolean()
+        ).toModelType();
+    }
+}
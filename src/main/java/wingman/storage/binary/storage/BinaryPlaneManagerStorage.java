@@ -0,0 +1,47 @@
+package wingman.storage.binary.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import wingman.commons.exceptions.IllegalValueException;
+import wingman.model.plane.Plane;
+import wingman.storage.binary.BinaryItemStorage;
+import wingman.storage.binary.BinaryReader;
+import wingman.storage.binary.BinaryWriter;
+import wingman.storage.json.adapted.JsonAdaptedPlane;
+
+/**
+ * Represents a binary storage for {@link Plane}s.
+ */
+public class BinaryPlaneManagerStorage extends BinaryItemStorage<Plane> {
+    /**
+     * Creates a new BinaryPlaneManagerStorage object.
+     *
+     * @param filePath the path to the file to be read from and written to.
+     */
+    public BinaryPlaneManagerStorage(Path filePath) {
+        super(filePath);
+    }
+
+    @Override
+    protected String getItemType() {
+        return "plane";
+    }
+
+    @Override
+    protected void writeItem(Plane item, BinaryWriter writer)
+            throws IOException {
+        writer.writeId(item.getId());
+        writer.writeString(item.getModel());
+        writer.writeInt(item.getAge());
+    }
+
+    @Override
+    protected Plane readItem(BinaryReader reader) throws IllegalValueException {
+        return new JsonAdaptedPlane(
+                reader.readId(),
+                reader.readString(),
+                reader.readInt()
+        ).toModelType();
+    }
+}
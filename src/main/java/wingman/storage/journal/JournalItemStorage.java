@@ -0,0 +1,526 @@
+package wingman.storage.journal;
+
+import static java.util.Objects.requireNonNull;
+import static wingman.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import wingman.commons.core.LogsCenter;
+import wingman.commons.exceptions.DataConversionException;
+import wingman.commons.exceptions.IllegalValueException;
+import wingman.commons.util.FileUtil;
+import wingman.commons.util.JsonHelper;
+import wingman.model.ItemManager;
+import wingman.model.ReadOnlyItemManager;
+import wingman.model.item.Item;
+import wingman.storage.PendingWrite;
+import wingman.storage.json.JsonAdaptedModel;
+import wingman.storage.json.JsonItemManager;
+import wingman.storage.json.JsonItemStorage;
+
+/**
+ * Represents the base class for a journaled storage of a
+ * {@link ReadOnlyItemManager}. The manager is kept as a JSON snapshot, which
+ * has the same format as the one written by {@link JsonItemStorage}, and an
+ * append-only journal next to it. Each save only appends a record for every
+ * item that has been modified since the last save; once the journal grows
+ * beyond the compaction threshold, a new snapshot is written in the
+ * background and the journal is started afresh.
+ * <p>
+ * The journal is a text file with one record per line, either
+ * {@code PUT <id> <json of the item>} or {@code REMOVE <id>}, separated by
+ * tabs. Replaying the records in order on top of the snapshot yields the
+ * latest state of the manager. A journal that was last written before its
+ * snapshot, e.g. because the snapshot has since been saved in another
+ * format, is stale and is discarded.
+ *
+ * @param <T> the type of the {@link Item} to be stored.
+ * @param <F> the type of the {@link JsonAdaptedModel} to be stored.
+ * @param <M> the type of the {@link JsonItemManager} to be stored.
+ */
+public abstract class JournalItemStorage<T extends Item,
+                                                F extends JsonAdaptedModel<T>,
+                                                M extends JsonItemManager<T, F>>
+        extends JsonItemStorage<T, F, M> {
+
+    /**
+     * The default size of the journal, in bytes, above which it is
+     * compacted into the snapshot.
+     */
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 64 * 1024;
+
+    private static final String JOURNAL_SUFFIX = ".journal";
+
+    private static final String COMPACTING_SUFFIX = ".compacting";
+
+    private static final String SNAPSHOT_SUFFIX = ".snapshot";
+
+    private static final String RECORD_SEPARATOR = "\t";
+
+    private static final String PUT_RECORD = "PUT";
+
+    private static final String REMOVE_RECORD = "REMOVE";
+
+    private static final String MALFORMED_RECORD_MESSAGE =
+            "Skipping malformed record at line %d of %s";
+
+    private static final String OUT_OF_SYNC_MESSAGE =
+            "Journal of %s is out of sync after a failed write";
+
+    private static final String COMPACTION_FAILED_MESSAGE =
+            "Failed to compact journal of %s: %s";
+
+    private static final String STALE_JOURNAL_MESSAGE =
+            "Discarding journal of %s, which is older than the snapshot";
+
+    /**
+     * The executor on which the snapshots are written. A single thread is
+     * shared by all the journaled storages, so that compactions never
+     * compete with each other for the disk.
+     */
+    private static final ExecutorService COMPACTION_EXECUTOR =
+            Executors.newSingleThreadExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "journal-compaction");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private final Logger logger;
+
+    private final JsonHelper jsonHelper;
+
+    private final long compactionThreshold;
+
+    /**
+     * The compaction that is currently in flight, if any.
+     */
+    private volatile Future<?> compaction = CompletableFuture.completedFuture(null);
+
+    /**
+     * Whether the snapshot on disk is known to be consistent with the
+     * journal, i.e. whether records can be appended to the journal instead
+     * of writing the whole manager.
+     */
+    private boolean hasBaseline;
+
+    /**
+     * The estimated size of the journal, in bytes, including the records
+     * that have been prepared but not written yet.
+     */
+    private long journalSize;
+
+    /**
+     * Whether a write to the journal has failed, in which case the journal
+     * is missing some changes and must not be appended to anymore.
+     */
+    private volatile boolean isOutOfSync;
+
+    /**
+     * Creates a new JournalItemStorage object.
+     *
+     * @param filePath            the path to the snapshot file.
+     * @param compactionThreshold the size of the journal, in bytes, above
+     *                            which it is compacted into the snapshot.
+     */
+    public JournalItemStorage(Path filePath, long compactionThreshold) {
+        super(filePath);
+        this.jsonHelper = JsonHelper.INSTANCE;
+        this.logger = LogsCenter.getLogger(JournalItemStorage.class);
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Gets the class of the {@link JsonAdaptedModel} that was used, i.e. gets
+     * the class of the {@code F} type parameter.
+     *
+     * @return the class of the {@link JsonAdaptedModel} that was used.
+     */
+    protected abstract Class<F> getAdaptedModelClass();
+
+    /**
+     * Creates a new {@link JsonAdaptedModel} from the given item.
+     *
+     * @param item the item to be adapted.
+     * @return a new {@link JsonAdaptedModel} created from the given item.
+     */
+    protected abstract F createAdaptedModel(T item);
+
+    /**
+     * Returns the path to the journal of the given snapshot file.
+     *
+     * @param filePath the path to the snapshot file.
+     * @return the path to the journal.
+     */
+    public static Path getJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_SUFFIX);
+    }
+
+    private static Path getCompactingPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + COMPACTING_SUFFIX);
+    }
+
+    private static Path getSnapshotPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + SNAPSHOT_SUFFIX);
+    }
+
+    @Override
+    public Optional<? extends ReadOnlyItemManager<T>> read(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        final boolean isOwnPath = filePath.equals(getPath());
+        if (isOwnPath) {
+            awaitCompaction();
+        }
+
+        final Optional<? extends ReadOnlyItemManager<T>> snapshot =
+                super.read(filePath);
+        final Path compactingPath = getCompactingPath(filePath);
+        final Path journalPath = getJournalPath(filePath);
+        if (isStale(filePath)) {
+            logger.warning(String.format(STALE_JOURNAL_MESSAGE, filePath));
+            if (isOwnPath) {
+                Files.delete(journalPath);
+                hasBaseline = snapshot.isPresent();
+            }
+            return snapshot;
+        }
+        if (!Files.exists(compactingPath) && !Files.exists(journalPath)) {
+            if (isOwnPath) {
+                hasBaseline = snapshot.isPresent();
+            }
+            return snapshot;
+        }
+
+        final ItemManager<T> manager = new ItemManager<>();
+        snapshot.ifPresent(manager::resetData);
+        replay(compactingPath, manager);
+        replay(journalPath, manager);
+        if (isOwnPath) {
+            hasBaseline = true;
+            journalSize = Files.exists(journalPath) ? Files.size(journalPath) : 0;
+        }
+        return Optional.of(manager);
+    }
+
+    /**
+     * Returns whether the journal of the given snapshot file is stale, i.e.
+     * whether it has been last written before the snapshot. A journal is
+     * never stale while a compaction is unfinished, as its records then
+     * apply on top of the snapshot being written.
+     */
+    private static boolean isStale(Path filePath) throws IOException {
+        final Path journalPath = getJournalPath(filePath);
+        return Files.exists(journalPath)
+                && Files.exists(filePath)
+                && !Files.exists(getCompactingPath(filePath))
+                && Files.getLastModifiedTime(journalPath)
+                        .compareTo(Files.getLastModifiedTime(filePath)) < 0;
+    }
+
+    /**
+     * Folds the journal, if any, into the snapshot and deletes it, so that
+     * the snapshot alone holds the latest state of the manager, e.g. before
+     * switching to a format that only reads the snapshot. The snapshot
+     * keeps the time the journal was last written, so that it is compared
+     * with the data of the other formats as of its latest change. A stale
+     * journal is discarded instead.
+     *
+     * @throws DataConversionException if the snapshot or the journal
+     *                                 contains an illegal item.
+     * @throws IOException             if the files cannot be accessed.
+     */
+    public void compact() throws DataConversionException, IOException {
+        final Path filePath = getPath();
+        final Path journalPath = getJournalPath(filePath);
+        final Path compactingPath = getCompactingPath(filePath);
+        final Optional<? extends ReadOnlyItemManager<T>> manager = read(filePath);
+        if (!Files.exists(journalPath) && !Files.exists(compactingPath)) {
+            return;
+        }
+
+        FileTime lastWritten = FileTime.fromMillis(0);
+        for (Path path : List.of(journalPath, compactingPath)) {
+            if (Files.exists(path)
+                    && Files.getLastModifiedTime(path).compareTo(lastWritten) > 0) {
+                lastWritten = Files.getLastModifiedTime(path);
+            }
+        }
+        replaceSnapshot(createManager(manager.orElseThrow()));
+        Files.setLastModifiedTime(filePath, lastWritten);
+        Files.deleteIfExists(compactingPath);
+        Files.deleteIfExists(journalPath);
+        // the next save may be of another manager, e.g. one converted from
+        // another format, so it has to write the whole manager
+        hasBaseline = false;
+        journalSize = 0;
+        logger.info(String.format("Compacted journal of %s", filePath));
+    }
+
+    /**
+     * Applies the records in the given journal, if it exists, to the manager.
+     *
+     * @param journalPath the path to the journal.
+     * @param manager     the manager the records are applied to.
+     * @throws DataConversionException if a record contains an illegal item.
+     * @throws IOException             if the journal cannot be read.
+     */
+    private void replay(Path journalPath, ItemManager<T> manager)
+            throws DataConversionException, IOException {
+        if (!Files.exists(journalPath)) {
+            return;
+        }
+        final List<String> records =
+                Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+        for (int i = 0; i < records.size(); i++) {
+            try {
+                applyRecord(records.get(i), manager);
+            } catch (IllegalValueException e) {
+                throw new DataConversionException(e);
+            } catch (IOException | IllegalArgumentException e) {
+                // a record that has been torn by a crash mid-write
+                logger.warning(String.format(
+                        MALFORMED_RECORD_MESSAGE, i + 1, journalPath));
+            }
+        }
+    }
+
+    private void applyRecord(String record, ItemManager<T> manager)
+            throws IllegalValueException, IOException {
+        final String[] fields = record.split(RECORD_SEPARATOR, 3);
+        if (fields.length == 2 && fields[0].equals(REMOVE_RECORD)) {
+            if (manager.hasItem(fields[1])) {
+                manager.removeItem(fields[1]);
+            }
+            return;
+        }
+        if (fields.length != 3 || !fields[0].equals(PUT_RECORD)) {
+            throw new IllegalArgumentException(record);
+        }
+
+        final T item = jsonHelper
+                .fromJsonString(fields[2], getAdaptedModelClass())
+                .toModelType();
+        if (!item.getId().equals(fields[1])) {
+            throw new IllegalArgumentException(record);
+        }
+        final Optional<T> existing = manager.getItemOptional(item.getId());
+        if (existing.isPresent()) {
+            manager.setItem(existing.get(), item);
+        } else {
+            manager.addItem(item);
+        }
+    }
+
+    @Override
+    public PendingWrite prepareSave(
+            ReadOnlyItemManager<T> itemManager,
+            Path filePath
+    ) throws IOException {
+        requireAllNonNull(itemManager, filePath);
+        if (!filePath.equals(getPath())) {
+            return super.prepareSave(itemManager, filePath);
+        }
+        if (!hasBaseline || isOutOfSync) {
+            hasBaseline = true;
+            journalSize = 0;
+            final M snapshot = createManager(itemManager);
+            return () -> writeSnapshot(snapshot);
+        }
+
+        final String records = createRecords(itemManager);
+        journalSize += records.length();
+        if (journalSize < compactionThreshold) {
+            return new JournalWrite(records, null);
+        }
+        journalSize = 0;
+        return new JournalWrite(records, createManager(itemManager));
+    }
+
+    /**
+     * Writes the whole manager to the snapshot and discards the journal.
+     * This is used when the snapshot on disk cannot be relied on, e.g. when
+     * it could not be read or when a previous write has failed.
+     */
+    private void writeSnapshot(M snapshot) throws IOException {
+        awaitCompaction();
+        try {
+            Files.deleteIfExists(getCompactingPath(getPath()));
+            Files.deleteIfExists(getJournalPath(getPath()));
+            replaceSnapshot(snapshot);
+            isOutOfSync = false;
+        } catch (IOException e) {
+            isOutOfSync = true;
+            throw e;
+        }
+    }
+
+    /**
+     * Writes the given snapshot to a temporary file, then moves it over the
+     * current snapshot, so that the snapshot on disk is never partially
+     * written.
+     */
+    private void replaceSnapshot(M snapshot) throws IOException {
+        final Path filePath = getPath();
+        final Path snapshotPath = getSnapshotPath(filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        jsonHelper.saveJsonFile(snapshot, snapshotPath);
+        Files.move(snapshotPath, filePath,
+                StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private String createRecords(ReadOnlyItemManager<T> itemManager)
+            throws IOException {
+        final StringBuilder records = new StringBuilder();
+        for (String id : itemManager.getDirtyIds()) {
+            final Optional<T> item = itemManager.getItemOptional(id);
+            if (item.isPresent()) {
+                records.append(PUT_RECORD)
+                       .append(RECORD_SEPARATOR)
+                       .append(id)
+                       .append(RECORD_SEPARATOR)
+                       .append(jsonHelper.toCompactJsonString(
+                               createAdaptedModel(item.get())));
+            } else {
+                records.append(REMOVE_RECORD)
+                       .append(RECORD_SEPARATOR)
+                       .append(id);
+            }
+            records.append('\n');
+        }
+        return records.toString();
+    }
+
+    /**
+     * Moves the journal aside and writes the given snapshot in the
+     * background. Records appended in the meantime go to a fresh journal,
+     * and the journal that was moved aside is only deleted once the
+     * snapshot is in place, so that a crash at any point leaves a
+     * replayable state.
+     */
+    private void startCompaction(M snapshot) throws IOException {
+        awaitCompaction();
+        final Path filePath = getPath();
+        final Path journalPath = getJournalPath(filePath);
+        final Path compactingPath = getCompactingPath(filePath);
+        if (!Files.exists(journalPath)) {
+            return;
+        }
+        if (Files.exists(compactingPath)) {
+            // a previous compaction did not finish, fold the journal into it
+            Files.write(
+                    compactingPath,
+                    Files.readAllBytes(journalPath),
+                    StandardOpenOption.APPEND
+            );
+            Files.delete(journalPath);
+        } else {
+            Files.move(journalPath, compactingPath,
+                    StandardCopyOption.ATOMIC_MOVE);
+        }
+
+        compaction = COMPACTION_EXECUTOR.submit(() -> {
+            try {
+                replaceSnapshot(snapshot);
+                // the records appended since the journal was moved aside
+                // apply on top of the new snapshot, so the journal must
+                // not look older than it
+                if (Files.exists(journalPath)) {
+                    Files.setLastModifiedTime(journalPath, FileTime.from(Instant.now()));
+                }
+                Files.delete(compactingPath);
+            } catch (IOException e) {
+                logger.warning(String.format(
+                        COMPACTION_FAILED_MESSAGE, filePath, e));
+            }
+        });
+    }
+
+    /**
+     * Appends records to the journal and, if the journal has grown beyond
+     * the threshold, compacts it into the given snapshot of the manager
+     * taken right after the records.
+     */
+    private class JournalWrite implements PendingWrite {
+        private final String records;
+
+        private final M compactionSnapshot;
+
+        JournalWrite(String records, M compactionSnapshot) {
+            this.records = records;
+            this.compactionSnapshot = compactionSnapshot;
+        }
+
+        @Override
+        public void write() throws IOException {
+            if (isOutOfSync) {
+                throw new IOException(String.format(
+                        OUT_OF_SYNC_MESSAGE, getPath()));
+            }
+            try {
+                if (!records.isEmpty()) {
+                    Files.write(
+                            getJournalPath(getPath()),
+                            records.getBytes(StandardCharsets.UTF_8),
+                            StandardOpenOption.CREATE,
+                            StandardOpenOption.APPEND
+                    );
+                }
+                if (compactionSnapshot != null) {
+                    startCompaction(compactionSnapshot);
+                }
+            } catch (IOException e) {
+                // the journal no longer matches the model, so the next
+                // save has to write the whole manager again
+                isOutOfSync = true;
+                throw e;
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public PendingWrite after(PendingWrite previous) {
+            if (previous instanceof JournalItemStorage.JournalWrite
+                    && ((JournalWrite) previous).compactionSnapshot == null) {
+                return new JournalWrite(
+                        ((JournalWrite) previous).records + records,
+                        compactionSnapshot
+                );
+            }
+            return () -> {
+                previous.write();
+                write();
+            };
+        }
+    }
+
+    /**
+     * Blocks until the compaction that is currently in flight, if any, has
+     * finished.
+     */
+    public void awaitCompaction() {
+        try {
+            compaction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning(String.format(
+                    COMPACTION_FAILED_MESSAGE, getPath(), e.getCause()));
+        }
+    }
+}
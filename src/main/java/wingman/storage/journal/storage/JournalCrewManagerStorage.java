@@ -0,0 +1,58 @@
+package wingman.storage.journal.storage;
+
+import java.nio.file.Path;
+
+import wingman.model.ReadOnlyItemManager;
+import wingman.model.crew.Crew;
+import wingman.storage.journal.JournalItemStorage;
+import wingman.storage.json.adapted.JsonAdaptedCrew;
+import wingman.storage.json.serializable.JsonSerializableCrewManager;
+
+/**
+ * Represents a journaled storage for {@link Crew}s.
+ */
+public class JournalCrewManagerStorage extends JournalItemStorage<Crew,
+                                                                   JsonAdaptedCrew,
+                                                                   JsonSerializableCrewManager> {
+    /**
+     * Creates a new JournalCrewManagerStorage object.
+     *
+     * @param filePath the path to the snapshot file.
+     */
+    public JournalCrewManagerStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a new JournalCrewManagerStorage object.
+     *
+     * @param filePath            the path to the snapshot file.
+     * @param compactionThreshold the size of the journal, in bytes, above
+     *                            which it is compacted into the snapshot.
+     */
+    public JournalCrewManagerStorage(Path filePath, long compactionThreshold) {
+        super(filePath, compactionThreshold);
+    }
+
+    @Override
+    protected Class<JsonSerializableCrewManager> getManagerClass() {
+        return JsonSerializableCrewManager.class;
+    }
+
+    @Override
+    protected JsonSerializableCrewManager createManager(
+            ReadOnlyItemManager<Crew> modelManager
+    ) {
+        return JsonSerializableCrewManager.from(modelManager);
+    }
+
+    @Override
+    protected Class<JsonAdaptedCrew> getAdaptedModelClass() {
+        return JsonAdaptedCrew.class;
+    }
+
+    @Override
+    protected JsonAdaptedCrew createAdaptedModel(Crew item) {
+        return new JsonAdaptedCrew(item);
+    }
+}
@@ -0,0 +1,58 @@
+package wingman.storage.journal.storage;
+
+import java.nio.file.Path;
+
+import wingman.model.ReadOnlyItemManager;
+import wingman.model.flight.Flight;
+import wingman.storage.journal.JournalItemStorage;
+import wingman.storage.json.adapted.JsonAdaptedFlight;
+import wingman.storage.json.serializable.JsonSerializableFlightManager;
+
+/**
+ * Represents a journaled storage for {@link Flight}s.
+ */
+public class JournalFlightManagerStorage extends JournalItemStorage<Flight,
+                                                                   JsonAdaptedFlight,
+                                                                   JsonSerializableFlightManager> {
+    /**
+     * Creates a new JournalFlightManagerStorage object.
+     *
+     * @param filePath the path to the snapshot file.
+     */
+    public JournalFlightManagerStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a new JournalFlightManagerStorage object.
+     *
+     * @param filePath            the path to the snapshot file.
+     * @param compactionThreshold the size of the journal, in bytes, above
+     *                            which it is compacted into the snapshot.
+     */
+    public JournalFlightManagerStorage(Path filePath, long compactionThreshold) {
+        super(filePath, compactionThreshold);
+    }
+
+    @Override
+    protected Class<JsonSerializableFlightManager> getManagerClass() {
+        return JsonSerializableFlightManager.class;
+    }
+
+    @Override
+    protected JsonSerializableFlightManager createManager(
+            ReadOnlyItemManager<Flight> modelManager
+    ) {
+        return JsonSerializableFlightManager.from(modelManager);
+    }
+
+    @Override
+    protected Class<JsonAdaptedFlight> getAdaptedModelClass() {
+        return JsonAdaptedFlight.class;
+    }
+
+    @Override
+    protected JsonAdaptedFlight createAdaptedModel(Flight item) {
+        return new JsonAdaptedFlight(item);
+    }
+}
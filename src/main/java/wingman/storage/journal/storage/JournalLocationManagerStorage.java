@@ -0,0 +1,58 @@
+package wingman.storage.journal.storage;
+
+import java.nio.file.Path;
+
+import wingman.model.ReadOnlyItemManager;
+import wingman.model.location.Location;
+import wingman.storage.journal.JournalItemStorage;
+import wingman.storage.json.adapted.JsonAdaptedLocation;
+import wingman.storage.json.serializable.JsonSerializableLocationManager;
+
+/**
+ * Represents a journaled storage for {@link Location}s.
+ */
+public class JournalLocationManagerStorage extends JournalItemStorage<Location,
+                                                                   JsonAdaptedLocation,
+                                                                   JsonSerializableLocationManager> {
+    /**
+     * Creates a new JournalLocationManagerStorage object.
+     *
+     * @param filePath the path to the snapshot file.
+     */
+    public JournalLocationManagerStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a new JournalLocationManagerStorage object.
+     *
+     * @param filePath            the path to the snapshot file.
+     * @param compactionThreshold the size of the journal, in bytes, above
+     *                            which it is compacted into the snapshot.
+     */
+    public JournalLocationManagerStorage(Path filePath, long compactionThreshold) {
+        super(filePath, compactionThreshold);
+    }
+
+    @Override
+    protected Class<JsonSerializableLocationManager> getManagerClass() {
+        return JsonSerializableLocationManager.class;
+    }
+
+    @Override
+    protected JsonSerializableLocationManager createManager(
+            ReadOnlyItemManager<Location> modelManager
+    ) {
+        return JsonSerializableLocationManager.from(modelManager);
+    }
+
+    @Override
+    protected Class<JsonAdaptedLocation> getAdaptedModelClass() {
+        return JsonAdaptedLocation.class;
+    }
+
+    @Override
+    protected JsonAdaptedLocation createAdaptedModel(Location item) {
+        return new JsonAdaptedLocation(item);
+    }
+}
@@ -0,0 +1,58 @@
+package wingman.storage.journal.storage;
+
+import java.nio.file.Path;
+
+import wingman.model.ReadOnlyItemManager;
+import wingman.model.pilot.Pilot;
+import wingman.storage.journal.JournalItemStorage;
+import wingman.storage.json.adapted.JsonAdaptedPilot;
+import wingman.storage.json.serializable.JsonSerializablePilotManager;
+
+/**
+ * Represents a journaled storage for {@link Pilot}s.
+ */
+public class JournalPilotManagerStorage extends JournalItemStorage<Pilot,
+                                                                   JsonAdaptedPilot,
+                                                                   JsonSerializablePilotManager> {
+    /**
+     * Creates a new JournalPilotManagerStorage object.
+     *
+     * @param filePath the path to the snapshot file.
+     */
+    public JournalPilotManagerStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a new JournalPilotManagerStorage object.
+     *
+     * @param filePath            the path to the snapshot file.
+     * @param compactionThreshold the size of the journal, in bytes, above
+     *                            which it is compacted into the snapshot.
+     */
+    public JournalPilotManagerStorage(Path filePath, long compactionThreshold) {
+        super(filePath, compactionThreshold);
+    }
+
+    @Override
+    protected Class<JsonSerializablePilotManager> getManagerClass() {
+        return JsonSerializablePilotManager.class;
+    }
+
+    @Override
+    protected JsonSerializablePilotManager createManager(
+            ReadOnlyItemManager<Pilot> modelManager
+    ) {
+        return JsonSerializablePilotManager.from(modelManager);
+    }
+
+    @Override
+    protected Class<JsonAdaptedPilot> getAdaptedModelClass() {
+        return JsonAdaptedPilot.class;
+    }
+
+    @Override
+    protected JsonAdaptedPilot createAdaptedModel(Pilot item) {
+        return new JsonAdaptedPilot(item);
+    }
+}
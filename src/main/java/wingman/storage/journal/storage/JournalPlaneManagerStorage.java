@@ -0,0 +1,58 @@
+package wingman.storage.journal.storage;
+
+import java.nio.file.Path;
+
+import wingman.model.ReadOnlyItemManager;
+import wingman.model.plane.Plane;
+import wingman.storage.journal.JournalItemStorage;
+import wingman.storage.json.adapted.JsonAdaptedPlane;
+import wingman.storage.json.serializable.JsonSerializablePlaneManager;
+
+/**
+ * Represents a journaled storage for {@link Plane}s.
+ */
+public class JournalPlaneManagerStorage extends JournalItemStorage<Plane,
+                                                                   JsonAdaptedPlane,
+                                                                   JsonSerializablePlaneManager> {
+    /**
+     * Creates a new JournalPlaneManagerStorage object.
+     *
+     * @param filePath the path to the snapshot file.
+     */
+    public JournalPlaneManagerStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a new JournalPlaneManagerStorage object.
+     *
+     * @param filePath            the path to the snapshot file.
+     * @param compactionThreshold the size of the journal, in bytes, above
+     *                            which it is compacted into the snapshot.
+     */
+    public JournalPlaneManagerStorage(Path filePath, long compactionThreshold) {
+        super(filePath, compactionThreshold);
+    }
+
+    @Override
+    protected Class<JsonSerializablePlaneManager> getManagerClass() {
+        return JsonSerializablePlaneManager.class;
+    }
+
+    @Override
+    protected JsonSerializablePlaneManager createManager(
+            ReadOnlyItemManager<Plane> modelManager
+    ) {
+        return JsonSerializablePlaneManager.from(modelManager);
+    }
+
+    @Override
+    protected Class<JsonAdaptedPlane> getAdaptedModelClass() {
+        return JsonAdaptedPlane.class;
+    }
+
+    @Override
+    protected JsonAdaptedPlane createAdaptedModel(Plane item) {
+        return new JsonAdaptedPlane(item);
+    }
+}
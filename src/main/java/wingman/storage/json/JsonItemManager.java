@@ -4,6 +4,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import wingman.commons.exceptions.IllegalValueException;
 import wingman.model.ItemManager;
 import wingman.model.ReadOnlyItemManager;
@@ -27,6 +29,28 @@ public abstract class JsonItemManager<T extends Item, F extends JsonAdaptedModel
      */
     protected final List<F> items = new ArrayList<>();
 
+    /**
+     * The items converted into the model type by the
+     * {@link JsonItemManagerDeserializer} while this manager was parsed, or
+     * null if this manager was not parsed. It is not part of the file.
+     */
+    @JsonIgnore
+    private ItemManager<T> parsedItems;
+
+    /**
+     * The first error found while converting the parsed items, which is
+     * thrown by {@link #toModelType()}. It is not part of the file.
+     */
+    @JsonIgnore
+    private IllegalValueException parseError;
+
+    /**
+     * Whether {@link #parsedItems} has been returned by {@link #toModelType()}
+     * and so may be changed by its caller. It is not part of the file.
+     */
+    @JsonIgnore
+    private boolean isParsedItemsHandedOver;
+
     /**
      * The function to convert the item into a JsonAdaptedModel.
      *
@@ -46,17 +70,60 @@ public abstract class JsonItemManager<T extends Item, F extends JsonAdaptedModel
                             .collect(Collectors.toList()));
     }
 
+    /**
+     * Sets the result of converting the items as they were parsed. Any error
+     * is deferred until {@link #toModelType()} is called.
+     *
+     * @param parsedItems the items converted so far.
+     * @param parseError  the error that stopped the conversion, or null.
+     */
+    void setParsedItems(ItemManager<T> parsedItems, IllegalValueException parseError) {
+        this.parsedItems = parsedItems;
+        this.parseError = parseError;
+        this.isParsedItemsHandedOver = false;
+    }
+
+    /**
+     * Converts the item into the model type and adds it to the manager.
+     *
+     * @param manager the manager to add the item to.
+     * @param item    the item to be converted.
+     * @throws IllegalValueException if the item is invalid, or already in
+     *                               the manager.
+     */
+    static <T extends Item> void addToManager(ItemManager<T> manager, JsonAdaptedModel<T> item)
+            throws IllegalValueException {
+        T modelItem = item.toModelType();
+        if (manager.hasItem(modelItem)) {
+            throw new IllegalValueException(
+                    MESSAGE_DUPLICATE_ITEMS + ": " + modelItem
+            );
+        }
+        manager.addItem(modelItem);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The first call on a parsed manager hands over the {@code ItemManager}
+     * built while parsing instead of copying it; only later calls copy it.
+     */
     @Override
     public ItemManager<T> toModelType() throws IllegalValueException {
-        ItemManager<T> manager = new ItemManager<>();
+        if (parseError != null) {
+            throw parseError;
+        }
+        ItemManager<T> manager;
+        if (parsedItems == null) {
+            manager = new ItemManager<>();
+        } else if (isParsedItemsHandedOver) {
+            manager = new ItemManager<>(parsedItems);
+        } else {
+            manager = parsedItems;
+            isParsedItemsHandedOver = true;
+        }
         for (F item : items) {
-            T modelItem = item.toModelType();
-            if (manager.hasItem(modelItem)) {
-                throw new IllegalValueException(
-                        MESSAGE_DUPLICATE_ITEMS + ": " + modelItem
-                );
-            }
-            manager.addItem(modelItem);
+            addToManager(manager, item);
         }
         return manager;
     }
@@ -0,0 +1,96 @@
+package wingman.storage.json;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import wingman.commons.exceptions.IllegalValueException;
+import wingman.model.ItemManager;
+import wingman.model.item.Item;
+
+/**
+ * Deserializes a {@link JsonItemManager} by streaming through its list of
+ * items. Each item is converted into its model type as soon as it has been
+ * parsed, so the adapted items of the whole file are never held in memory
+ * at the same time. The first item that cannot be converted stops the
+ * conversion, and its error is thrown by {@link JsonItemManager#toModelType()}.
+ * <p>
+ * Extend this class for each concrete {@link JsonItemManager}, and refer to
+ * the subclass with {@code @JsonDeserialize(using = ...)}.
+ *
+ * @param <T> the type of the {@link Item}.
+ * @param <F> the type of the {@link JsonAdaptedModel}.
+ * @param <M> the type of the {@link JsonItemManager}.
+ */
+public abstract class JsonItemManagerDeserializer<T extends Item,
+                                                         F extends JsonAdaptedModel<T>,
+                                                         M extends JsonItemManager<T, F>>
+        extends StdDeserializer<M> {
+    private static final String ITEMS_FIELD = "items";
+
+    private static final String NOT_AN_OBJECT_MESSAGE =
+            "Expected an object for %s but found %s";
+
+    private final Class<F> adaptedModelClass;
+
+    private final Supplier<M> managerSupplier;
+
+    /**
+     * Creates a new JsonItemManagerDeserializer.
+     *
+     * @param managerClass      the class of the {@code M} type parameter.
+     * @param adaptedModelClass the class of the {@code F} type parameter.
+     * @param managerSupplier   creates an empty {@code M}.
+     */
+    protected JsonItemManagerDeserializer(
+            Class<M> managerClass,
+            Class<F> adaptedModelClass,
+            Supplier<M> managerSupplier
+    ) {
+        super(managerClass);
+        this.adaptedModelClass = adaptedModelClass;
+        this.managerSupplier = managerSupplier;
+    }
+
+    @Override
+    public M deserialize(JsonParser parser, DeserializationContext ctxt)
+            throws IOException {
+        if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+            throw new JsonMappingException(parser, String.format(
+                    NOT_AN_OBJECT_MESSAGE,
+                    handledType().getSimpleName(),
+                    parser.getCurrentToken()
+            ));
+        }
+
+        final ItemManager<T> parsedItems = new ItemManager<>();
+        IllegalValueException parseError = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String fieldName = parser.getCurrentName();
+            final JsonToken value = parser.nextToken();
+            if (!ITEMS_FIELD.equals(fieldName) || value != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                continue;
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                final F item = ctxt.readValue(parser, adaptedModelClass);
+                if (parseError != null) {
+                    continue;
+                }
+                try {
+                    JsonItemManager.addToManager(parsedItems, item);
+                } catch (IllegalValueException e) {
+                    parseError = e;
+                }
+            }
+        }
+        final M manager = managerSupplier.get();
+        manager.setParsedItems(parsedItems, parseError);
+        return manager;
+    }
+}
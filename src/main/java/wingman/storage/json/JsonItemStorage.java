@@ -16,6 +16,7 @@ import wingman.commons.util.JsonHelper;
 import wingman.model.ReadOnlyItemManager;
 import wingman.model.item.Item;
 import wingman.storage.ItemStorage;
+import wingman.storage.PendingWrite;
 
 /**
  * Represents the base class for the persistent storage of a
@@ -148,9 +149,28 @@ public abstract class JsonItemStorage<T extends Item,
     public void save(
             ReadOnlyItemManager<T> itemManager,
             Path filePath
+    ) throws IOException {
+        prepareSave(itemManager, filePath).write();
+    }
+
+    @Override
+    public PendingWrite prepareSave(ReadOnlyItemManager<T> itemManager)
+            throws IOException {
+        return prepareSave(itemManager, filePath);
+    }
+
+    /**
+     * @see #prepareSave(ReadOnlyItemManager)
+     */
+    public PendingWrite prepareSave(
+            ReadOnlyItemManager<T> itemManager,
+            Path filePath
     ) throws IOException {
         requireAllNonNull(itemManager, filePath);
-        fileHelper.createIfMissing(filePath);
-        jsonHelper.saveJsonFile(createManager(itemManager), filePath);
+        final M jsonManager = createManager(itemManager);
+        return () -> {
+            fileHelper.createIfMissing(filePath);
+            jsonHelper.saveJsonFile(jsonManager, filePath);
+        };
     }
 }
@@ -3,25 +3,25 @@ package wingman.storage.json.serializable;
 import java.util.ArrayList;
 import java.util.List;
 
-import com.fasterxml.jackson.annotation.JsonCreator;
-import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 import wingman.model.ReadOnlyItemManager;
 import wingman.model.crew.Crew;
 import wingman.storage.json.JsonItemManager;
+import wingman.storage.json.JsonItemManagerDeserializer;
 import wingman.storage.json.adapted.JsonAdaptedCrew;
 
 /**
  * Represents a serializable manager of crew.
  */
 @JsonRootName(value = "crewmanager")
+@JsonDeserialize(using = JsonSerializableCrewManager.Deserializer.class)
 public class JsonSerializableCrewManager
         extends JsonItemManager<Crew, JsonAdaptedCrew> {
 
-    @JsonCreator
     public JsonSerializableCrewManager(
-            @JsonProperty("items") List<JsonAdaptedCrew> crew
+            List<JsonAdaptedCrew> crew
     ) {
         this.items.addAll(crew);
     }
@@ -47,4 +47,22 @@ public class JsonSerializableCrewManager
     protected JsonAdaptedCrew getJsonAdaptedModel(Crew item) {
         return new JsonAdaptedCrew(item);
     }
+
+    /**
+     * Deserializes a {@code JsonSerializableCrewManager} one item at a time.
+     */
+    public static class Deserializer extends JsonItemManagerDeserializer<Crew,
+                                                                         JsonAdaptedCrew,
+                                                                         JsonSerializableCrewManager> {
+        /**
+         * Creates a new Deserializer, this is intended for Jackson to use.
+         */
+        public Deserializer() {
+            super(
+                    JsonSerializableCrewManager.class,
+                    JsonAdaptedCrew.class,
+                    () -> new JsonSerializableCrewManager(new ArrayList<>())
+            );
+        }
+    }
 }
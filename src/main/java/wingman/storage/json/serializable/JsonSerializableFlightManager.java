@@ -3,13 +3,13 @@ package wingman.storage.json.serializable;
 import java.util.ArrayList;
 import java.util.List;
 
-import com.fasterxml.jackson.annotation.JsonCreator;
-import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 import wingman.model.ReadOnlyItemManager;
 import wingman.model.flight.Flight;
 import wingman.storage.json.JsonItemManager;
+import wingman.storage.json.JsonItemManagerDeserializer;
 import wingman.storage.json.adapted.JsonAdaptedFlight;
 
 
@@ -17,12 +17,12 @@ import wingman.storage.json.adapted.JsonAdaptedFlight;
  * Represents a serializable manager of flights.
  */
 @JsonRootName(value = "flightmanager")
+@JsonDeserialize(using = JsonSerializableFlightManager.Deserializer.class)
 public class JsonSerializableFlightManager
         extends JsonItemManager<Flight, JsonAdaptedFlight> {
 
-    @JsonCreator
     public JsonSerializableFlightManager(
-            @JsonProperty("items") List<JsonAdaptedFlight> flights
+            List<JsonAdaptedFlight> flights
     ) {
         this.items.addAll(flights);
     }
@@ -48,4 +48,22 @@ public class JsonSerializableFlightManager
     protected JsonAdaptedFlight getJsonAdaptedModel(Flight item) {
         return new JsonAdaptedFlight(item);
     }
+
+    /**
+     * Deserializes a {@code JsonSerializableFlightManager} one item at a time.
+     */
+    public static class Deserializer extends JsonItemManagerDeserializer<Flight,
+                                                                         JsonAdaptedFlight,
+                                                                         JsonSerializableFlightManager> {
+        /**
+         * Creates a new Deserializer, this is intended for Jackson to use.
+         */
+        public Deserializer() {
+            super(
+                    JsonSerializableFlightManager.class,
+                    JsonAdaptedFlight.class,
+                    () -> new JsonSerializableFlightManager(new ArrayList<>())
+            );
+        }
+    }
 }
@@ -3,25 +3,25 @@ package wingman.storage.json.serializable;
 import java.util.ArrayList;
 import java.util.List;
 
-import com.fasterxml.jackson.annotation.JsonCreator;
-import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 import wingman.model.ReadOnlyItemManager;
 import wingman.model.location.Location;
 import wingman.storage.json.JsonItemManager;
+import wingman.storage.json.JsonItemManagerDeserializer;
 import wingman.storage.json.adapted.JsonAdaptedLocation;
 
 /**
  * Represents a serializable manager of locations.
  */
 @JsonRootName(value = "locationmanager")
+@JsonDeserialize(using = JsonSerializableLocationManager.Deserializer.class)
 public class JsonSerializableLocationManager
         extends JsonItemManager<Location, JsonAdaptedLocation> {
 
-    @JsonCreator
     public JsonSerializableLocationManager(
-            @JsonProperty("items") List<JsonAdaptedLocation> location
+            List<JsonAdaptedLocation> location
     ) {
         this.items.addAll(location);
     }
@@ -45,4 +45,22 @@ public class JsonSerializableLocationManager
     protected JsonAdaptedLocation getJsonAdaptedModel(Location item) {
         return new JsonAdaptedLocation(item);
     }
+
+    /**
+     * Deserializes a {@code JsonSerializableLocationManager} one item at a time.
+     */
+    public static class Deserializer extends JsonItemManagerDeserializer<Location,
+                                                                         JsonAdaptedLocation,
+                                                                         JsonSerializableLocationManager> {
+        /**
+         * Creates a new Deserializer, this is intended for Jackson to use.
+         */
+        public Deserializer() {
+            super(
+                    JsonSerializableLocationManager.class,
+                    JsonAdaptedLocation.class,
+                    () -> new JsonSerializableLocationManager(new ArrayList<>())
+            );
+        }
+    }
 }
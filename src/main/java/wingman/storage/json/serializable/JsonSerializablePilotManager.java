@@ -3,25 +3,25 @@ package wingman.storage.json.serializable;
 import java.util.ArrayList;
 import java.util.List;
 
-import com.fasterxml.jackson.annotation.JsonCreator;
-import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 import wingman.model.ReadOnlyItemManager;
 import wingman.model.pilot.Pilot;
 import wingman.storage.json.JsonItemManager;
+import wingman.storage.json.JsonItemManagerDeserializer;
 import wingman.storage.json.adapted.JsonAdaptedPilot;
 
 /**
  * Represents a serializable manager of pilots.
  */
 @JsonRootName(value = "pilotmanager")
+@JsonDeserialize(using = JsonSerializablePilotManager.Deserializer.class)
 public class JsonSerializablePilotManager
         extends JsonItemManager<Pilot, JsonAdaptedPilot> {
 
-    @JsonCreator
     public JsonSerializablePilotManager(
-            @JsonProperty("items") List<JsonAdaptedPilot> pilots
+            List<JsonAdaptedPilot> pilots
     ) {
         this.items.addAll(pilots);
     }
@@ -47,4 +47,22 @@ public class JsonSerializablePilotManager
     protected JsonAdaptedPilot getJsonAdaptedModel(Pilot item) {
         return new JsonAdaptedPilot(item);
     }
+
+    /**
+     * Deserializes a {@code JsonSerializablePilotManager} one item at a time.
+     */
+    public static class Deserializer extends JsonItemManagerDeserializer<Pilot,
+                                                                         JsonAdaptedPilot,
+                                                                         JsonSerializablePilotManager> {
+        /**
+         * Creates a new Deserializer, this is intended for Jackson to use.
+         */
+        public Deserializer() {
+            super(
+                    JsonSerializablePilotManager.class,
+                    JsonAdaptedPilot.class,
+                    () -> new JsonSerializablePilotManager(new ArrayList<>())
+            );
+        }
+    }
 }
@@ -3,24 +3,24 @@ package wingman.storage.json.serializable;
 import java.util.ArrayList;
 import java.util.List;
 
-import com.fasterxml.jackson.annotation.JsonCreator;
-import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 import wingman.model.ReadOnlyItemManager;
 import wingman.model.plane.Plane;
 import wingman.storage.json.JsonItemManager;
+import wingman.storage.json.JsonItemManagerDeserializer;
 import wingman.storage.json.adapted.JsonAdaptedPlane;
 
 /**
  * Represents a serializable manager of planes.
  */
 @JsonRootName(value = "planemanager")
+@JsonDeserialize(using = JsonSerializablePlaneManager.Deserializer.class)
 public class JsonSerializablePlaneManager
         extends JsonItemManager<Plane, JsonAdaptedPlane> {
-    @JsonCreator
     public JsonSerializablePlaneManager(
-            @JsonProperty("items") List<JsonAdaptedPlane> planes
+            List<JsonAdaptedPlane> planes
     ) {
         this.items.addAll(planes);
     }
@@ -46,4 +46,22 @@ public class JsonSerializablePlaneManager
     protected JsonAdaptedPlane getJsonAdaptedModel(Plane item) {
         return new JsonAdaptedPlane(item);
     }
+
+    /**
+     * Deserializes a {@code JsonSerializablePlaneManager} one item at a time.
+     */
+    public static class Deserializer extends JsonItemManagerDeserializer<Plane,
+                                                                         JsonAdaptedPlane,
+                                                                         JsonSerializablePlaneManager> {
+        /**
+         * Creates a new Deserializer, this is intended for Jackson to use.
+         */
+        public Deserializer() {
+            super(
+                    JsonSerializablePlaneManager.class,
+                    JsonAdaptedPlane.class,
+                    () -> new JsonSerializablePlaneManager(new ArrayList<>())
+            );
+        }
+    }
 }
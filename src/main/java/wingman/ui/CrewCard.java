@@ -1,23 +1,16 @@
 package wingman.ui;
 
-import javafx.fxml.FXML;
-import javafx.scene.control.Label;
-import javafx.scene.layout.VBox;
 import wingman.model.crew.Crew;
 
 /**
  * A generic view for crew.
  */
-public class CrewCard extends UiPart<VBox> {
-    private static final String FXML = "CrewCard.fxml";
-    private final Crew crew;
-    private final int displayedIndex;
-
-    @FXML
-    private VBox cardPane;
-
-    @FXML
-    private Label id;
+public class CrewCard extends ItemCard<Crew> {
+    /**
+     * Creates an empty view, to be filled in with {@link #setItem}.
+     */
+    CrewCard() {
+    }
 
     /**
      * Creates a view for the given crew. The crew is an identifiable object
@@ -25,14 +18,8 @@ public class CrewCard extends UiPart<VBox> {
      * @param crew The crew to be displayed.
      */
     public CrewCard(Crew crew, int displayedIndex) {
-        super(FXML);
-        this.crew = crew;
-        this.displayedIndex = displayedIndex - 1;
-        id.setText(displayedIndex + ". ");
-        for (String line : crew.getDisplayList()) {
-            Label label = new Label(line);
-            cardPane.getChildren().add(label);
-        }
+        this();
+        setItem(crew, displayedIndex, crew.getDisplayList());
     }
 
     /**
@@ -41,6 +28,6 @@ public class CrewCard extends UiPart<VBox> {
      * @return The crew that is being displayed.
      */
     public Crew getCrew() {
-        return crew;
+        return getItem();
     }
 }
@@ -21,8 +21,8 @@ public class CrewListPanel extends UiPart<Region> {
     @FXML
     private ListView<Crew> crewList;
 
-    public CrewListPanel(ObservableList<Crew> crewList) {
-        this(LogsCenter.getLogger(CrewListPanel.class), crewList);
+    public CrewListPanel(ObservableList<Crew> crewList, DisplayCache displayCache) {
+        this(LogsCenter.getLogger(CrewListPanel.class), crewList, displayCache);
     }
 
     /**
@@ -30,15 +30,16 @@ public class CrewListPanel extends UiPart<Region> {
      *
      * @param logger     The logger to be used.
      * @param crewList The list of Crews to be displayed.
+     * @param displayCache The cache of the display lines of the crew.
      */
-    @SuppressWarnings({"unchecked", "rawtypes"})
     public CrewListPanel(
             Logger logger,
-            ObservableList<Crew> crewList
+            ObservableList<Crew> crewList,
+            DisplayCache displayCache
     ) {
         super(FXML);
         this.logger = logger;
         this.crewList.setItems(crewList);
-        this.crewList.setCellFactory(listView -> new CrewListCell());
+        this.crewList.setCellFactory(listView -> new CrewListCell(displayCache));
     }
 }
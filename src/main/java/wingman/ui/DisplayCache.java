@@ -0,0 +1,159 @@
+package wingman.ui;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import wingman.model.ModelEvent;
+import wingman.model.OperationMode;
+import wingman.model.item.Item;
+
+/**
+ * Caches the display lines of the items shown in the lists, so that the
+ * cells do not format the items and resolve their links again every time
+ * they are scrolled into view or redrawn.
+ * <p>
+ * The lines of an item are kept until the item, or an item it links to,
+ * changes, as reported by the {@link ModelEvent}s passed to
+ * {@link #invalidate(ModelEvent)}. The cells are told to redraw the items
+ * whose lines have been dropped through the display version of their list,
+ * which {@link #notifyCells()} bumps at most once per list however many
+ * changes there have been, so that the cells and their cards are kept. The
+ * cache is only used on the JavaFX application thread.
+ */
+public class DisplayCache {
+    private final Map<OperationMode, Map<String, Entry>> entries = new EnumMap<>(OperationMode.class);
+
+    private final Map<OperationMode, IntegerProperty> versions = new EnumMap<>(OperationMode.class);
+
+    /**
+     * The lists whose cells may show lines that have been dropped since the
+     * cells were last notified.
+     */
+    private final Set<OperationMode> staleModes = EnumSet.noneOf(OperationMode.class);
+
+    /**
+     * Creates an empty cache.
+     */
+    public DisplayCache() {
+        for (OperationMode mode : OperationMode.values()) {
+            entries.put(mode, new HashMap<>());
+            versions.put(mode, new SimpleIntegerProperty());
+        }
+    }
+
+    /**
+     * Returns the display lines of the given item, computing them only if
+     * they are not cached yet.
+     *
+     * @param mode the operation mode of the list showing the item.
+     * @param item the item to be displayed.
+     * @return the display lines of the item.
+     */
+    public List<String> getDisplayList(OperationMode mode, Item item) {
+        final Map<String, Entry> modeEntries = entries.get(mode);
+        final Entry entry = modeEntries.get(item.getId());
+        // an item replaced by another one with the same id is formatted again
+        if (entry != null && entry.item == item) {
+            return entry.lines;
+        }
+        final List<String> lines = item.getDisplayList();
+        modeEntries.put(item.getId(), new Entry(item, lines));
+        return lines;
+    }
+
+    /**
+     * Returns true if the display lines of the given item are cached, i.e.
+     * a cell showing the item is up to date.
+     *
+     * @param mode the operation mode of the list showing the item.
+     * @param item the item displayed.
+     * @return whether the display lines of the item are cached.
+     */
+    public boolean isCached(OperationMode mode, Item item) {
+        final Entry entry = entries.get(mode).get(item.getId());
+        return entry != null && entry.item == item;
+    }
+
+    /**
+     * Drops the display lines that the given change to the model makes out
+     * of date: those of the changed item and, unless only the links of the
+     * item have changed, those of the items that may show its name. The
+     * cells are only told about it by {@link #notifyCells()}.
+     *
+     * @param event the change to the model.
+     */
+    public void invalidate(ModelEvent event) {
+        final OperationMode mode = event.getMode();
+        entries.get(mode).remove(event.getId());
+        // the list views show the items added and removed by themselves
+        if (event.getType() != ModelEvent.Type.ADDED && event.getType() != ModelEvent.Type.REMOVED) {
+            staleModes.add(mode);
+        }
+        if (event.getType() == ModelEvent.Type.LINKED) {
+            return;
+        }
+        // the flights and locations show the names of the items they link to
+        if (mode != OperationMode.FLIGHT) {
+            entries.get(OperationMode.FLIGHT).clear();
+            staleModes.add(OperationMode.FLIGHT);
+        }
+        if (mode != OperationMode.FLIGHT && mode != OperationMode.LOCATION) {
+            entries.get(OperationMode.LOCATION).clear();
+            staleModes.add(OperationMode.LOCATION);
+        }
+    }
+
+    /**
+     * Bumps the display version of every list whose lines have been dropped
+     * since the last call, so that its cells redraw the items they show if
+     * their lines are no longer cached.
+     */
+    public void notifyCells() {
+        for (OperationMode mode : staleModes) {
+            final IntegerProperty version = versions.get(mode);
+            version.set(version.get() + 1);
+        }
+        staleModes.clear();
+    }
+
+    /**
+     * Returns the display version of the list of the given mode, which
+     * changes whenever the cells of the list may have to redraw their items.
+     *
+     * @param mode the operation mode of the list.
+     * @return the display version of the list.
+     */
+    public ReadOnlyIntegerProperty versionProperty(OperationMode mode) {
+        return versions.get(mode);
+    }
+
+    /**
+     * Returns the number of items whose display lines are cached.
+     *
+     * @return the number of cached items.
+     */
+    public int size() {
+        return entries.values().stream().mapToInt(Map::size).sum();
+    }
+
+    /**
+     * The display lines computed for an item.
+     */
+    private static final class Entry {
+        private final Item item;
+
+        private final List<String> lines;
+
+        private Entry(Item item, List<String> lines) {
+            this.item = item;
+            this.lines = lines;
+        }
+    }
+}
@@ -1,23 +1,16 @@
 package wingman.ui;
 
-import javafx.fxml.FXML;
-import javafx.scene.control.Label;
-import javafx.scene.layout.VBox;
 import wingman.model.flight.Flight;
 
 /**
  * A generic view for a flight.
  */
-public class FlightCard extends UiPart<VBox> {
-    private static final String FXML = "FlightCard.fxml";
-    private final Flight flight;
-    private final int displayedIndex;
-
-    @FXML
-    private VBox cardPane;
-
-    @FXML
-    private Label id;
+public class FlightCard extends ItemCard<Flight> {
+    /**
+     * Creates an empty view, to be filled in with {@link #setItem}.
+     */
+    FlightCard() {
+    }
 
     /**
      * Creates a view for the given flight. The flight is an identifiable object
@@ -26,14 +19,8 @@ public class FlightCard extends UiPart<VBox> {
      * @param flight The flight to be displayed.
      */
     public FlightCard(Flight flight, int displayedIndex) {
-        super(FXML);
-        this.flight = flight;
-        this.displayedIndex = displayedIndex - 1;
-        id.setText(displayedIndex + ". ");
-        for (String line : flight.getDisplayList()) {
-            Label label = new Label(line);
-            cardPane.getChildren().add(label);
-        }
+        this();
+        setItem(flight, displayedIndex, flight.getDisplayList());
     }
 
     /**
@@ -42,6 +29,6 @@ public class FlightCard extends UiPart<VBox> {
      * @return The flight that is being displayed.
      */
     public Flight getFlight() {
-        return flight;
+        return getItem();
     }
 }
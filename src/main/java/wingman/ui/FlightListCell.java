@@ -1,25 +1,18 @@
 package wingman.ui;
 
-import javafx.scene.control.ListCell;
-import wingman.model.item.Item;
+import wingman.model.OperationMode;
+import wingman.model.flight.Flight;
 
 /**
  * The cell that displays the flights in the list.
- *
- * @param <Flight> The type of Item to display.
  */
-public class FlightListCell<Flight extends Item> extends ListCell<Flight> {
-
-    private static final String FXML = "FlightListCell.fxml";
-
-    @Override
-    protected void updateItem(Flight flight, boolean empty) {
-        super.updateItem(flight, empty);
-        if (empty || flight == null) {
-            setGraphic(null);
-            setText(null);
-        } else {
-            setGraphic(new FlightCard((wingman.model.flight.Flight) flight, getIndex() + 1).getRoot());
-        }
+public class FlightListCell extends ItemListCell<Flight> {
+    /**
+     * Creates a cell that takes the display lines from the given cache.
+     *
+     * @param displayCache the cache of the display lines.
+     */
+    public FlightListCell(DisplayCache displayCache) {
+        super(displayCache, OperationMode.FLIGHT, FlightCard::new);
     }
 }
@@ -21,8 +21,8 @@ public class FlightListPanel extends UiPart<Region> {
     @FXML
     private ListView<Flight> flightList;
 
-    public FlightListPanel(ObservableList<Flight> flightList) {
-        this(LogsCenter.getLogger(FlightListPanel.class), flightList);
+    public FlightListPanel(ObservableList<Flight> flightList, DisplayCache displayCache) {
+        this(LogsCenter.getLogger(FlightListPanel.class), flightList, displayCache);
     }
 
     /**
@@ -30,15 +30,16 @@ public class FlightListPanel extends UiPart<Region> {
      *
      * @param logger     The logger to be used.
      * @param flightList The list of flights to be displayed.
+     * @param displayCache The cache of the display lines of the flights.
      */
-    @SuppressWarnings({"unchecked", "rawtypes"})
     public FlightListPanel(
             Logger logger,
-            ObservableList<Flight> flightList
+            ObservableList<Flight> flightList,
+            DisplayCache displayCache
     ) {
         super(FXML);
         this.logger = logger;
         this.flightList.setItems(flightList);
-        this.flightList.setCellFactory(listView -> new FlightListCell());
+        this.flightList.setCellFactory(listView -> new FlightListCell(displayCache));
     }
 }
@@ -0,0 +1,72 @@
+package wingman.ui;
+
+import java.util.List;
+
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+import wingman.model.item.Item;
+
+/**
+ * A view for an item in a list, showing its index and its display lines.
+ * A card can be reused to show another item, reusing its labels, so that
+ * a list cell only has to create the card once.
+ * <p>
+ * The layout of the card is built in code rather than loaded from a FXML
+ * file, since a card is created for every cell of every list and parsing
+ * the FXML file each time would dominate the creation of the cells.
+ *
+ * @param <T> the type of the items displayed.
+ */
+public abstract class ItemCard<T extends Item> extends UiPart<HBox> {
+    private static final String INDEX_STYLE_CLASS = "cell_big_label";
+
+    private final Label id = new Label();
+
+    private final VBox cardPane = new VBox();
+
+    private T item;
+
+    /**
+     * Creates an empty card.
+     */
+    protected ItemCard() {
+        super(new HBox());
+        id.getStyleClass().add(INDEX_STYLE_CLASS);
+        getRoot().getChildren().addAll(id, cardPane);
+    }
+
+    /**
+     * Shows the given item in the card.
+     *
+     * @param item           the item to be displayed.
+     * @param displayedIndex the one-based index of the item in the list.
+     * @param lines          the display lines of the item.
+     */
+    public void setItem(T item, int displayedIndex, List<String> lines) {
+        this.item = item;
+        id.setText(displayedIndex + ". ");
+        final ObservableList<Node> labels = cardPane.getChildren();
+        for (int i = 0; i < lines.size(); i++) {
+            if (i < labels.size()) {
+                ((Label) labels.get(i)).setText(lines.get(i));
+            } else {
+                labels.add(new Label(lines.get(i)));
+            }
+        }
+        if (labels.size() > lines.size()) {
+            labels.remove(lines.size(), labels.size());
+        }
+    }
+
+    /**
+     * Returns the item that is being displayed.
+     *
+     * @return the item that is being displayed.
+     */
+    public T getItem() {
+        return item;
+    }
+}
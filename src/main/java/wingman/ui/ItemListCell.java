@@ -0,0 +1,73 @@
+package wingman.ui;
+
+import java.util.function.Supplier;
+
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.WeakChangeListener;
+import javafx.scene.control.ListCell;
+import wingman.model.OperationMode;
+import wingman.model.item.Item;
+
+/**
+ * The cell that displays the items of a list, taking their display lines
+ * from a {@link DisplayCache}. The card of the cell is created once and
+ * then reused for every item the cell shows.
+ *
+ * @param <T> the type of the items displayed.
+ */
+public class ItemListCell<T extends Item> extends ListCell<T> {
+    private final DisplayCache displayCache;
+
+    private final OperationMode mode;
+
+    private final Supplier<? extends ItemCard<T>> cardFactory;
+
+    private ItemCard<T> card;
+
+    /**
+     * Redraws the item shown when its display lines have been dropped,
+     * keeping this cell and its card. The list version only holds it
+     * weakly, so that it does not keep discarded cells alive.
+     */
+    private final ChangeListener<Number> versionListener = (observable, oldVersion, newVersion) -> redrawIfStale();
+
+    /**
+     * Creates a cell that takes the display lines from the given cache.
+     *
+     * @param displayCache the cache of the display lines.
+     * @param mode         the mode of the items displayed.
+     * @param cardFactory  creates the card showing the items.
+     */
+    public ItemListCell(DisplayCache displayCache, OperationMode mode, Supplier<? extends ItemCard<T>> cardFactory) {
+        this.displayCache = displayCache;
+        this.mode = mode;
+        this.cardFactory = cardFactory;
+        displayCache.versionProperty(mode).addListener(new WeakChangeListener<>(versionListener));
+    }
+
+    /**
+     * Shows the item again if its display lines are no longer cached.
+     */
+    private void redrawIfStale() {
+        final T item = getItem();
+        if (!isEmpty() && item != null && !displayCache.isCached(mode, item)) {
+            updateItem(item, false);
+        }
+    }
+
+    @Override
+    protected void updateItem(T item, boolean empty) {
+        super.updateItem(item, empty);
+        if (empty || item == null) {
+            setGraphic(null);
+            setText(null);
+        } else {
+            // the card is loaded once and then reused for every item shown
+            if (card == null) {
+                card = cardFactory.get();
+            }
+            card.setItem(item, getIndex() + 1, displayCache.getDisplayList(mode, item));
+            setGraphic(card.getRoot());
+        }
+    }
+}
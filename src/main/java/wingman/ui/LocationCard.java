@@ -1,23 +1,16 @@
 package wingman.ui;
 
-import javafx.fxml.FXML;
-import javafx.scene.control.Label;
-import javafx.scene.layout.VBox;
 import wingman.model.location.Location;
 
 /**
  * A generic view for a location.
  */
-public class LocationCard extends UiPart<VBox> {
-    private static final String FXML = "LocationCard.fxml";
-    private final Location location;
-    private final int displayedIndex;
-
-    @FXML
-    private VBox cardPane;
-
-    @FXML
-    private Label id;
+public class LocationCard extends ItemCard<Location> {
+    /**
+     * Creates an empty view, to be filled in with {@link #setItem}.
+     */
+    LocationCard() {
+    }
 
     /**
      * Creates a view for the given location. The location is an identifiable object
@@ -26,14 +19,8 @@ public class LocationCard extends UiPart<VBox> {
      * @param location The location to be displayed.
      */
     public LocationCard(Location location, int displayedIndex) {
-        super(FXML);
-        this.location = location;
-        this.displayedIndex = displayedIndex - 1;
-        id.setText(displayedIndex + ". ");
-        for (String line : location.getDisplayList()) {
-            Label label = new Label(line);
-            cardPane.getChildren().add(label);
-        }
+        this();
+        setItem(location, displayedIndex, location.getDisplayList());
     }
 
     /**
@@ -42,6 +29,6 @@ public class LocationCard extends UiPart<VBox> {
      * @return The location that is being displayed.
      */
     public Location getLocation() {
-        return location;
+        return getItem();
     }
 }
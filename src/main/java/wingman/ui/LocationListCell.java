@@ -1,25 +1,18 @@
 package wingman.ui;
 
-import javafx.scene.control.ListCell;
-import wingman.model.item.Item;
+import wingman.model.OperationMode;
+import wingman.model.location.Location;
 
 /**
  * The cell that displays the locations in the list.
- *
- * @param <Location> The location to display.
  */
-public class LocationListCell<Location extends Item> extends ListCell<Location> {
-
-    private static final String FXML = "LocationListCell.fxml";
-
-    @Override
-    protected void updateItem(Location location, boolean empty) {
-        super.updateItem(location, empty);
-        if (empty || location == null) {
-            setGraphic(null);
-            setText(null);
-        } else {
-            setGraphic(new LocationCard((wingman.model.location.Location) location, getIndex() + 1).getRoot());
-        }
+public class LocationListCell extends ItemListCell<Location> {
+    /**
+     * Creates a cell that takes the display lines from the given cache.
+     *
+     * @param displayCache the cache of the display lines.
+     */
+    public LocationListCell(DisplayCache displayCache) {
+        super(displayCache, OperationMode.LOCATION, LocationCard::new);
     }
 }
@@ -21,8 +21,8 @@ public class LocationListPanel extends UiPart<Region> {
     @FXML
     private ListView<Location> locationList;
 
-    public LocationListPanel(ObservableList<Location> locationList) {
-        this(LogsCenter.getLogger(LocationListPanel.class), locationList);
+    public LocationListPanel(ObservableList<Location> locationList, DisplayCache displayCache) {
+        this(LogsCenter.getLogger(LocationListPanel.class), locationList, displayCache);
     }
 
     /**
@@ -30,15 +30,16 @@ public class LocationListPanel extends UiPart<Region> {
      *
      * @param logger     The logger to be used.
      * @param locationList The list of locations to be displayed.
+     * @param displayCache The cache of the display lines of the locations.
      */
-    @SuppressWarnings({"unchecked", "rawtypes"})
     public LocationListPanel(
             Logger logger,
-            ObservableList<Location> locationList
+            ObservableList<Location> locationList,
+            DisplayCache displayCache
     ) {
         super(FXML);
         this.logger = logger;
         this.locationList.setItems(locationList);
-        this.locationList.setCellFactory(listView -> new LocationListCell());
+        this.locationList.setCellFactory(listView -> new LocationListCell(displayCache));
     }
 }
@@ -2,6 +2,7 @@ package wingman.ui;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -19,6 +20,7 @@ import wingman.logic.Logic;
 import wingman.logic.core.CommandResult;
 import wingman.logic.core.exceptions.CommandException;
 import wingman.logic.core.exceptions.ParseException;
+import wingman.model.ModelEvent;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -41,8 +43,16 @@ public class MainWindow extends UiPart<Stage> {
     private PilotListPanel pilotListPanel;
     private LocationListPanel locationListPanel;
     private ResultDisplay resultDisplay;
+    private StatusBarFooter statusBarFooter;
     private HelpWindow helpWindow;
 
+    private final DisplayCache displayCache = new DisplayCache();
+
+    /**
+     * Whether the stale cells are already due to be redrawn.
+     */
+    private boolean isRedrawPending;
+
     @FXML
     private StackPane commandBoxPlaceholder;
 
@@ -146,8 +156,7 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter =
-                new StatusBarFooter(logic.getOperationMode());
+        statusBarFooter = new StatusBarFooter(logic.getOperationMode());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         MenuBar menuBar =
@@ -157,25 +166,54 @@ public class MainWindow extends UiPart<Stage> {
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
-        flightListPanel = new FlightListPanel(logic.getFilteredFlightList());
+        flightListPanel = new FlightListPanel(logic.getFilteredFlightList(), displayCache);
         Region flight = flightListPanel.getRoot();
         flightListPanelPlaceholder.getChildren().add(flight);
 
-        crewListPanel = new CrewListPanel(logic.getFilteredCrewList());
+        crewListPanel = new CrewListPanel(logic.getFilteredCrewList(), displayCache);
         Region crew = crewListPanel.getRoot();
         crewListPanelPlaceholder.getChildren().add(crew);
 
-        planeListPanel = new PlaneListPanel(logic.getFilteredPlaneList());
+        planeListPanel = new PlaneListPanel(logic.getFilteredPlaneList(), displayCache);
         Region plane = planeListPanel.getRoot();
         planeListPanelPlaceholder.getChildren().add(plane);
 
-        pilotListPanel = new PilotListPanel(logic.getFilteredPilotList());
+        pilotListPanel = new PilotListPanel(logic.getFilteredPilotList(), displayCache);
         Region pilot = pilotListPanel.getRoot();
         pilotListPanelPlaceholder.getChildren().add(pilot);
 
-        locationListPanel = new LocationListPanel(logic.getFilteredLocationList());
+        locationListPanel = new LocationListPanel(logic.getFilteredLocationList(), displayCache);
         Region location = locationListPanel.getRoot();
         locationListPanelPlaceholder.getChildren().add(location);
+
+        logic.addModelListener(this::handleModelEvent);
+    }
+
+    /**
+     * Drops the display lines that the change to the model makes out of
+     * date, and redraws the cells showing them once all the changes made
+     * by the command have been reported, i.e. once per pulse however many
+     * items the command changed. The list views already follow the items
+     * being added and removed, so only the changes made in place need
+     * redrawing, and only the visible cells showing them are redrawn.
+     *
+     * @param event the change to the model.
+     */
+    private void handleModelEvent(ModelEvent event) {
+        if (!Platform.isFxApplicationThread()) {
+            Platform.runLater(() -> handleModelEvent(event));
+            return;
+        }
+        displayCache.invalidate(event);
+        if (!isRedrawPending) {
+            isRedrawPending = true;
+            Platform.runLater(this::redrawStaleCells);
+        }
+    }
+
+    private void redrawStaleCells() {
+        isRedrawPending = false;
+        displayCache.notifyCells();
     }
 
     /**
@@ -232,34 +270,7 @@ public class MainWindow extends UiPart<Stage> {
             CommandResult commandResult = logic.execute(commandText);
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-
-            StatusBarFooter statusBarFooter =
-                    new StatusBarFooter(logic.getOperationMode());
-            statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
-
-            MenuBar menuBar =
-                    new MenuBar();
-            menuBarPlaceholder.getChildren().add(menuBar.getRoot());
-
-            flightListPanel = new FlightListPanel(logic.getFilteredFlightList());
-            Region flight = flightListPanel.getRoot();
-            flightListPanelPlaceholder.getChildren().add(flight);
-
-            crewListPanel = new CrewListPanel(logic.getFilteredCrewList());
-            Region crew = crewListPanel.getRoot();
-            crewListPanelPlaceholder.getChildren().add(crew);
-
-            planeListPanel = new PlaneListPanel(logic.getFilteredPlaneList());
-            Region plane = planeListPanel.getRoot();
-            planeListPanelPlaceholder.getChildren().add(plane);
-
-            pilotListPanel = new PilotListPanel(logic.getFilteredPilotList());
-            Region pilot = pilotListPanel.getRoot();
-            pilotListPanelPlaceholder.getChildren().add(pilot);
-
-            locationListPanel = new LocationListPanel(logic.getFilteredLocationList());
-            Region location = locationListPanel.getRoot();
-            locationListPanelPlaceholder.getChildren().add(location);
+            statusBarFooter.setMode(logic.getOperationMode());
 
             if (commandResult.isShowHelp()) {
                 handleHelp();
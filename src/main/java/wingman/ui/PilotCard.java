@@ -1,23 +1,16 @@
 package wingman.ui;
 
-import javafx.fxml.FXML;
-import javafx.scene.control.Label;
-import javafx.scene.layout.VBox;
 import wingman.model.pilot.Pilot;
 
 /**
  * A generic view for a flight.
  */
-public class PilotCard extends UiPart<VBox> {
-    private static final String FXML = "FlightCard.fxml";
-    private final Pilot pilot;
-    private final int displayedIndex;
-
-    @FXML
-    private VBox cardPane;
-
-    @FXML
-    private Label id;
+public class PilotCard extends ItemCard<Pilot> {
+    /**
+     * Creates an empty view, to be filled in with {@link #setItem}.
+     */
+    PilotCard() {
+    }
 
     /**
      * Creates a view for the given pilot. The pilot is an identifiable object
@@ -26,14 +19,8 @@ public class PilotCard extends UiPart<VBox> {
      * @param pilot The pilot to be displayed.
      */
     public PilotCard(Pilot pilot, int displayedIndex) {
-        super(FXML);
-        this.pilot = pilot;
-        this.displayedIndex = displayedIndex - 1;
-        id.setText(displayedIndex + ". ");
-        for (String line : pilot.getDisplayList()) {
-            Label label = new Label(line);
-            cardPane.getChildren().add(label);
-        }
+        this();
+        setItem(pilot, displayedIndex, pilot.getDisplayList());
     }
 
     /**
@@ -42,6 +29,6 @@ public class PilotCard extends UiPart<VBox> {
      * @return The pilot that is being displayed.
      */
     public Pilot getFlight() {
-        return pilot;
+        return getItem();
     }
 }
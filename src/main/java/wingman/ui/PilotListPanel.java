@@ -21,8 +21,8 @@ public class PilotListPanel extends UiPart<Region> {
     @FXML
     private ListView<Pilot> pilotList;
 
-    public PilotListPanel(ObservableList<Pilot> pilotList) {
-        this(LogsCenter.getLogger(PilotListPanel.class), pilotList);
+    public PilotListPanel(ObservableList<Pilot> pilotList, DisplayCache displayCache) {
+        this(LogsCenter.getLogger(PilotListPanel.class), pilotList, displayCache);
     }
 
     /**
@@ -30,15 +30,16 @@ public class PilotListPanel extends UiPart<Region> {
      *
      * @param logger     The logger to be used.
      * @param pilotList The list of pilots to be displayed.
+     * @param displayCache The cache of the display lines of the pilots.
      */
-    @SuppressWarnings({"unchecked", "rawtypes"})
     public PilotListPanel(
             Logger logger,
-            ObservableList<Pilot> pilotList
+            ObservableList<Pilot> pilotList,
+            DisplayCache displayCache
     ) {
         super(FXML);
         this.logger = logger;
         this.pilotList.setItems(pilotList);
-        this.pilotList.setCellFactory(listView -> new PilotListCell());
+        this.pilotList.setCellFactory(listView -> new PilotListCell(displayCache));
     }
 }
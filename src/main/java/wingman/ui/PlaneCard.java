@@ -1,23 +1,16 @@
 package wingman.ui;
 
-import javafx.fxml.FXML;
-import javafx.scene.control.Label;
-import javafx.scene.layout.VBox;
 import wingman.model.plane.Plane;
 
 /**
  * A generic view for a plane.
  */
-public class PlaneCard extends UiPart<VBox> {
-    private static final String FXML = "PlaneCard.fxml";
-    private final Plane plane;
-    private final int displayedIndex;
-
-    @FXML
-    private VBox cardPane;
-
-    @FXML
-    private Label id;
+public class PlaneCard extends ItemCard<Plane> {
+    /**
+     * Creates an empty view, to be filled in with {@link #setItem}.
+     */
+    PlaneCard() {
+    }
 
     /**
      * Creates a view for the given plane. The plane is an identifiable object
@@ -26,14 +19,8 @@ public class PlaneCard extends UiPart<VBox> {
      * @param plane The plane to be displayed.
      */
     public PlaneCard(Plane plane, int displayedIndex) {
-        super(FXML);
-        this.plane = plane;
-        this.displayedIndex = displayedIndex;
-        id.setText(displayedIndex + ". ");
-        for (String line : plane.getDisplayList()) {
-            Label label = new Label(line);
-            cardPane.getChildren().add(label);
-        }
+        this();
+        setItem(plane, displayedIndex, plane.getDisplayList());
     }
 
     /**
@@ -42,6 +29,6 @@ public class PlaneCard extends UiPart<VBox> {
      * @return The plane that is being displayed.
      */
     public Plane getPlane() {
-        return plane;
+        return getItem();
     }
 }
@@ -21,8 +21,8 @@ public class PlaneListPanel extends UiPart<Region> {
     @FXML
     private ListView<Plane> planeList;
 
-    public PlaneListPanel(ObservableList<Plane> planeList) {
-        this(LogsCenter.getLogger(PlaneListPanel.class), planeList);
+    public PlaneListPanel(ObservableList<Plane> planeList, DisplayCache displayCache) {
+        this(LogsCenter.getLogger(PlaneListPanel.class), planeList, displayCache);
     }
 
     /**
@@ -30,15 +30,16 @@ public class PlaneListPanel extends UiPart<Region> {
      *
      * @param logger     The logger to be used.
      * @param planeList The list of planes to be displayed.
+     * @param displayCache The cache of the display lines of the planes.
      */
-    @SuppressWarnings({"unchecked", "rawtypes"})
     public PlaneListPanel(
             Logger logger,
-            ObservableList<Plane> planeList
+            ObservableList<Plane> planeList,
+            DisplayCache displayCache
     ) {
         super(FXML);
         this.logger = logger;
         this.planeList.setItems(planeList);
-        this.planeList.setCellFactory(listView -> new PlaneListCell());
+        this.planeList.setCellFactory(listView -> new PlaneListCell(displayCache));
     }
 }
@@ -20,7 +20,15 @@ public class StatusBarFooter extends UiPart<Region> {
      */
     public StatusBarFooter(OperationMode mode) {
         super(FXML);
-        modeStatus.setText("Mode: " + mode.toString());
+        setMode(mode);
     }
 
+    /**
+     * Shows the given operation mode.
+     *
+     * @param mode the current operation mode.
+     */
+    public void setMode(OperationMode mode) {
+        modeStatus.setText("Mode: " + mode.toString());
+    }
 }
@@ -17,14 +17,14 @@ public abstract class UiPart<T> {
     /** Resource folder where FXML files are stored. */
     public static final String FXML_FILE_FOLDER = "/view/";
 
-    private final FXMLLoader fxmlLoader = new FXMLLoader();
+    private final T root;
 
     /**
      * Constructs a UiPart with the specified FXML file URL.
      * The FXML file must not specify the {@code fx:controller} attribute.
      */
     public UiPart(URL fxmlFileUrl) {
-        loadFxmlFile(fxmlFileUrl, null);
+        this.root = loadFxmlFile(fxmlFileUrl, null);
     }
 
     /**
@@ -40,7 +40,7 @@ public abstract class UiPart<T> {
      * The FXML file must not specify the {@code fx:controller} attribute.
      */
     public UiPart(URL fxmlFileUrl, T root) {
-        loadFxmlFile(fxmlFileUrl, root);
+        this.root = loadFxmlFile(fxmlFileUrl, root);
     }
 
     /**
@@ -51,25 +51,37 @@ public abstract class UiPart<T> {
         this(getFxmlFileUrl(fxmlFileName), root);
     }
 
+    /**
+     * Constructs a UiPart whose scene graph has been built in code instead of
+     * loaded from a FXML file, for parts created too often to parse the FXML
+     * file every time, e.g. the cards of the list cells.
+     */
+    protected UiPart(T root) {
+        this.root = requireNonNull(root);
+    }
+
     /**
      * Returns the root object of the scene graph of this UiPart.
      */
     public T getRoot() {
-        return fxmlLoader.getRoot();
+        return root;
     }
 
     /**
      * Loads the object hierarchy from a FXML document.
      * @param location Location of the FXML document.
      * @param root Specifies the root of the object hierarchy.
+     * @return The root of the object hierarchy loaded.
      */
-    private void loadFxmlFile(URL location, T root) {
+    private T loadFxmlFile(URL location, T root) {
         requireNonNull(location);
+        FXMLLoader fxmlLoader = new FXMLLoader();
         fxmlLoader.setLocation(location);
         fxmlLoader.setController(this);
         fxmlLoader.setRoot(root);
         try {
             fxmlLoader.load();
+            return fxmlLoader.getRoot();
         } catch (IOException e) {
             throw new AssertionError(e);
         }
@@ -0,0 +1,97 @@
+package wingman;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import wingman.logic.LogicManager;
+import wingman.model.ModelManager;
+import wingman.model.OperationMode;
+import wingman.storage.JsonUserPrefsStorage;
+import wingman.storage.StorageManager;
+import wingman.storage.json.storage.JsonCrewManagerStorage;
+import wingman.storage.json.storage.JsonFlightManagerStorage;
+import wingman.storage.json.storage.JsonLocationManagerStorage;
+import wingman.storage.json.storage.JsonPilotManagerStorage;
+import wingman.storage.json.storage.JsonPlaneManagerStorage;
+
+public class HeadlessRunnerTest {
+    private static final String SCRIPT = "# pilots\n"
+            + "add /n Amy /r 1 /a 30 /g 1 /fh 1200\n"
+            + "\n"
+            + "delete 9\n"
+            + "add /n Bob /r 0 /a 41 /g 0 /fh 9000\n";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private ModelManager model;
+
+    private ByteArrayOutputStream err;
+
+    private HeadlessRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        model = new ModelManager();
+        model.setOperationMode(OperationMode.PILOT);
+        final StorageManager storage = new StorageManager(
+                new JsonUserPrefsStorage(temporaryFolder.resolve("preferences.json")),
+                new JsonPilotManagerStorage(temporaryFolder.resolve("pilot.json")),
+                new JsonLocationManagerStorage(temporaryFolder.resolve("location.json")),
+                new JsonCrewManagerStorage(temporaryFolder.resolve("crew.json")),
+                new JsonPlaneManagerStorage(temporaryFolder.resolve("plane.json")),
+                new JsonFlightManagerStorage(temporaryFolder.resolve("flight.json"))
+        );
+        err = new ByteArrayOutputStream();
+        runner = new HeadlessRunner(new LogicManager(model, storage), new PrintStream(err, true));
+    }
+
+    @Test
+    void isCommand_blankOrComment_returnsFalse() {
+        assertFalse(HeadlessRunner.isCommand("   "));
+        assertFalse(HeadlessRunner.isCommand("  # comment"));
+        assertTrue(HeadlessRunner.isCommand("list"));
+    }
+
+    @Test
+    void run_failingCommand_continuesAndReportsLine() throws IOException {
+        final HeadlessRunner.Report report = runner.run(new BufferedReader(new StringReader(SCRIPT)));
+
+        assertEquals(3, report.getCommandCount());
+        assertEquals(1, report.getFailureCount());
+        assertEquals(2, model.getPilotList().size());
+        assertTrue(err.toString().startsWith("Line 4: "));
+    }
+
+    @Test
+    void runBatch_failingCommand_rollsBackAll() throws IOException {
+        final HeadlessRunner.Report report = runner.runBatch(new BufferedReader(new StringReader(SCRIPT)));
+
+        assertEquals(3, report.getCommandCount());
+        assertEquals(3, report.getFailureCount());
+        assertTrue(model.getPilotList().isEmpty());
+    }
+
+    @Test
+    void percentile_sortedByNearestRank() {
+        final HeadlessRunner.Report report = new HeadlessRunner.Report(
+                new long[] {40, 10, 30, 20}, 0, 100);
+
+        assertEquals(20, report.percentile(50));
+        assertEquals(40, report.percentile(90));
+        assertEquals(40, report.percentile(100));
+        assertEquals(0, new HeadlessRunner.Report(new long[0], 0, 0).percentile(50));
+    }
+}
@@ -0,0 +1,119 @@
+package wingman.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class AsyncLogHandlerTest {
+    private AsyncLogHandler handler;
+
+    @AfterEach
+    void tearDown() {
+        if (handler != null) {
+            handler.close();
+        }
+    }
+
+    @Test
+    void flush_recordsPublished_deliveredInOrder() {
+        final RecordingHandler delegate = new RecordingHandler(null);
+        handler = new AsyncLogHandler(100, List.of(delegate));
+
+        for (int i = 0; i < 50; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        handler.flush();
+
+        assertEquals(50, delegate.records.size());
+        for (int i = 0; i < 50; i++) {
+            assertEquals("message " + i, delegate.records.get(i).getMessage());
+        }
+    }
+
+    @Test
+    void publish_belowLevel_notDelivered() {
+        final RecordingHandler delegate = new RecordingHandler(null);
+        handler = new AsyncLogHandler(10, List.of(delegate));
+        handler.setLevel(Level.WARNING);
+
+        handler.publish(new LogRecord(Level.INFO, "ignored"));
+        handler.flush();
+
+        assertTrue(delegate.records.isEmpty());
+    }
+
+    @Test
+    void publish_queueFull_dropsAndReports() throws InterruptedException {
+        final CountDownLatch release = new CountDownLatch(1);
+        final RecordingHandler delegate = new RecordingHandler(release);
+        handler = new AsyncLogHandler(2, List.of(delegate));
+
+        // the writer takes the first record and blocks on it
+        handler.publish(new LogRecord(Level.INFO, "taken"));
+        assertTrue(delegate.isBlocked.await(10, TimeUnit.SECONDS));
+        for (int i = 0; i < 5; i++) {
+            handler.publish(new LogRecord(Level.INFO, "queued " + i));
+        }
+        assertEquals(3, handler.getDroppedCount());
+
+        release.countDown();
+        handler.close();
+
+        assertEquals(List.of("taken", "queued 0", "queued 1"),
+                delegate.records.subList(0, 3).stream().map(LogRecord::getMessage)
+                        .collect(Collectors.toList()));
+        final LogRecord report = delegate.records.get(3);
+        assertSame(Level.WARNING, report.getLevel());
+        assertTrue(report.getMessage().contains("3"));
+        assertEquals(0, handler.getDroppedCount());
+    }
+
+    /**
+     * Records the records it is given, blocking on the first one until
+     * released if a latch is given.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<LogRecord> records = new CopyOnWriteArrayList<>();
+
+        private final CountDownLatch release;
+
+        private final CountDownLatch isBlocked = new CountDownLatch(1);
+
+        RecordingHandler(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void publish(LogRecord record) {
+            records.add(record);
+            if (release != null && records.size() == 1) {
+                isBlocked.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
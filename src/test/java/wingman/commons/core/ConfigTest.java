@@ -12,7 +12,8 @@ public class ConfigTest {
     @Test
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "Current log level : INFO\n"
-                + "Preference file Location : preferences.json";
+                + "Preference file Location : preferences.json\n"
+                + "Metrics file Location : wingman-metrics.txt";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
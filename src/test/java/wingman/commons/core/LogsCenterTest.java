@@ -0,0 +1,20 @@
+package wingman.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Test;
+
+public class LogsCenterTest {
+    @Test
+    void getLogger_sameName_sameLoggerWithOneHandler() {
+        final Logger logger = LogsCenter.getLogger(LogsCenterTest.class);
+
+        assertSame(logger, LogsCenter.getLogger(LogsCenterTest.class));
+        assertEquals(1, logger.getHandlers().length);
+        assertTrue(logger.getHandlers()[0] instanceof AsyncLogHandler);
+    }
+}
@@ -0,0 +1,63 @@
+package wingman.commons.fp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class LazyTest {
+    private static final int THREAD_COUNT = 8;
+
+    @Test
+    void get_evaluatedOnce() {
+        final AtomicInteger evaluations = new AtomicInteger();
+        final Lazy<Integer> lazy = Lazy.of(evaluations::incrementAndGet);
+
+        assertEquals(1, (int) lazy.get());
+        assertEquals(1, (int) lazy.get());
+        assertEquals(1, evaluations.get());
+    }
+
+    @Test
+    void map_evaluatedValue_mapsEagerly() {
+        assertEquals("42", Lazy.of(42).map(String::valueOf).get());
+    }
+
+    @Test
+    void get_concurrentCallers_evaluatedOnce() throws Exception {
+        final AtomicInteger evaluations = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch(1);
+        final Lazy<Object> lazy = Lazy.of(() -> {
+            evaluations.incrementAndGet();
+            return new Object();
+        });
+
+        final ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            final List<Future<Object>> results = new ArrayList<>();
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return lazy.get();
+                }));
+            }
+            start.countDown();
+            final Object first = results.get(0).get(10, TimeUnit.SECONDS);
+            for (Future<Object> result : results) {
+                assertSame(first, result.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, evaluations.get());
+    }
+}
@@ -0,0 +1,77 @@
+package wingman.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import wingman.model.OperationMode;
+
+public class CommandMetricsTest {
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    void histogram_bucketBounds_containTheValue() {
+        for (long value : new long[] {0, 1, 15, 16, 17, 100, 1_000, 123_456_789, Long.MAX_VALUE}) {
+            final int bucket = CommandMetrics.Histogram.bucketOf(value);
+            assertTrue(CommandMetrics.Histogram.upperBoundOf(bucket) >= value);
+            if (bucket > 0) {
+                assertTrue(CommandMetrics.Histogram.upperBoundOf(bucket - 1) < value);
+            }
+        }
+    }
+
+    @Test
+    void toReport_percentiles_withinAnEighth() {
+        final CommandMetrics metrics = new CommandMetrics();
+        for (int i = 1; i <= 100; i++) {
+            metrics.record(OperationMode.FLIGHT, "linkflight", CommandMetrics.Phase.EXECUTE, i * 10_000L);
+        }
+
+        // the exact p50 and p90 are 500 us and 900 us, and the upper bounds
+        // of their buckets are less than an eighth above
+        assertEquals("flight linkflight (100 command(s))\n"
+                + "  execute: p50 524.3 us, p90 917.5 us, p99 1.0 ms, max 1.0 ms, total 50.5 ms (100)",
+                metrics.toReport());
+    }
+
+    @Test
+    void startTimer_lapsRecordedUnderCommandWord() {
+        final CommandMetrics metrics = new CommandMetrics();
+
+        final CommandMetrics.Timer timer = metrics.startTimer(OperationMode.CREW, "  delete 1 ");
+        timer.lap(CommandMetrics.Phase.PARSE);
+        timer.lap(CommandMetrics.Phase.EXECUTE);
+
+        assertEquals(1, metrics.getCount(OperationMode.CREW, "delete", CommandMetrics.Phase.PARSE));
+        assertEquals(1, metrics.getCount(OperationMode.CREW, "delete", CommandMetrics.Phase.EXECUTE));
+        assertEquals(0, metrics.getCount(OperationMode.CREW, "delete", CommandMetrics.Phase.SAVE));
+        assertEquals(0, metrics.getCount(OperationMode.PILOT, "delete", CommandMetrics.Phase.PARSE));
+    }
+
+    @Test
+    void isEmpty_afterRecord_false() {
+        final CommandMetrics metrics = new CommandMetrics();
+        assertTrue(metrics.isEmpty());
+
+        metrics.recordWrite("PILOT", 1_000L);
+
+        assertFalse(metrics.isEmpty());
+    }
+
+    @Test
+    void writeTo_noCommands_writesPlaceholder() throws IOException {
+        final Path file = temporaryFolder.resolve("metrics.txt");
+
+        new CommandMetrics().writeTo(file);
+
+        assertEquals("No commands have been timed yet.", Files.readString(file).trim());
+    }
+}
@@ -0,0 +1,173 @@
+package wingman.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import wingman.commons.exceptions.DataConversionException;
+import wingman.commons.util.GetUtil;
+import wingman.logic.core.CommandResult;
+import wingman.logic.core.exceptions.CommandException;
+import wingman.logic.core.exceptions.ParseException;
+import wingman.logic.toplevel.batch.BatchCommandFactory;
+import wingman.logic.toplevel.stats.StatsCommandFactory;
+import wingman.model.ModelManager;
+import wingman.model.OperationMode;
+import wingman.model.pilot.Gender;
+import wingman.model.pilot.Pilot;
+import wingman.model.pilot.PilotRank;
+import wingman.storage.JsonUserPrefsStorage;
+import wingman.storage.PersistenceExecutor;
+import wingman.storage.StorageManager;
+import wingman.storage.json.storage.JsonCrewManagerStorage;
+import wingman.storage.json.storage.JsonFlightManagerStorage;
+import wingman.storage.json.storage.JsonLocationManagerStorage;
+import wingman.storage.json.storage.JsonPilotManagerStorage;
+import wingman.storage.json.storage.JsonPlaneManagerStorage;
+
+public class LogicManagerTest {
+    private static final String ADD_AMY = "add /n Amy /r 1 /a 30 /g 1 /fh 1200";
+    private static final String ADD_BOB = "add /n Bob /r 0 /a 41 /g 0 /fh 9000";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private ModelManager model;
+    private StorageManager storage;
+    private LogicManager logic;
+
+    @BeforeEach
+    void setUp() {
+        model = new ModelManager();
+        model.setOperationMode(OperationMode.PILOT);
+        storage = new StorageManager(
+                new JsonUserPrefsStorage(temporaryFolder.resolve("preferences.json")),
+                new JsonPilotManagerStorage(temporaryFolder.resolve("pilot.json")),
+                new JsonLocationManagerStorage(temporaryFolder.resolve("location.json")),
+                new JsonCrewManagerStorage(temporaryFolder.resolve("crew.json")),
+                new JsonPlaneManagerStorage(temporaryFolder.resolve("plane.json")),
+                new JsonFlightManagerStorage(temporaryFolder.resolve("flight.json"))
+        );
+        logic = new LogicManager(model, storage);
+        GetUtil.putForce(Logic.class, logic);
+    }
+
+    @Test
+    void executeBatch_validCommands_executesAllAndSavesOnce()
+            throws CommandException, ParseException, IOException, DataConversionException {
+        final List<CommandResult> results = logic.executeBatch(List.of(ADD_AMY, ADD_BOB));
+        logic.flushSaves();
+
+        assertEquals(2, results.size());
+        assertEquals(2, model.getPilotList().size());
+        assertEquals(2, storage.readPilotManager().orElseThrow().size());
+    }
+
+    @Test
+    void executeBatch_failingCommand_rollsBackEarlierCommands() {
+        final Pilot pilot = new Pilot("Carl", 50, Gender.MALE, PilotRank.CAPTAIN, 20000);
+        model.addPilot(pilot);
+        model.markAllClean();
+
+        assertThrows(CommandException.class, () -> logic.executeBatch(
+                List.of(ADD_AMY, "delete 1", "mode crew", "delete 9")));
+
+        assertEquals(OperationMode.PILOT, model.getOperationMode());
+        assertEquals(1, model.getPilotList().size());
+        assertEquals(pilot.getId(), model.getPilotList().get(0).getId());
+    }
+
+    @Test
+    void executeBatch_invalidCommand_throwsParseException() {
+        assertThrows(ParseException.class, () -> logic.executeBatch(
+                List.of(ADD_AMY, "unknown")));
+        assertTrue(model.getPilotList().isEmpty());
+    }
+
+    @Test
+    void execute_batchFile_runsEveryCommandInFile() throws CommandException, ParseException, IOException {
+        final Path file = temporaryFolder.resolve("roster.txt");
+        Files.writeString(file, "# pilots\n" + ADD_AMY + "\n\n" + ADD_BOB + "\n");
+        model.markAllClean();
+
+        logic.execute(BatchCommandFactory.COMMAND_WORD + " " + file);
+
+        assertEquals(2, model.getPilotList().size());
+        assertEquals(1, logic.getLastSavedFileCount());
+    }
+
+    @Test
+    void execute_batchFileRunningBatch_rollsBackAndThrowsCommandException() throws IOException {
+        final Path file = temporaryFolder.resolve("roster.txt");
+        Files.writeString(file, ADD_AMY + "\n" + BatchCommandFactory.COMMAND_WORD + " " + file + "\n");
+
+        assertThrows(CommandException.class, () -> logic.execute(BatchCommandFactory.COMMAND_WORD + " " + file));
+
+        assertTrue(model.getPilotList().isEmpty());
+    }
+
+    @Test
+    void execute_batchWithoutFile_throwsParseException() {
+        assertThrows(ParseException.class, () -> logic.execute(BatchCommandFactory.COMMAND_WORD));
+    }
+
+    @Test
+    void execute_earlierSaveFailed_succeedsWithWarning() throws CommandException, ParseException, IOException {
+        // the pilots cannot be written to a directory
+        final StorageManager failingStorage = new StorageManager(
+                new JsonUserPrefsStorage(temporaryFolder.resolve("preferences.json")),
+                new JsonPilotManagerStorage(temporaryFolder),
+                new JsonLocationManagerStorage(temporaryFolder.resolve("location.json")),
+                new JsonCrewManagerStorage(temporaryFolder.resolve("crew.json")),
+                new JsonPlaneManagerStorage(temporaryFolder.resolve("plane.json")),
+                new JsonFlightManagerStorage(temporaryFolder.resolve("flight.json"))
+        );
+        final PersistenceExecutor executor = new PersistenceExecutor();
+        logic = new LogicManager(model, failingStorage, executor);
+        logic.execute(ADD_AMY);
+        executor.awaitWrites();
+
+        final CommandResult result = logic.execute(ADD_BOB);
+
+        assertEquals(2, model.getPilotList().size());
+        assertTrue(result.getFeedbackToUser().contains("an earlier save failed"));
+        assertEquals(6, logic.getLastSavedFileCount());
+    }
+
+    @Test
+    void execute_command_timesEveryPhase() throws CommandException, ParseException, IOException {
+        logic.execute(ADD_AMY);
+        logic.flushSaves();
+
+        final CommandMetrics metrics = logic.getCommandMetrics();
+        for (CommandMetrics.Phase phase : CommandMetrics.Phase.values()) {
+            assertEquals(1, metrics.getCount(OperationMode.PILOT, "add", phase));
+        }
+        assertEquals(1, metrics.getWriteCount(OperationMode.PILOT.name()));
+    }
+
+    @Test
+    void execute_stats_showsTimedCommands() throws CommandException, ParseException {
+        logic.execute(ADD_AMY);
+
+        final String report = logic.execute(StatsCommandFactory.COMMAND_WORD).getFeedbackToUser();
+        assertTrue(report.contains("pilot add (1 command(s))"));
+        assertTrue(report.contains("execute: p50"));
+    }
+
+    @Test
+    void execute_statsWithArguments_throwsParseException() {
+        final ParseException e = assertThrows(ParseException.class, () ->
+                logic.execute(StatsCommandFactory.COMMAND_WORD + " add"));
+        assertTrue(e.getMessage().contains("does not take any arguments"));
+    }
+}
@@ -3,6 +3,8 @@ package wingman.logic.core;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -89,4 +91,13 @@ public class WingmanParserTest extends LogicCoreParserTestBase {
         assertNotEquals(group1Command, result);
         assertNotEquals(group2Command, result);
     }
+
+    @Test
+    void tokenize_variousWhitespace_sameAsSplitOnWhitespace() {
+        for (String input : List.of("", " ", "add", "  add  /n  Amy\tLee\n",
+            "\r\nmode flight", "add /n Amy\u00A0Lee")) {
+            assertEquals(Arrays.asList(input.split("\\s+")),
+                new ArrayList<>(WingmanParser.tokenize(input)));
+        }
+    }
 }
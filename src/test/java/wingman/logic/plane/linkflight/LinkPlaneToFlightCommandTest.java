@@ -1,14 +1,18 @@
 package wingman.logic.plane.linkflight;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
 import wingman.logic.core.exceptions.CommandException;
 import wingman.model.Model;
+import wingman.model.ModelEvent;
 import wingman.model.ModelManager;
 import wingman.model.flight.Flight;
 import wingman.model.plane.FlightPlaneType;
@@ -56,4 +60,22 @@ public class LinkPlaneToFlightCommandTest {
         // making a link after an initial link exists
         assertDoesNotThrow(() -> linkCommand2.execute(model));
     }
+
+    @Test
+    public void execute_listener_seesChangedItems() throws CommandException {
+        model.addFlight(flight);
+        model.addPlane(plane1);
+        final List<String> seen = new ArrayList<>();
+        model.addListener((event) -> {
+            if (event.getType() == ModelEvent.Type.LINKED) {
+                seen.add("linked " + flight.planeLink.contains(FlightPlaneType.PLANE_USING, plane1));
+            } else if (event.getType() == ModelEvent.Type.UPDATED) {
+                seen.add("available " + plane1.isAvailable());
+            }
+        });
+
+        linkCommand1.execute(model);
+
+        assertEquals(List.of("available false", "linked true"), seen);
+    }
 }
@@ -0,0 +1,44 @@
+package wingman.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import wingman.model.crew.Crew;
+import wingman.model.crew.CrewRank;
+
+public class ItemManagerTest {
+    private ItemManager<Crew> manager;
+    private Crew amy;
+
+    @BeforeEach
+    void setUp() {
+        manager = new ItemManager<>();
+        amy = new Crew("Amy", CrewRank.TRAINEE);
+        manager.addItem(amy);
+        manager.markClean();
+    }
+
+    @Test
+    void removeItems_unknownIds_shouldKeepVersionAndStayClean() {
+        final long version = manager.getVersion();
+        manager.removeItems(List.of("unknown"));
+        assertEquals(version, manager.getVersion());
+        assertFalse(manager.isDirty());
+        assertEquals(1, manager.size());
+    }
+
+    @Test
+    void removeItems_knownId_shouldBumpVersion() {
+        final long version = manager.getVersion();
+        manager.removeItems(List.of(amy.getId(), "unknown"));
+        assertTrue(manager.getVersion() > version);
+        assertTrue(manager.isDirty());
+        assertEquals(0, manager.size());
+    }
+}
@@ -0,0 +1,155 @@
+package wingman.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import wingman.commons.util.GetUtil;
+import wingman.model.flight.Flight;
+import wingman.model.link.exceptions.LinkException;
+import wingman.model.pilot.FlightPilotType;
+import wingman.model.pilot.Gender;
+import wingman.model.pilot.Pilot;
+import wingman.model.pilot.PilotRank;
+
+/**
+ * Stress tests a single writer linking and unlinking items while several
+ * readers resolve the links, all going through the lock of the model.
+ */
+public class ModelConcurrencyTest {
+    private static final int READER_COUNT = 4;
+
+    private static final int ITERATIONS = 2000;
+
+    private ModelManager model;
+
+    private Flight flight;
+
+    @BeforeEach
+    void setUp() {
+        model = new ModelManager();
+        GetUtil.putForce(Model.class, model);
+        flight = new Flight("SQ 321");
+        model.addFlight(flight);
+    }
+
+    @AfterEach
+    void tearDown() {
+        GetUtil.delete(Model.class);
+    }
+
+    @Test
+    void readers_concurrentLinkAndUnlink_seeConsistentLinks() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(READER_COUNT + 1);
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicBoolean isWriting = new AtomicBoolean(true);
+        try {
+            final List<Future<Integer>> readers = new ArrayList<>();
+            for (int i = 0; i < READER_COUNT; i++) {
+                readers.add(executor.submit(read(start, isWriting)));
+            }
+            final Future<?> writer = executor.submit(() -> {
+                start.await();
+                try {
+                    write();
+                } finally {
+                    isWriting.set(false);
+                }
+                return null;
+            });
+
+            start.countDown();
+            writer.get(30, TimeUnit.SECONDS);
+            for (Future<Integer> reader : readers) {
+                assertTrue(reader.get(30, TimeUnit.SECONDS) > 0);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(flight.getPilotLink().get(FlightPilotType.PILOT_FLYING).isEmpty());
+        assertEquals(0, model.getPilotManager().size());
+    }
+
+    /**
+     * Adds a pilot, links it to the flight and deletes it again, which
+     * unlinks it, over and over, holding the write lock as a command would.
+     */
+    private void write() throws LinkException {
+        final Lock writeLock = model.getLock().writeLock();
+        for (int i = 0; i < ITERATIONS; i++) {
+            final Pilot pilot = new Pilot("Pilot " + i, 30, Gender.FEMALE, PilotRank.CAPTAIN, i);
+            writeLock.lock();
+            try {
+                model.addPilot(pilot);
+                flight.getPilotLink().put(FlightPilotType.PILOT_FLYING, pilot);
+            } finally {
+                writeLock.unlock();
+            }
+            writeLock.lock();
+            try {
+                model.deletePilot(pilot);
+            } finally {
+                writeLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Resolves the link of the flight until the writer is done, checking
+     * that it never refers to a deleted pilot and that it agrees with the
+     * reverse link index.
+     *
+     * @return the number of reads made.
+     */
+    private Callable<Integer> read(CountDownLatch start, AtomicBoolean isWriting) {
+        return () -> {
+            start.await();
+            int reads = 0;
+            do {
+                final String failure = model.read(this::check);
+                if (failure != null) {
+                    throw new AssertionError(failure);
+                }
+                reads++;
+            } while (isWriting.get());
+            return reads;
+        };
+    }
+
+    private String check(Model readModel) {
+        final List<Optional<Pilot>> pilots;
+        try {
+            pilots = flight.getPilotLink().get(FlightPilotType.PILOT_FLYING);
+        } catch (LinkException e) {
+            return e.getMessage();
+        }
+        if (pilots.size() > 1) {
+            return "More pilots than the shape allows: " + pilots.size();
+        }
+        for (Optional<Pilot> pilot : pilots) {
+            if (pilot.isEmpty()) {
+                return "Link to a deleted pilot";
+            }
+            if (!readModel.getLinkingItems(pilot.get().getId(), Flight.class).contains(flight)) {
+                return "Reverse index out of sync for " + pilot.get().getId();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,271 @@
+package wingman.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import wingman.model.crew.Crew;
+import wingman.model.crew.CrewRank;
+import wingman.model.flight.Flight;
+import wingman.model.link.exceptions.LinkException;
+import wingman.model.location.Location;
+import wingman.model.location.exceptions.LocationNotFoundException;
+import wingman.model.pilot.FlightPilotType;
+import wingman.model.pilot.Gender;
+import wingman.model.pilot.Pilot;
+import wingman.model.pilot.PilotRank;
+import wingman.model.plane.FlightPlaneType;
+import wingman.model.plane.Plane;
+
+public class ModelManagerTest {
+    private ModelManager model;
+
+    @BeforeEach
+    void setUp() {
+        model = new ModelManager();
+    }
+
+    @Test
+    void constructor_newModel_shouldBeClean() {
+        assertTrue(model.getDirtyManagers().isEmpty());
+        assertFalse(model.isUserPrefsDirty());
+    }
+
+    @Test
+    void addPilot_validPilot_shouldOnlyMarkPilotManagerDirty() {
+        model.addPilot(new Pilot("Amy", 30, Gender.FEMALE, PilotRank.CAPTAIN, 100));
+        assertEquals(Set.of(OperationMode.PILOT), model.getDirtyManagers());
+        assertFalse(model.isUserPrefsDirty());
+    }
+
+    @Test
+    void markDirty_itemInManager_shouldMarkOwningManagerDirty() {
+        final Crew crew = new Crew("Bob", CrewRank.TRAINEE);
+        model.addCrew(crew);
+        model.markAllClean();
+        model.markDirty(crew);
+        assertEquals(Set.of(OperationMode.CREW), model.getDirtyManagers());
+    }
+
+    @Test
+    void markDirty_itemNotInModel_shouldNotMarkAnyManagerDirty() {
+        model.markDirty(new Crew("Bob", CrewRank.TRAINEE));
+        assertTrue(model.getDirtyManagers().isEmpty());
+    }
+
+    @Test
+    void setOperationMode_anyMode_shouldOnlyMarkUserPrefsDirty() {
+        model.setOperationMode(OperationMode.FLIGHT);
+        assertTrue(model.isUserPrefsDirty());
+        assertTrue(model.getDirtyManagers().isEmpty());
+    }
+
+    @Test
+    void markAllClean_afterModification_shouldClearAllFlags() {
+        model.addCrew(new Crew("Bob", CrewRank.TRAINEE));
+        model.setOperationMode(OperationMode.CREW);
+        model.markAllClean();
+        assertTrue(model.getDirtyManagers().isEmpty());
+        assertFalse(model.isUserPrefsDirty());
+    }
+
+    @Test
+    void getLocationById_filteredOut_shouldThrow() {
+        final Location tokyo = new Location("Tokyo");
+        final Location paris = new Location("Paris");
+        model.addLocation(tokyo);
+        model.addLocation(paris);
+        assertEquals(paris, model.getLocationById(paris.getId()));
+
+        model.updateFilteredLocationList((location) -> location == tokyo);
+        assertEquals(tokyo, model.getLocationById(tokyo.getId()));
+        assertThrows(LocationNotFoundException.class, () ->
+                model.getLocationById(paris.getId()));
+    }
+
+    @Test
+    void getLinkingItems_linkedAfterAdd_shouldReturnLinkingFlights() throws Exception {
+        final Pilot pilot = new Pilot("Amy", 30, Gender.FEMALE, PilotRank.CAPTAIN, 100);
+        final Flight flight = new Flight("SQ1");
+        model.addPilot(pilot);
+        model.addFlight(flight);
+        assertTrue(model.getLinkingItems(pilot.getId(), Flight.class).isEmpty());
+
+        flight.getPilotLink().put(FlightPilotType.PILOT_FLYING, pilot);
+        assertEquals(List.of(flight), model.getLinkingItems(pilot.getId(), Flight.class));
+
+        flight.getPilotLink().delete(FlightPilotType.PILOT_FLYING, pilot);
+        assertTrue(model.getLinkingItems(pilot.getId(), Flight.class).isEmpty());
+    }
+
+    @Test
+    void getLinkingItems_revolvedOut_shouldNotReturnFlight() throws Exception {
+        final Plane first = new Plane("A380", 1);
+        final Plane second = new Plane("A350", 2);
+        final Flight flight = new Flight("SQ1");
+        model.addFlight(flight);
+
+        flight.getPlaneLink().putRevolve(FlightPlaneType.PLANE_USING, first);
+        flight.getPlaneLink().putRevolve(FlightPlaneType.PLANE_USING, second);
+
+        assertTrue(model.getLinkingItems(first.getId(), Flight.class).isEmpty());
+        assertEquals(List.of(flight), model.getLinkingItems(second.getId(), Flight.class));
+    }
+
+    @Test
+    void deletePilot_linkedToFlight_shouldUnlinkAndMarkFlightDirty() throws Exception {
+        final Pilot pilot = new Pilot("Amy", 30, Gender.FEMALE, PilotRank.CAPTAIN, 100);
+        final Flight flight = new Flight("SQ1");
+        model.addPilot(pilot);
+        model.addFlight(flight);
+        flight.getPilotLink().put(FlightPilotType.PILOT_FLYING, pilot);
+        flight.getPilotLink().put(FlightPilotType.PILOT_MONITORING, pilot);
+        model.markAllClean();
+
+        model.deletePilot(pilot);
+
+        assertFalse(flight.getPilotLink().contains(FlightPilotType.PILOT_FLYING, pilot.getId()));
+        assertFalse(flight.getPilotLink().contains(FlightPilotType.PILOT_MONITORING, pilot.getId()));
+        assertEquals(Set.of(OperationMode.PILOT, OperationMode.FLIGHT), model.getDirtyManagers());
+    }
+
+    @Test
+    void deleteFlight_linkedFlight_shouldNoLongerBeIndexed() throws Exception {
+        final Pilot pilot = new Pilot("Amy", 30, Gender.FEMALE, PilotRank.CAPTAIN, 100);
+        final Flight flight = new Flight("SQ1");
+        model.addFlight(flight);
+        flight.getPilotLink().put(FlightPilotType.PILOT_FLYING, pilot);
+
+        model.deleteFlight(flight);
+
+        assertTrue(model.getLinkingItems(pilot.getId(), Flight.class).isEmpty());
+    }
+
+    @Test
+    void startUndoLog_rollback_shouldRestoreItemsLinksAndAvailability() throws Exception {
+        final Pilot amy = new Pilot("Amy", 30, Gender.FEMALE, PilotRank.CAPTAIN, 100);
+        final Pilot bob = new Pilot("Bob", 41, Gender.MALE, PilotRank.CAPTAIN, 200);
+        final Flight flight = new Flight("SQ1");
+        model.setOperationMode(OperationMode.PILOT);
+        model.addPilot(amy);
+        model.addPilot(bob);
+        model.addFlight(flight);
+        flight.getPilotLink().put(FlightPilotType.PILOT_FLYING, amy);
+
+        final UndoLog undoLog = model.startUndoLog();
+        model.recordChange(flight);
+        model.recordChange(bob);
+        flight.getPilotLink().put(FlightPilotType.PILOT_MONITORING, bob);
+        bob.setUnavailable();
+        model.markDirty(flight);
+        model.markDirty(bob);
+        model.deletePilot(amy);
+        model.addPilot(new Pilot("Carl", 50, Gender.MALE, PilotRank.CAPTAIN, 300));
+        model.setOperationMode(OperationMode.CREW);
+        undoLog.rollback();
+
+        assertEquals(List.of(amy, bob), model.getPilotList());
+        assertTrue(flight.getPilotLink().contains(FlightPilotType.PILOT_FLYING, amy.getId()));
+        assertFalse(flight.getPilotLink().contains(FlightPilotType.PILOT_MONITORING, bob.getId()));
+        assertEquals(List.of(flight), model.getLinkingItems(amy.getId(), Flight.class));
+        assertTrue(model.getLinkingItems(bob.getId(), Flight.class).isEmpty());
+        assertTrue(bob.isAvailable());
+        assertEquals(OperationMode.PILOT, model.getOperationMode());
+    }
+
+    @Test
+    void startUndoLog_commit_shouldKeepChangesAndStopRecording() {
+        final Crew crew = new Crew("Bob", CrewRank.TRAINEE);
+
+        final UndoLog undoLog = model.startUndoLog();
+        assertThrows(IllegalStateException.class, model::startUndoLog);
+        model.addCrew(crew);
+        undoLog.commit();
+        undoLog.rollback();
+
+        assertEquals(List.of(crew), model.getCrewList());
+        model.startUndoLog().commit();
+    }
+
+    @Test
+    void addListener_addAndMarkDirty_shouldReportEachItem() {
+        final List<ModelEvent> events = new ArrayList<>();
+        model.addListener(events::add);
+        final Crew crew = new Crew("Bob", CrewRank.TRAINEE);
+
+        model.addCrew(crew);
+        crew.setUnavailable();
+        model.markDirty(crew);
+
+        assertEquals(List.of(
+                new ModelEvent(ModelEvent.Type.ADDED, OperationMode.CREW, crew.getId()),
+                new ModelEvent(ModelEvent.Type.UPDATED, OperationMode.CREW, crew.getId())
+        ), events);
+    }
+
+    @Test
+    void addListener_deleteLinkedPilot_shouldReportRemovedAndLinked() throws Exception {
+        final Pilot pilot = new Pilot("Amy", 30, Gender.FEMALE, PilotRank.CAPTAIN, 100);
+        final Flight flight = new Flight("SQ1");
+        model.addPilot(pilot);
+        model.addFlight(flight);
+        flight.getPilotLink().put(FlightPilotType.PILOT_FLYING, pilot);
+        final List<ModelEvent> events = new ArrayList<>();
+        model.addListener(events::add);
+
+        model.deletePilot(pilot);
+
+        assertEquals(List.of(
+                new ModelEvent(ModelEvent.Type.REMOVED, OperationMode.PILOT, pilot.getId()),
+                new ModelEvent(ModelEvent.Type.LINKED, OperationMode.FLIGHT, flight.getId())
+        ), events);
+    }
+
+    @Test
+    void removeListener_registeredListener_shouldNoLongerBeNotified() {
+        final List<ModelEvent> events = new ArrayList<>();
+        final Consumer<ModelEvent> listener = events::add;
+        model.addListener(listener);
+        model.removeListener(listener);
+
+        model.addCrew(new Crew("Bob", CrewRank.TRAINEE));
+
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    void getItemsList_afterModeSwitch_shouldShowItemsOfNewMode() {
+        model.addPilot(new Pilot("Amy", 30, Gender.FEMALE, PilotRank.CAPTAIN, 100));
+        model.addCrew(new Crew("Bob", CrewRank.TRAINEE));
+        model.addCrew(new Crew("Carl", CrewRank.TRAINEE));
+
+        model.setOperationMode(OperationMode.PILOT);
+        assertEquals(1, model.getItemsList().size());
+        model.setOperationMode(OperationMode.CREW);
+        assertEquals(2, model.getItemsList().size());
+    }
+
+    @Test
+    void link_idOfItemInModel_sharesInstanceOfItem() throws LinkException {
+        final Pilot pilot = new Pilot("Amy", 30, Gender.FEMALE, PilotRank.CAPTAIN, 100);
+        final Flight flight = new Flight("SQ 321");
+        model.addPilot(pilot);
+        model.addFlight(flight);
+
+        // an id read from storage is a separate string
+        flight.getPilotLink().put(FlightPilotType.PILOT_FLYING, new String(pilot.getId()));
+
+        assertSame(pilot.getId(), flight.getPilotLink().getUnmodifiableContents()
+                .get(FlightPilotType.PILOT_FLYING).iterator().next());
+    }
+}
@@ -0,0 +1,163 @@
+package wingman.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import wingman.commons.util.GetUtil;
+import wingman.model.flight.Flight;
+import wingman.model.link.exceptions.LinkException;
+import wingman.model.pilot.FlightPilotType;
+import wingman.model.pilot.Gender;
+import wingman.model.pilot.Pilot;
+import wingman.model.pilot.PilotRank;
+
+public class ModelSnapshotTest {
+    private ModelManager model;
+
+    private Pilot amy;
+
+    private Pilot bob;
+
+    private Flight flight;
+
+    @BeforeEach
+    void setUp() throws LinkException {
+        model = new ModelManager();
+        GetUtil.putForce(Model.class, model);
+        amy = new Pilot("Amy", 30, Gender.FEMALE, PilotRank.CAPTAIN, 1200);
+        bob = new Pilot("Bob", 41, Gender.MALE, PilotRank.SENIOR_FIRST_OFFICER, 9000);
+        flight = new Flight("SQ 321");
+        model.addPilot(amy);
+        model.addPilot(bob);
+        model.addFlight(flight);
+        flight.getPilotLink().put(FlightPilotType.PILOT_FLYING, amy);
+        model.markDirty(flight);
+    }
+
+    @AfterEach
+    void tearDown() {
+        GetUtil.delete(Model.class);
+    }
+
+    @Test
+    void snapshot_unchangedModel_reusesManagers() {
+        final ModelSnapshot first = model.snapshot();
+        final ModelSnapshot second = model.snapshot();
+
+        assertSame(first.getPilotManager(), second.getPilotManager());
+        assertSame(first.getCrewManager(), second.getCrewManager());
+        assertSame(first.getPlaneManager(), second.getPlaneManager());
+        assertSame(first.getLocationManager(), second.getLocationManager());
+        assertSame(first.getFlightManager(), second.getFlightManager());
+    }
+
+    @Test
+    void snapshot_linksResolveWithinSnapshot() throws LinkException {
+        final ModelSnapshot snapshot = model.snapshot();
+        final Flight flightCopy = snapshot.getFlightManager().getItem(flight.getId());
+
+        assertNotSame(flight, flightCopy);
+        assertSame(snapshot.getPilotManager().getItem(amy.getId()),
+                flightCopy.getPilotLink().getValid(FlightPilotType.PILOT_FLYING).get(0));
+    }
+
+    @Test
+    void snapshot_laterChanges_notVisible() throws LinkException {
+        final ModelSnapshot snapshot = model.snapshot();
+
+        amy.setUnavailable();
+        model.markDirty(amy);
+        flight.getPilotLink().put(FlightPilotType.PILOT_MONITORING, bob);
+        model.markDirty(flight);
+        model.deletePilot(bob);
+
+        assertTrue(snapshot.getPilotManager().getItem(amy.getId()).isAvailable());
+        assertTrue(snapshot.getPilotManager().hasItem(bob.getId()));
+        final Flight flightCopy = snapshot.getFlightManager().getItem(flight.getId());
+        assertTrue(flightCopy.getPilotLink().get(FlightPilotType.PILOT_MONITORING).isEmpty());
+
+        final ModelSnapshot later = model.snapshot();
+        assertFalse(later.getPilotManager().getItem(amy.getId()).isAvailable());
+        assertFalse(later.getPilotManager().hasItem(bob.getId()));
+    }
+
+    @Test
+    void snapshot_changedPilot_sharesUnchangedCopies() throws LinkException {
+        final ModelSnapshot first = model.snapshot();
+
+        amy.setUnavailable();
+        model.markDirty(amy);
+        final ModelSnapshot second = model.snapshot();
+
+        assertNotSame(first.getPilotManager(), second.getPilotManager());
+        assertSame(first.getPilotManager().getItem(bob.getId()),
+                second.getPilotManager().getItem(bob.getId()));
+        assertNotSame(first.getPilotManager().getItem(amy.getId()),
+                second.getPilotManager().getItem(amy.getId()));
+        // the flights link to the pilots, so they are copied again
+        assertNotSame(first.getFlightManager(), second.getFlightManager());
+        final List<Pilot> linked = second.getFlightManager().getItem(flight.getId())
+                .getPilotLink().getValid(FlightPilotType.PILOT_FLYING);
+        assertEquals(1, linked.size());
+        assertFalse(linked.get(0).isAvailable());
+    }
+
+    @Test
+    void snapshot_changedFlight_sharesUnchangedFlightCopies() throws LinkException {
+        final Flight other = new Flight("SQ 322");
+        model.addFlight(other);
+        final ModelSnapshot first = model.snapshot();
+
+        flight.getPilotLink().put(FlightPilotType.PILOT_MONITORING, bob);
+        model.markDirty(flight);
+        final ModelSnapshot second = model.snapshot();
+
+        assertNotSame(first.getFlightManager(), second.getFlightManager());
+        assertSame(first.getFlightManager().getItem(other.getId()),
+                second.getFlightManager().getItem(other.getId()));
+        final Flight flightCopy = second.getFlightManager().getItem(flight.getId());
+        assertNotSame(first.getFlightManager().getItem(flight.getId()), flightCopy);
+        assertSame(second.getPilotManager().getItem(bob.getId()),
+                flightCopy.getPilotLink().getValid(FlightPilotType.PILOT_MONITORING).get(0));
+    }
+
+    @Test
+    void snapshot_changedLinkedPilot_olderSnapshotResolvesOldPilot() throws LinkException {
+        final ModelSnapshot first = model.snapshot();
+
+        amy.setUnavailable();
+        model.markDirty(amy);
+        final ModelSnapshot second = model.snapshot();
+
+        final Pilot oldAmy = first.getFlightManager().getItem(flight.getId())
+                .getPilotLink().getValid(FlightPilotType.PILOT_FLYING).get(0);
+        assertSame(first.getPilotManager().getItem(amy.getId()), oldAmy);
+        assertTrue(oldAmy.isAvailable());
+        final Pilot newAmy = second.getFlightManager().getItem(flight.getId())
+                .getPilotLink().getValid(FlightPilotType.PILOT_FLYING).get(0);
+        assertSame(second.getPilotManager().getItem(amy.getId()), newAmy);
+        assertFalse(newAmy.isAvailable());
+    }
+
+    @Test
+    void snapshot_deletedLinkedPilot_olderSnapshotStillResolves() throws LinkException {
+        final ModelSnapshot first = model.snapshot();
+
+        model.deletePilot(amy);
+        model.snapshot();
+
+        final List<Pilot> linked = first.getFlightManager().getItem(flight.getId())
+                .getPilotLink().getValid(FlightPilotType.PILOT_FLYING);
+        assertEquals(1, linked.size());
+        assertSame(first.getPilotManager().getItem(amy.getId()), linked.get(0));
+    }
+}
@@ -6,11 +6,17 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import wingman.model.crew.Crew;
+import wingman.model.crew.CrewRank;
 import wingman.model.item.exceptions.DuplicateItemException;
 import wingman.model.item.exceptions.ItemNotFoundException;
 import wingman.testutil.Assert;
@@ -175,6 +181,99 @@ public class UniqueListTest {
         Assert.assertThrows(ItemNotFoundException.class, () -> this.list.remove(item));
     }
 
+    @Test
+    void remove_thenSetItem_shouldKeepPositions() {
+        for (String id : List.of("a", "b", "c", "d")) {
+            this.list.add(new ItemStub(id));
+        }
+        this.list.remove("b");
+        this.list.setItem(this.list.get("d"), new ItemStub("e"));
+        this.list.add(new ItemStub("f"));
+        this.list.remove("c");
+
+        assertEquals(List.of("a", "e", "f"), ids());
+    }
+
+    @Test
+    void removeAll_someIds_shouldRemoveWithSingleEvent() {
+        for (String id : List.of("a", "b", "c", "d")) {
+            this.list.add(new ItemStub(id));
+        }
+        final int[] events = {0};
+        this.list.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<ItemStub>) change -> events[0]++);
+
+        assertTrue(this.list.removeAll(List.of("d", "b", "x")));
+
+        assertEquals(1, events[0]);
+        assertEquals(List.of("a", "c"), ids());
+        assertFalse(this.list.contains("b"));
+        this.list.remove("c");
+        assertEquals(List.of("a"), ids());
+    }
+
+    @Test
+    void remove_repeatedly_shouldNotRescanLaterItems() {
+        final int size = 10_000;
+        final int[] idLookups = {0};
+        for (int i = 0; i < size; i++) {
+            this.list.add(new ItemStub("item" + i) {
+                @Override
+                public String getId() {
+                    idLookups[0]++;
+                    return super.getId();
+                }
+            });
+        }
+        idLookups[0] = 0;
+
+        for (int i = 0; i < 100; i++) {
+            this.list.remove("item" + i);
+        }
+
+        // recomputing the positions after each removal would look up the
+        // ids of all the items after the removed one
+        assertTrue(idLookups[0] < 1000);
+        assertEquals(size - 100, this.list.size());
+        assertEquals("item100", this.list.get(0).getId());
+        this.list.remove("item5000");
+        this.list.removeAll(List.of("item101", "item9999"));
+        this.list.remove("item102");
+        assertEquals(List.of("item100", "item103"), ids().subList(0, 2));
+        assertEquals("item9998", this.list.get(size - 105).getId());
+    }
+
+    @Test
+    void removeAll_noMatchingIds_shouldReturnFalse() {
+        this.list.add(new ItemStub("a"));
+        assertFalse(this.list.removeAll(List.of("x")));
+        assertEquals(1, this.list.size());
+    }
+
+    @Test
+    void contains_equalItemWithOtherId_shouldUseNaturalKey() {
+        final Crew amy = new Crew("a", "Amy", CrewRank.TRAINEE);
+        final UniqueList<Crew> crews = new UniqueList<>();
+        crews.add(amy);
+
+        assertTrue(crews.contains(new Crew("b", "Amy", CrewRank.TRAINEE)));
+        assertFalse(crews.contains(new Crew("b", "Amy", CrewRank.CREW_MEMBER)));
+        Assert.assertThrows(DuplicateItemException.class, () ->
+                crews.add(new Crew("b", "Amy", CrewRank.TRAINEE)));
+
+        crews.setItem(amy, new Crew("a", "Bob", CrewRank.TRAINEE));
+        assertFalse(crews.contains(new Crew("b", "Amy", CrewRank.TRAINEE)));
+        crews.remove("a");
+        assertFalse(crews.contains(new Crew("b", "Bob", CrewRank.TRAINEE)));
+    }
+
+    private List<String> ids() {
+        return this.list.asUnmodifiableObservableList()
+                .stream()
+                .map(Item::getId)
+                .collect(Collectors.toList());
+    }
+
     @Test
     void setItems_validItems_shouldReplaceItems() {
         ItemStub item = new ItemStub("a");
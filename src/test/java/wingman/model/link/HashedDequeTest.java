@@ -0,0 +1,70 @@
+package wingman.model.link;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class HashedDequeTest {
+    @Test
+    void pushAddPop_sameOrderAsArrayDeque() {
+        final Deque<String> expected = new ArrayDeque<>();
+        final Deque<String> actual = new HashedDeque<>();
+        for (Deque<String> deque : List.of(expected, actual)) {
+            deque.push("a");
+            deque.push("b");
+            deque.add("c");
+            deque.addFirst("d");
+            deque.pop();
+            deque.add("e");
+            deque.remove("a");
+        }
+        assertEquals(new ArrayList<>(expected), new ArrayList<>(actual));
+        assertEquals(expected.peekFirst(), actual.peekFirst());
+        assertEquals(expected.peekLast(), actual.peekLast());
+    }
+
+    @Test
+    void containsAndRemove_tracksElements() {
+        final Deque<String> deque = new HashedDeque<>(List.of("a", "b", "c"));
+        assertTrue(deque.contains("b"));
+        assertTrue(deque.remove("b"));
+        assertFalse(deque.contains("b"));
+        assertFalse(deque.remove("b"));
+        assertEquals(List.of("a", "c"), new ArrayList<>(deque));
+        assertEquals(2, deque.size());
+    }
+
+    @Test
+    void add_duplicate_throws() {
+        final Deque<String> deque = new HashedDeque<>(List.of("a"));
+        assertThrows(IllegalArgumentException.class, () -> deque.add("a"));
+        assertThrows(IllegalArgumentException.class, () -> deque.push("a"));
+        assertEquals(1, deque.size());
+    }
+
+    @Test
+    void copy_keepsFirstOccurrence() {
+        final Deque<String> deque = new HashedDeque<>(List.of("a", "b", "a", "c"));
+        assertEquals(List.of("a", "b", "c"), new ArrayList<>(deque));
+    }
+
+    @Test
+    void iteratorRemove_unlinksElement() {
+        final Deque<String> deque = new HashedDeque<>(List.of("a", "b", "c"));
+        final Iterator<String> iterator = deque.descendingIterator();
+        assertEquals("c", iterator.next());
+        assertEquals("b", iterator.next());
+        iterator.remove();
+        assertEquals(List.of("a", "c"), new ArrayList<>(deque));
+        assertFalse(deque.contains("b"));
+    }
+}
@@ -0,0 +1,149 @@
+package wingman.model.link;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import wingman.commons.fp.Lazy;
+import wingman.model.ItemManager;
+import wingman.model.ReadOnlyItemManager;
+import wingman.model.location.PilotLocationType;
+import wingman.model.pilot.Gender;
+import wingman.model.pilot.Pilot;
+import wingman.model.pilot.PilotRank;
+
+public class LinkIndexTest {
+    private static Pilot newPilot(int index) {
+        return new Pilot("Pilot " + index, 30, Gender.MALE, PilotRank.CAPTAIN, index);
+    }
+
+    /**
+     * Creates links containing the given ids, each as a separate string
+     * with its own characters, as if they had been read from storage.
+     */
+    private static List<Link<PilotLocationType, Pilot, ReadOnlyItemManager<Pilot>>> loadLinks(
+            int count, List<String> ids) {
+        final List<Link<PilotLocationType, Pilot, ReadOnlyItemManager<Pilot>>> links = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            final Deque<String> storedIds = new ArrayDeque<>();
+            for (String id : ids) {
+                storedIds.add(new String(id.toCharArray()));
+            }
+            links.add(Link.fromOrCreate(Pilot.SHAPE_FOR_LOCATION,
+                    Map.of(PilotLocationType.LOCATION_USING, storedIds),
+                    Lazy.of(new ItemManager<>())));
+        }
+        return links;
+    }
+
+    private static String firstId(Link<PilotLocationType, Pilot, ReadOnlyItemManager<Pilot>> link) {
+        return link.getUnmodifiableContents().get(PilotLocationType.LOCATION_USING).iterator().next();
+    }
+
+    /**
+     * Counts the distinct instances of the ids held by the links, which is
+     * what the id strings retained by the links amount to.
+     */
+    private static int countIdInstances(List<Link<PilotLocationType, Pilot, ReadOnlyItemManager<Pilot>>> links) {
+        final Set<String> instances = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Link<PilotLocationType, Pilot, ReadOnlyItemManager<Pilot>> link : links) {
+            instances.addAll(link.getUnmodifiableContents().get(PilotLocationType.LOCATION_USING));
+        }
+        return instances.size();
+    }
+
+    @Test
+    void attach_loadedIds_shareOneInstance() {
+        final String id = UUID.randomUUID().toString();
+        final List<Link<PilotLocationType, Pilot, ReadOnlyItemManager<Pilot>>> links =
+                loadLinks(2, List.of(id));
+        assertNotSame(firstId(links.get(0)), firstId(links.get(1)));
+
+        final LinkIndex index = new LinkIndex();
+        links.get(0).attach(newPilot(0), index);
+        links.get(1).attach(newPilot(1), index);
+
+        assertSame(firstId(links.get(0)), firstId(links.get(1)));
+        assertEquals(id, firstId(links.get(0)));
+    }
+
+    @Test
+    void put_attachedLink_storesSharedInstance() throws Exception {
+        final String id = UUID.randomUUID().toString();
+        final LinkIndex index = new LinkIndex();
+        final Link<PilotLocationType, Pilot, ReadOnlyItemManager<Pilot>> loaded =
+                loadLinks(1, List.of(id)).get(0);
+        loaded.attach(newPilot(0), index);
+        final Link<PilotLocationType, Pilot, ReadOnlyItemManager<Pilot>> link =
+                new Link<>(Pilot.SHAPE_FOR_LOCATION, Lazy.of(new ItemManager<>()));
+        link.attach(newPilot(1), index);
+
+        link.put(PilotLocationType.LOCATION_USING, new String(id));
+
+        assertSame(firstId(loaded), firstId(link));
+    }
+
+    @Test
+    void delete_lastLinkToId_removesIdFromIndex() throws Exception {
+        final LinkIndex index = new LinkIndex();
+        final Link<PilotLocationType, Pilot, ReadOnlyItemManager<Pilot>> link =
+                new Link<>(Pilot.SHAPE_FOR_LOCATION, Lazy.of(new ItemManager<>()));
+        link.attach(newPilot(0), index);
+        final String id = UUID.randomUUID().toString();
+
+        link.put(PilotLocationType.LOCATION_USING, id);
+        assertEquals(1, index.size());
+        link.delete(PilotLocationType.LOCATION_USING, id);
+        assertEquals(0, index.size());
+
+        link.put(PilotLocationType.LOCATION_USING, id);
+        link.detach();
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void attach_idOfKnownItem_sharesInstanceOfItem() {
+        final Pilot pilot = newPilot(0);
+        final List<Link<PilotLocationType, Pilot, ReadOnlyItemManager<Pilot>>> links =
+                loadLinks(2, List.of(pilot.getId()));
+        final LinkIndex index = new LinkIndex((id) -> id.equals(pilot.getId()) ? pilot.getId() : id);
+
+        links.get(0).attach(newPilot(1), index);
+        links.get(1).attach(newPilot(2), index);
+
+        assertSame(pilot.getId(), firstId(links.get(0)));
+        assertSame(pilot.getId(), firstId(links.get(1)));
+    }
+
+    @Test
+    void footprint_attachedLinks_keepOneInstancePerId() {
+        final int linkCount = 100;
+        final List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            ids.add(UUID.randomUUID().toString());
+        }
+        final List<Link<PilotLocationType, Pilot, ReadOnlyItemManager<Pilot>>> links =
+                loadLinks(linkCount, ids);
+        assertEquals(linkCount * ids.size(), countIdInstances(links));
+
+        final LinkIndex index = new LinkIndex();
+        for (int i = 0; i < linkCount; i++) {
+            links.get(i).attach(newPilot(i), index);
+        }
+
+        assertEquals(ids.size(), countIdInstances(links));
+        assertEquals(ids.size(), index.size());
+    }
+}
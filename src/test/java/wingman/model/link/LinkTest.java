@@ -24,6 +24,7 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import wingman.commons.fp.Lazy;
+import wingman.model.ItemManager;
 import wingman.model.ReadOnlyItemManager;
 import wingman.model.item.Item;
 import wingman.model.link.exceptions.LinkDuplicateException;
@@ -255,6 +256,34 @@ public class LinkTest {
         );
     }
 
+    @Test
+    void putRevolve_largeCapacity_shouldBehaveAsSmallCapacity() throws LinkException {
+        final int capacity = Link.HASHED_CAPACITY_THRESHOLD + 1;
+        Link<CategoryStub, ItemStub, ReadOnlyItemManager<ItemStub>> large =
+                new Link<>(Map.of(CategoryStub.CATEGORY_A, capacity), Lazy.of(manager));
+        Link<CategoryStub, ItemStub, ReadOnlyItemManager<ItemStub>> small =
+                new Link<>(Map.of(CategoryStub.CATEGORY_A, 3), Lazy.of(manager));
+        for (int i = 0; i < capacity; i++) {
+            large.put(CategoryStub.CATEGORY_A, "id-" + i);
+        }
+        for (int i = 0; i < 3; i++) {
+            small.put(CategoryStub.CATEGORY_A, "id-" + i);
+        }
+        large.putRevolve(CategoryStub.CATEGORY_A, "new-id");
+        small.putRevolve(CategoryStub.CATEGORY_A, "new-id");
+
+        Deque<String> largeIds = large.getCopiedContents().get(CategoryStub.CATEGORY_A);
+        Deque<String> smallIds = small.getCopiedContents().get(CategoryStub.CATEGORY_A);
+        assertEquals(capacity, largeIds.size());
+        assertEquals("id-" + (capacity - 2), largeIds.getFirst());
+        assertEquals(smallIds.getLast(), largeIds.getLast());
+        assertFalse(large.contains(CategoryStub.CATEGORY_A, "id-" + (capacity - 1)));
+        assertThrows(LinkDuplicateException.class, () -> large.putRevolve(
+                CategoryStub.CATEGORY_A,
+                "new-id"
+        ));
+    }
+
     @Test
     void clear_invalidKeySpecified_throwsLinkException() throws LinkException {
         setUpLinkAsFull();
@@ -334,6 +363,34 @@ public class LinkTest {
                            .isEmpty());
     }
 
+    @Test
+    void getValid_unchanged_shouldNotResolveAgain() throws LinkException {
+        sut.put(CategoryStub.CATEGORY_B, "test-id-1");
+        sut.getValid(CategoryStub.CATEGORY_B);
+        sut.getValid(CategoryStub.CATEGORY_B);
+        Mockito.verify(manager, Mockito.times(1)).getItemOptional("test-id-1");
+
+        sut.put(CategoryStub.CATEGORY_B, "test-id-2");
+        assertEquals(2, sut.getValid(CategoryStub.CATEGORY_B).size());
+        Mockito.verify(manager, Mockito.times(2)).getItemOptional("test-id-1");
+    }
+
+    @Test
+    void getValid_managerChanged_shouldResolveAgain() throws LinkException {
+        ItemManager<ItemStub> itemManager = new ItemManager<>();
+        Link<CategoryStub, ItemStub, ItemManager<ItemStub>> link =
+                new Link<>(shape, Lazy.of(itemManager));
+        link.put(CategoryStub.CATEGORY_A, "test-id-1");
+        assertTrue(link.getValid(CategoryStub.CATEGORY_A).isEmpty());
+
+        ItemStub item = new ItemStub("test-id-1");
+        itemManager.addItem(item);
+        assertEquals(item, link.getValid(CategoryStub.CATEGORY_A).get(0));
+
+        itemManager.removeItem(item);
+        assertTrue(link.getValid(CategoryStub.CATEGORY_A).isEmpty());
+    }
+
     private enum CategoryStub {
         CATEGORY_A,
         CATEGORY_B,
@@ -0,0 +1,71 @@
+package wingman.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PersistenceExecutorTest {
+    private PersistenceExecutor executor;
+
+    private List<String> written;
+
+    @BeforeEach
+    void setUp() {
+        executor = new PersistenceExecutor();
+        written = Collections.synchronizedList(new ArrayList<>());
+    }
+
+    @Test
+    void flush_afterSubmit_shouldHavePerformedWrites() throws IOException {
+        executor.submit("a", () -> written.add("a"));
+        executor.submit("b", () -> written.add("b"));
+        executor.flush();
+        assertEquals(List.of("a", "b"), written);
+    }
+
+    @Test
+    void submit_sameKeyWhileBusy_shouldOnlyPerformLatestWrite()
+            throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        executor.submit("block", () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+        });
+        started.await();
+
+        executor.submit("a", () -> written.add("a1"));
+        executor.submit("a", () -> written.add("a2"));
+        executor.submit("a", () -> written.add("a3"));
+        release.countDown();
+        executor.flush();
+
+        assertEquals(List.of("a3"), written);
+    }
+
+    @Test
+    void flush_failedWrite_shouldThrowOnce() throws IOException {
+        executor.submit("a", () -> {
+            throw new IOException("disk full");
+        });
+        executor.submit("b", () -> written.add("b"));
+
+        assertThrows(IOException.class, executor::flush);
+        assertEquals(List.of("b"), written);
+        assertFalse(executor.takeFailure().isPresent());
+        executor.flush();
+    }
+}
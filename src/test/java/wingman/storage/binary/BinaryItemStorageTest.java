@@ -0,0 +1,162 @@
+package wingman.storage.binary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import wingman.commons.exceptions.DataConversionException;
+import wingman.model.ItemManager;
+import wingman.model.ReadOnlyItemManager;
+import wingman.model.crew.Crew;
+import wingman.model.crew.CrewRank;
+import wingman.model.location.CrewLocationType;
+import wingman.model.location.Location;
+import wingman.storage.StorageConverter;
+import wingman.storage.binary.storage.BinaryCrewManagerStorage;
+import wingman.storage.binary.storage.BinaryLocationManagerStorage;
+import wingman.storage.json.storage.JsonCrewManagerStorage;
+
+public class BinaryItemStorageTest {
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+
+    private ItemManager<Crew> manager;
+
+    @BeforeEach
+    void setUp() {
+        filePath = testFolder.resolve("crewmanager.bin");
+        manager = new ItemManager<>();
+        manager.addItem(new Crew("Amy", CrewRank.SENIOR_CREW_MEMBER));
+        final Crew bob = new Crew("b", "Bob", CrewRank.TRAINEE);
+        bob.setUnavailable();
+        manager.addItem(bob);
+    }
+
+    @Test
+    void toBinaryPath_jsonPath_shouldReplaceExtension() {
+        assertEquals(
+                Path.of("data", "crewmanager.bin"),
+                BinaryItemStorage.toBinaryPath(Path.of("data", "crewmanager.json"))
+        );
+    }
+
+    @Test
+    void save_thenRead_shouldRoundTrip() throws Exception {
+        new BinaryCrewManagerStorage(filePath).save(manager);
+
+        final ReadOnlyItemManager<Crew> read =
+                new BinaryCrewManagerStorage(filePath).read().get();
+        assertEquals(2, read.size());
+        final Crew amy = read.getItem(manager.getItem(0).getId());
+        assertEquals("Amy", amy.getName());
+        assertEquals(CrewRank.SENIOR_CREW_MEMBER, amy.getRank());
+        final Crew bob = read.getItem("b");
+        assertEquals("Bob", bob.getName());
+        assertFalse(bob.isAvailable());
+    }
+
+    @Test
+    void save_thenRead_shouldKeepLinks() throws Exception {
+        final Location location = new Location("Tokyo");
+        location.getCrewLink().put(CrewLocationType.LOCATION_USING, "b");
+        final ItemManager<Location> locations = new ItemManager<>();
+        locations.addItem(location);
+        final Path locationPath = testFolder.resolve("locationmanager.bin");
+        new BinaryLocationManagerStorage(locationPath).save(locations);
+
+        final Location read = new BinaryLocationManagerStorage(locationPath)
+                .read().get().getItem(location.getId());
+        assertEquals(
+                List.of("b"),
+                List.copyOf(read.getCrewLink().getCopiedContents()
+                        .get(CrewLocationType.LOCATION_USING))
+        );
+    }
+
+    @Test
+    void read_missingFile_shouldReturnEmpty() throws Exception {
+        assertFalse(new BinaryCrewManagerStorage(filePath).read().isPresent());
+    }
+
+    @Test
+    void read_wrongItemType_shouldThrowDataConversionException()
+            throws Exception {
+        new BinaryLocationManagerStorage(filePath).save(new ItemManager<>());
+        assertThrows(DataConversionException.class, () ->
+                new BinaryCrewManagerStorage(filePath).read());
+    }
+
+    @Test
+    void read_notBinaryFile_shouldThrowDataConversionException()
+            throws Exception {
+        Files.writeString(filePath, "{\"items\":[]}");
+        assertThrows(DataConversionException.class, () ->
+                new BinaryCrewManagerStorage(filePath).read());
+    }
+
+    @Test
+    void convertIfNewer_fromJson_shouldCopyItems() throws Exception {
+        final JsonCrewManagerStorage jsonStorage = new JsonCrewManagerStorage(
+                testFolder.resolve("crewmanager.json"));
+        jsonStorage.save(manager);
+        final BinaryCrewManagerStorage binaryStorage =
+                new BinaryCrewManagerStorage(filePath);
+
+        StorageConverter.convertIfNewer(jsonStorage, binaryStorage);
+
+        final ReadOnlyItemManager<Crew> read = binaryStorage.read().get();
+        assertEquals(2, read.size());
+        assertTrue(read.hasItem("b"));
+    }
+
+    @Test
+    void convertIfNewer_switchBackAfterEdit_shouldCopyEdits() throws Exception {
+        final Path jsonPath = testFolder.resolve("crewmanager.json");
+        final JsonCrewManagerStorage jsonStorage = new JsonCrewManagerStorage(jsonPath);
+        jsonStorage.save(manager);
+        final BinaryCrewManagerStorage binaryStorage =
+                new BinaryCrewManagerStorage(filePath);
+        StorageConverter.convertIfNewer(jsonStorage, binaryStorage);
+
+        // edited in the binary format, then switched back to JSON
+        manager.addItem(new Crew("c", "Cat", CrewRank.TRAINEE));
+        binaryStorage.save(manager);
+        Files.setLastModifiedTime(filePath, FileTime.fromMillis(
+                Files.getLastModifiedTime(jsonPath).toMillis() + 1000));
+        StorageConverter.convertIfNewer(binaryStorage, jsonStorage);
+
+        final ReadOnlyItemManager<Crew> read = jsonStorage.read().get();
+        assertEquals(3, read.size());
+        assertTrue(read.hasItem("c"));
+    }
+
+    @Test
+    void convertIfNewer_sourceOlder_shouldKeepTarget() throws Exception {
+        final Path jsonPath = testFolder.resolve("crewmanager.json");
+        final JsonCrewManagerStorage jsonStorage = new JsonCrewManagerStorage(jsonPath);
+        jsonStorage.save(manager);
+        final ItemManager<Crew> stale = new ItemManager<>();
+        stale.addItem(new Crew("Amy", CrewRank.SENIOR_CREW_MEMBER));
+        final BinaryCrewManagerStorage binaryStorage =
+                new BinaryCrewManagerStorage(filePath);
+        binaryStorage.save(stale);
+        Files.setLastModifiedTime(filePath, FileTime.fromMillis(
+                Files.getLastModifiedTime(jsonPath).toMillis() - 1000));
+
+        StorageConverter.convertIfNewer(binaryStorage, jsonStorage);
+
+        assertEquals(2, jsonStorage.read().get().size());
+    }
+}
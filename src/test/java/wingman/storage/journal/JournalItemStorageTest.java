@@ -0,0 +1,215 @@
+package wingman.storage.journal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import wingman.commons.exceptions.DataConversionException;
+import wingman.model.ItemManager;
+import wingman.model.ReadOnlyItemManager;
+import wingman.model.crew.Crew;
+import wingman.model.crew.CrewRank;
+import wingman.storage.PendingWrite;
+import wingman.storage.journal.storage.JournalCrewManagerStorage;
+import wingman.storage.json.storage.JsonCrewManagerStorage;
+
+public class JournalItemStorageTest {
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+
+    private ItemManager<Crew> manager;
+
+    private Crew amy;
+
+    private Crew bob;
+
+    @BeforeEach
+    void setUp() {
+        filePath = testFolder.resolve("crewmanager.json");
+        manager = new ItemManager<>();
+        amy = new Crew("Amy", CrewRank.SENIOR_CREW_MEMBER);
+        bob = new Crew("Bob", CrewRank.TRAINEE);
+    }
+
+    private ReadOnlyItemManager<Crew> readFresh()
+            throws DataConversionException, IOException {
+        return new JournalCrewManagerStorage(filePath).read().get();
+    }
+
+    @Test
+    void save_withoutBaseline_shouldWriteSnapshotOnly() throws Exception {
+        manager.addItem(amy);
+        new JournalCrewManagerStorage(filePath).save(manager);
+
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(JournalItemStorage.getJournalPath(filePath)));
+        assertEquals(amy.getId(), readFresh().getItem(0).getId());
+    }
+
+    @Test
+    void save_withBaseline_shouldOnlyAppendToJournal() throws Exception {
+        final JournalCrewManagerStorage storage =
+                new JournalCrewManagerStorage(filePath);
+        manager.addItem(amy);
+        storage.save(manager);
+        manager.markClean();
+        final String snapshot = Files.readString(filePath);
+
+        manager.addItem(bob);
+        manager.removeItem(amy);
+        storage.save(manager);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(2, Files.readAllLines(
+                JournalItemStorage.getJournalPath(filePath)).size());
+        final ReadOnlyItemManager<Crew> read = readFresh();
+        assertEquals(1, read.size());
+        assertTrue(read.hasItem(bob.getId()));
+    }
+
+    @Test
+    void save_journalAboveThreshold_shouldCompactIntoSnapshot()
+            throws Exception {
+        final JournalCrewManagerStorage storage =
+                new JournalCrewManagerStorage(filePath, 1);
+        manager.addItem(amy);
+        storage.save(manager);
+        manager.markClean();
+
+        manager.addItem(bob);
+        storage.save(manager);
+        storage.awaitCompaction();
+
+        assertFalse(Files.exists(JournalItemStorage.getJournalPath(filePath)));
+        final ReadOnlyItemManager<Crew> read = readFresh();
+        assertEquals(2, read.size());
+        assertTrue(read.hasItem(bob.getId()));
+    }
+
+    @Test
+    void prepareSave_coalescedWrites_shouldKeepAllRecords() throws Exception {
+        final JournalCrewManagerStorage storage =
+                new JournalCrewManagerStorage(filePath);
+        storage.save(manager);
+        manager.markClean();
+
+        manager.addItem(amy);
+        final PendingWrite first = storage.prepareSave(manager);
+        manager.markClean();
+        manager.addItem(bob);
+        final PendingWrite second = storage.prepareSave(manager);
+        second.after(first).write();
+
+        assertEquals(2, readFresh().size());
+    }
+
+    @Test
+    void read_tornTrailingRecord_shouldBeIgnored() throws Exception {
+        final JournalCrewManagerStorage storage =
+                new JournalCrewManagerStorage(filePath);
+        manager.addItem(amy);
+        storage.save(manager);
+        manager.markClean();
+        manager.addItem(bob);
+        storage.save(manager);
+
+        Files.write(
+                JournalItemStorage.getJournalPath(filePath),
+                "PUT\tabc\t{\"id\":".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND
+        );
+
+        assertEquals(2, readFresh().size());
+    }
+
+    @Test
+    void compact_journalToJsonToJournal_shouldKeepLatestData()
+            throws Exception {
+        final JournalCrewManagerStorage journal =
+                new JournalCrewManagerStorage(filePath);
+        manager.addItem(amy);
+        journal.save(manager);
+        manager.markClean();
+        manager.addItem(bob);
+        journal.save(manager);
+        final Path journalPath = JournalItemStorage.getJournalPath(filePath);
+        final FileTime journalTime = Files.getLastModifiedTime(journalPath);
+
+        // switching to JSON folds the journal into the JSON file
+        new JournalCrewManagerStorage(filePath).compact();
+        assertFalse(Files.exists(journalPath));
+        assertEquals(journalTime, Files.getLastModifiedTime(filePath));
+        final JsonCrewManagerStorage json = new JsonCrewManagerStorage(filePath);
+        assertEquals(2, json.read().get().size());
+
+        manager.removeItem(amy);
+        json.save(manager);
+
+        // switching back to the journal reads what JSON saved
+        final ReadOnlyItemManager<Crew> read = readFresh();
+        assertEquals(1, read.size());
+        assertTrue(read.hasItem(bob.getId()));
+    }
+
+    @Test
+    void read_journalOlderThanSnapshot_shouldDiscardJournal()
+            throws Exception {
+        final JournalCrewManagerStorage journal =
+                new JournalCrewManagerStorage(filePath);
+        manager.addItem(amy);
+        journal.save(manager);
+        manager.markClean();
+        manager.addItem(bob);
+        journal.save(manager);
+        final Path journalPath = JournalItemStorage.getJournalPath(filePath);
+
+        // the JSON file is saved in another format after the journal
+        manager.removeItem(bob);
+        new JsonCrewManagerStorage(filePath).save(manager);
+        Files.setLastModifiedTime(journalPath, FileTime.fromMillis(
+                Files.getLastModifiedTime(filePath).toMillis() - 1000));
+
+        final JournalCrewManagerStorage reopened =
+                new JournalCrewManagerStorage(filePath);
+        final ReadOnlyItemManager<Crew> read = reopened.read().get();
+        assertEquals(1, read.size());
+        assertTrue(read.hasItem(amy.getId()));
+        assertFalse(Files.exists(journalPath));
+    }
+
+    @Test
+    void compact_staleJournal_shouldKeepSnapshot() throws Exception {
+        final JournalCrewManagerStorage journal =
+                new JournalCrewManagerStorage(filePath);
+        manager.addItem(amy);
+        journal.save(manager);
+        manager.markClean();
+        manager.addItem(bob);
+        journal.save(manager);
+        final Path journalPath = JournalItemStorage.getJournalPath(filePath);
+        manager.removeItem(bob);
+        new JsonCrewManagerStorage(filePath).save(manager);
+        final FileTime snapshotTime = Files.getLastModifiedTime(filePath);
+        Files.setLastModifiedTime(journalPath,
+                FileTime.fromMillis(snapshotTime.toMillis() - 1000));
+
+        new JournalCrewManagerStorage(filePath).compact();
+
+        assertFalse(Files.exists(journalPath));
+        assertEquals(snapshotTime, Files.getLastModifiedTime(filePath));
+        assertEquals(1, new JsonCrewManagerStorage(filePath).read().get().size());
+    }
+}
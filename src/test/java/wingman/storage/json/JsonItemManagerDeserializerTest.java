@@ -0,0 +1,109 @@
+package wingman.storage.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import wingman.commons.exceptions.DataConversionException;
+import wingman.commons.exceptions.IllegalValueException;
+import wingman.commons.util.FileUtil;
+import wingman.commons.util.JsonUtil;
+import wingman.model.ItemManager;
+import wingman.model.crew.Crew;
+import wingman.model.crew.CrewRank;
+import wingman.storage.json.serializable.JsonSerializableCrewManager;
+
+public class JsonItemManagerDeserializerTest {
+    private static final String CREW_JSON =
+            "{\"id\":\"%s\",\"name\":\"%s\",\"rank\":0,\"isAvailable\":true}";
+
+    @TempDir
+    public Path testFolder;
+
+    private JsonSerializableCrewManager readFile(String content)
+            throws Exception {
+        final Path filePath = testFolder.resolve("crewmanager.json");
+        FileUtil.writeToFile(filePath, content);
+        return JsonUtil.readJsonFile(
+                filePath, JsonSerializableCrewManager.class).get();
+    }
+
+    @Test
+    void readJsonFile_validItems_shouldConvertAllItems() throws Exception {
+        final JsonSerializableCrewManager jsonManager = readFile(
+                "{\"items\":["
+                        + String.format(CREW_JSON, "a", "Amy") + ","
+                        + String.format(CREW_JSON, "b", "Bob")
+                        + "],\"unknown\":{\"x\":[1,2]}}");
+        final ItemManager<Crew> manager = jsonManager.toModelType();
+        assertEquals(2, manager.size());
+        assertEquals("Bob", manager.getItem("b").getName());
+    }
+
+    @Test
+    void toModelType_parsedItems_shouldHandOverParsedItemsOnce() throws Exception {
+        final JsonSerializableCrewManager jsonManager = readFile(
+                "{\"items\":[" + String.format(CREW_JSON, "a", "Amy") + "]}");
+        final ItemManager<Crew> first = jsonManager.toModelType();
+        final Crew bob = new Crew("Bob", CrewRank.TRAINEE);
+        first.addItem(bob);
+        // the first result is the parsed manager itself, later ones copy it
+        final ItemManager<Crew> second = jsonManager.toModelType();
+        assertNotSame(first, second);
+        assertSame(bob, second.getItem(bob.getId()));
+    }
+
+    @Test
+    void readJsonFile_duplicateItems_toModelTypeShouldThrow()
+            throws Exception {
+        final JsonSerializableCrewManager jsonManager = readFile(
+                "{\"items\":["
+                        + String.format(CREW_JSON, "a", "Amy") + ","
+                        + String.format(CREW_JSON, "a", "Amy")
+                        + "]}");
+        assertThrows(IllegalValueException.class, jsonManager::toModelType);
+    }
+
+    @Test
+    void readJsonFile_notAnObject_shouldThrowDataConversionException() {
+        assertThrows(DataConversionException.class, () -> readFile("[]"));
+    }
+
+    @Test
+    void saveJsonFile_thenRead_shouldRoundTrip() throws Exception {
+        final ItemManager<Crew> manager = new ItemManager<>();
+        manager.addItem(new Crew("Amy", CrewRank.TRAINEE));
+        final Path filePath = testFolder.resolve("saved.json");
+        JsonUtil.saveJsonFile(JsonSerializableCrewManager.from(manager), filePath);
+
+        final ItemManager<Crew> read = JsonUtil
+                .readJsonFile(filePath, JsonSerializableCrewManager.class)
+                .get()
+                .toModelType();
+        assertEquals(manager.getItem(0).getId(), read.getItem(0).getId());
+    }
+
+    @Test
+    void saveJsonFile_readManager_writesOnlyItems() throws Exception {
+        final ItemManager<Crew> manager = new ItemManager<>();
+        manager.addItem(new Crew("Amy", CrewRank.TRAINEE));
+        final Path filePath = testFolder.resolve("resaved.json");
+        final JsonSerializableCrewManager read = readFile(
+                "{\"items\":[" + String.format(CREW_JSON, "a", "Amy") + "]}");
+        read.toModelType();
+
+        JsonUtil.saveJsonFile(read, filePath);
+        assertEquals(Set.of("items"), JsonUtil.fromJsonString(Files.readString(filePath), Map.class).keySet());
+        JsonUtil.saveJsonFile(JsonSerializableCrewManager.from(manager), filePath);
+        assertEquals(Set.of("items"), JsonUtil.fromJsonString(Files.readString(filePath), Map.class).keySet());
+    }
+}
@@ -0,0 +1,98 @@
+package wingman.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import wingman.commons.util.GetUtil;
+import wingman.model.Model;
+import wingman.model.ModelEvent;
+import wingman.model.ModelManager;
+import wingman.model.OperationMode;
+import wingman.model.flight.Flight;
+import wingman.model.link.exceptions.LinkException;
+import wingman.model.pilot.FlightPilotType;
+import wingman.model.pilot.Gender;
+import wingman.model.pilot.Pilot;
+import wingman.model.pilot.PilotRank;
+
+public class DisplayCacheTest {
+    private DisplayCache cache;
+
+    private Pilot amy;
+
+    private Pilot bob;
+
+    private Flight flight;
+
+    @BeforeEach
+    void setUp() throws LinkException {
+        final ModelManager model = new ModelManager();
+        GetUtil.putForce(Model.class, model);
+        amy = new Pilot("Amy", 30, Gender.FEMALE, PilotRank.CAPTAIN, 1200);
+        bob = new Pilot("Bob", 41, Gender.MALE, PilotRank.SENIOR_FIRST_OFFICER, 9000);
+        flight = new Flight("SQ 321");
+        model.addPilot(amy);
+        model.addPilot(bob);
+        model.addFlight(flight);
+        flight.getPilotLink().put(FlightPilotType.PILOT_FLYING, amy);
+        cache = new DisplayCache();
+    }
+
+    @AfterEach
+    void tearDown() {
+        GetUtil.delete(Model.class);
+    }
+
+    @Test
+    void getDisplayList_cached_returnsSameLines() {
+        final List<String> lines = cache.getDisplayList(OperationMode.PILOT, amy);
+
+        assertEquals(amy.getDisplayList(), lines);
+        assertSame(lines, cache.getDisplayList(OperationMode.PILOT, amy));
+    }
+
+    @Test
+    void getDisplayList_replacedItem_formatsAgain() {
+        final List<String> lines = cache.getDisplayList(OperationMode.PILOT, amy);
+        final Pilot replacement = new Pilot(amy.getId(), "Amelia", 30, Gender.FEMALE,
+                PilotRank.CAPTAIN, 1200);
+
+        final List<String> replacedLines = cache.getDisplayList(OperationMode.PILOT, replacement);
+        assertNotSame(lines, replacedLines);
+        assertEquals(replacement.getDisplayList(), replacedLines);
+    }
+
+    @Test
+    void invalidate_linkedFlight_dropsOnlyTheFlight() throws LinkException {
+        final List<String> pilotLines = cache.getDisplayList(OperationMode.PILOT, amy);
+        cache.getDisplayList(OperationMode.FLIGHT, flight);
+
+        flight.getPilotLink().put(FlightPilotType.PILOT_MONITORING, bob);
+        cache.invalidate(new ModelEvent(ModelEvent.Type.LINKED, OperationMode.FLIGHT, flight.getId()));
+
+        assertSame(pilotLines, cache.getDisplayList(OperationMode.PILOT, amy));
+        assertTrue(cache.getDisplayList(OperationMode.FLIGHT, flight).stream()
+                .anyMatch(line -> line.contains("Bob")));
+    }
+
+    @Test
+    void invalidate_updatedPilot_dropsTheLinkingItems() {
+        final List<String> bobLines = cache.getDisplayList(OperationMode.PILOT, bob);
+        final List<String> flightLines = cache.getDisplayList(OperationMode.FLIGHT, flight);
+        assertEquals(2, cache.size());
+
+        cache.invalidate(new ModelEvent(ModelEvent.Type.UPDATED, OperationMode.PILOT, amy.getId()));
+
+        assertEquals(1, cache.size());
+        assertSame(bobLines, cache.getDisplayList(OperationMode.PILOT, bob));
+        assertNotSame(flightLines, cache.getDisplayList(OperationMode.FLIGHT, flight));
+    }
+}
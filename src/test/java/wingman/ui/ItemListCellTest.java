@@ -0,0 +1,111 @@
+package wingman.ui;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+import wingman.commons.util.GetUtil;
+import wingman.model.Model;
+import wingman.model.ModelEvent;
+import wingman.model.ModelManager;
+import wingman.model.OperationMode;
+import wingman.model.flight.Flight;
+import wingman.model.link.exceptions.LinkException;
+import wingman.model.pilot.FlightPilotType;
+import wingman.model.pilot.Gender;
+import wingman.model.pilot.Pilot;
+import wingman.model.pilot.PilotRank;
+
+public class ItemListCellTest {
+    private ModelManager model;
+
+    private Pilot bob;
+
+    private Flight flight;
+
+    /**
+     * Starts the JavaFX toolkit, which the cells need, skipping the tests
+     * where it cannot be started, e.g. without a display.
+     */
+    @BeforeAll
+    static void startToolkit() {
+        try {
+            Platform.startup(() -> {
+            });
+        } catch (IllegalStateException e) {
+            // already started by another test
+        } catch (RuntimeException | LinkageError e) {
+            assumeTrue(false, "The JavaFX toolkit cannot be started: " + e);
+        }
+    }
+
+    private static <T> T onFxThread(Callable<T> action) throws Exception {
+        final FutureTask<T> task = new FutureTask<>(action);
+        Platform.runLater(task);
+        return task.get(10, TimeUnit.SECONDS);
+    }
+
+    private static boolean showsLineContaining(Node card, String text) {
+        final VBox lines = (VBox) ((HBox) card).getChildren().get(1);
+        return lines.getChildren().stream()
+                .anyMatch(line -> ((Label) line).getText().contains(text));
+    }
+
+    @BeforeEach
+    void setUp() throws LinkException {
+        model = new ModelManager();
+        GetUtil.putForce(Model.class, model);
+        final Pilot amy = new Pilot("Amy", 30, Gender.FEMALE, PilotRank.CAPTAIN, 1200);
+        bob = new Pilot("Bob", 41, Gender.MALE, PilotRank.SENIOR_FIRST_OFFICER, 9000);
+        flight = new Flight("SQ 321");
+        model.addPilot(amy);
+        model.addPilot(bob);
+        model.addFlight(flight);
+        flight.getPilotLink().put(FlightPilotType.PILOT_FLYING, amy);
+    }
+
+    @AfterEach
+    void tearDown() {
+        GetUtil.delete(Model.class);
+    }
+
+    @Test
+    void notifyCells_invalidatedItem_redrawsOnSameCellAndCard() throws Exception {
+        final DisplayCache cache = new DisplayCache();
+        final FlightListCell cell = onFxThread(() -> {
+            final FlightListCell newCell = new FlightListCell(cache);
+            newCell.updateListView(new ListView<>(model.getFlightList()));
+            newCell.updateIndex(0);
+            return newCell;
+        });
+        final Node card = cell.getGraphic();
+        assertTrue(cache.isCached(OperationMode.FLIGHT, flight));
+
+        flight.getPilotLink().put(FlightPilotType.PILOT_MONITORING, bob);
+        onFxThread(() -> {
+            cache.invalidate(new ModelEvent(ModelEvent.Type.LINKED, OperationMode.FLIGHT, flight.getId()));
+            cache.notifyCells();
+            return null;
+        });
+
+        assertSame(flight, cell.getItem());
+        assertSame(card, cell.getGraphic());
+        assertTrue(cache.isCached(OperationMode.FLIGHT, flight));
+        assertTrue(showsLineContaining(card, "Bob"));
+    }
+}